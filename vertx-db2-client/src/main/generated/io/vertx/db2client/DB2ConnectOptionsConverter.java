@@ -20,6 +20,19 @@ public class DB2ConnectOptionsConverter {
           }
           break;
         case "pipeliningLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setPipeliningLimit(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "queryBlockSize":
+          if (member.getValue() instanceof Number) {
+            obj.setQueryBlockSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxExtraBlocks":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxExtraBlocks(((Number)member.getValue()).intValue());
+          }
           break;
       }
     }
@@ -32,5 +45,7 @@ public class DB2ConnectOptionsConverter {
    static void toJson(DB2ConnectOptions obj, java.util.Map<String, Object> json) {
     json.put("ssl", obj.isSsl());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("queryBlockSize", obj.getQueryBlockSize());
+    json.put("maxExtraBlocks", obj.getMaxExtraBlocks());
   }
 }
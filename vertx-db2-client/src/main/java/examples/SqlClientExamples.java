@@ -21,10 +21,12 @@ import io.vertx.db2client.DB2Builder;
 import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.docgen.Source;
 import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.spi.LoadBalancer;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Source
 @SuppressWarnings("unused")
@@ -363,6 +365,42 @@ public class SqlClientExamples {
       .build();
   }
 
+  public void poolLoadBalancing(Vertx vertx, DB2ConnectOptions server1, DB2ConnectOptions server2, DB2ConnectOptions server3, PoolOptions options) {
+    Pool pool = DB2Builder.pool()
+      .with(options)
+      .connectingTo(Arrays.asList(server1, server2, server3), LoadBalancer.leastOutstandingRequests())
+      .using(vertx)
+      .build();
+  }
+
+  public void poolReadReplicas(Vertx vertx, DB2ConnectOptions primary, DB2ConnectOptions replica1, DB2ConnectOptions replica2) {
+    Pool pool = DB2Builder.pool()
+      .with(new PoolOptions().setReadYourWritesWindow(1000))
+      .connectingTo(primary)
+      .connectingToReplicas(Arrays.asList(replica1, replica2))
+      .using(vertx)
+      .build();
+  }
+
+  public void poolReadOnly(Pool pool) {
+    pool
+      .withOptions(new RequestOptions().setReadOnly(true))
+      .query("SELECT * FROM users")
+      .execute()
+      .onSuccess(rows -> {
+        // Rows read from a replica
+      });
+  }
+
+  public void poolHedging(Vertx vertx, DB2ConnectOptions primary, DB2ConnectOptions replica1, DB2ConnectOptions replica2) {
+    Pool pool = DB2Builder.pool()
+      .with(new PoolOptions().setHedgingPercentile(95))
+      .connectingTo(primary)
+      .connectingToReplicas(Arrays.asList(replica1, replica2))
+      .using(vertx)
+      .build();
+  }
+
   public void poolConfig02(ClientBuilder<?> builder, String sql) {
     builder.withConnectHandler(conn -> {
       conn.query(sql).execute().onSuccess(res -> {
@@ -372,6 +410,71 @@ public class SqlClientExamples {
     });
   }
 
+  public void poolWarmUp(ClientBuilder<?> builder, String sql) {
+    builder.with(new PoolOptions()
+      .setMaxSize(16)
+      // Maintain at least 4 connections, opened when the pool is created
+      .setMinIdle(4)
+      .setWarmUp(true)
+      // Prepare a statement on each new connection
+      .addWarmUpStatement(sql));
+  }
+
+  public void poolDeadline(Pool pool) {
+    // Requests still waiting for a connection after 500 ms are not executed
+    pool
+      .withOptions(new RequestOptions().setTimeout(500).setTimeoutUnit(TimeUnit.MILLISECONDS))
+      .query("SELECT * FROM users")
+      .execute()
+      .onComplete(ar -> {
+        if (ar.failed()) {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
+  public void poolLoadShedding(ClientBuilder<?> builder) {
+    builder.with(new PoolOptions()
+      .setMaxSize(16)
+      // Shed requests when the latency exceeds 200 ms
+      .setLoadSheddingLatency(200));
+  }
+  public void poolLanes(ClientBuilder<?> builder) {
+    builder.with(new PoolOptions()
+      .setMaxSize(16)
+      // Checkout requests get 10 connections for each connection given to report requests
+      .addLane("checkout", 10)
+      .addLane("report", 1));
+  }
+
+  public void poolLaneSelection(Pool pool) {
+    pool
+      .withOptions(new RequestOptions().setLane("report"))
+      .withConnection(conn -> conn
+        .query("SELECT * FROM orders")
+        .execute())
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          System.out.println("Got " + ar.result().size() + " rows");
+        }
+      });
+  }
+  public void poolSharded(ClientBuilder<?> builder) {
+    builder.with(new PoolOptions()
+      .setMaxSize(32)
+      // Each event loop owns a share of the 32 connections
+      .setSharded(true));
+  }
+  public void poolStatementAffinity(ClientBuilder<?> builder) {
+    builder.with(new PoolOptions()
+      .setMaxSize(16)
+      // Prefer the connections which have prepared the statement
+      .setStatementAffinity(true));
+  }
+
+
+
+
   public void poolSharing1(Vertx vertx, DB2ConnectOptions database, int maxSize) {
     Pool pool = DB2Builder.pool()
       .with(new PoolOptions().setMaxSize(maxSize))
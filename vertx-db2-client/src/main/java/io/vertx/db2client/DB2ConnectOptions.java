@@ -67,7 +67,11 @@ public class DB2ConnectOptions extends SqlConnectOptions {
   public static final int DEFAULT_PORT = 50000;
   public static final String DEFAULT_CHARSET = "utf8";
   public static final boolean DEFAULT_USE_AFFECTED_ROWS = false;
-  public static final int DEFAULT_PIPELINING_LIMIT = 1; // 256; // TODO default to 256 once implemented properly
+  public static final int DEFAULT_PIPELINING_LIMIT = 256;
+  public static final int DEFAULT_QUERY_BLOCK_SIZE = 32767;
+  public static final int DEFAULT_MAX_EXTRA_BLOCKS = 0;
+  // The decoder buffers a reply up to the DSS chain length limit
+  private static final int MAX_REPLY_LENGTH = 0xFFFFFF;
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
   public static final boolean DEFAULT_SSL = false;
 
@@ -79,6 +83,8 @@ public class DB2ConnectOptions extends SqlConnectOptions {
 
   private boolean ssl = DEFAULT_SSL;
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+  private int queryBlockSize = DEFAULT_QUERY_BLOCK_SIZE;
+  private int maxExtraBlocks = DEFAULT_MAX_EXTRA_BLOCKS;
 
   public DB2ConnectOptions() {
     super();
@@ -94,6 +100,8 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     if (other instanceof DB2ConnectOptions) {
       DB2ConnectOptions opts = (DB2ConnectOptions) other;
       this.pipeliningLimit = opts.pipeliningLimit;
+      this.queryBlockSize = opts.queryBlockSize;
+      this.maxExtraBlocks = opts.maxExtraBlocks;
       this.ssl = opts.ssl;
     }
   }
@@ -101,6 +109,8 @@ public class DB2ConnectOptions extends SqlConnectOptions {
   public DB2ConnectOptions(DB2ConnectOptions other) {
     super(other);
     this.pipeliningLimit = other.pipeliningLimit;
+    this.queryBlockSize = other.queryBlockSize;
+    this.maxExtraBlocks = other.maxExtraBlocks;
     this.ssl = other.ssl;
   }
 
@@ -184,27 +194,92 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * Get the pipelining limit count.
+   *
+   * @return the pipelining count
+   */
   public int getPipeliningLimit() {
     return pipeliningLimit;
   }
 
   /**
-   * @deprecated UNSTABLE FEATURE: Current default value is 1, anything higher
-   *             than 1 will result in errors currently.
-   * @param pipeliningLimit the number of commands that can simultaneously use the
-   *                        same physical socket connection.
-   * @return A reference to this, so the API can be used fluently
+   * Set the pipelining limit count, i.e the number of commands that can simultaneously use the same physical
+   * socket connection. Each command is sent as its own DRDA request chain and the replies are matched to the
+   * commands in the order they were sent.
+   *
+   * @param pipeliningLimit the count to configure
+   * @return a reference to this, so the API can be used fluently
    */
-  @GenIgnore
-  @Deprecated // TODO: Get pipelining working properly, or remove this as API
   public DB2ConnectOptions setPipeliningLimit(int pipeliningLimit) {
     if (pipeliningLimit < 1) {
-      throw new IllegalArgumentException();
+      throw new IllegalArgumentException("pipelining limit can not be less than 1");
     }
     this.pipeliningLimit = pipeliningLimit;
     return this;
   }
 
+  /**
+   * Get the size of the query blocks returned by the server.
+   *
+   * @return the query block size in bytes
+   */
+  public int getQueryBlockSize() {
+    return queryBlockSize;
+  }
+
+  /**
+   * Set the size of the query blocks the server uses to return the rows of a query, between 512 bytes and 10 MB.
+   * Larger blocks reduce the number of round-trips needed to read a large result set. The query blocks of a reply,
+   * see {@link #setMaxExtraBlocks(int)}, must fit in a reply of at most 16 MB, one block being reserved for the
+   * rest of the reply.
+   *
+   * @param queryBlockSize the query block size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DB2ConnectOptions setQueryBlockSize(int queryBlockSize) {
+    if (queryBlockSize < 512 || queryBlockSize > 10 * 1024 * 1024) {
+      throw new IllegalArgumentException("query block size must be between 512 and 10485760");
+    }
+    checkReplyLength(queryBlockSize, maxExtraBlocks);
+    this.queryBlockSize = queryBlockSize;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of extra query blocks the server can return when a query is opened.
+   *
+   * @return the maximum number of extra blocks
+   */
+  public int getMaxExtraBlocks() {
+    return maxExtraBlocks;
+  }
+
+  /**
+   * Set the maximum number of extra query blocks the server can return with the reply to an open query, in addition
+   * to the first block. The server sends the following blocks without waiting for the client to continue the query.
+   * The reply is buffered before it is decoded and must not exceed 16 MB, so the number of blocks is bounded by the
+   * {@link #setQueryBlockSize(int) query block size}. The default value {@code 0} only returns a single block.
+   *
+   * @param maxExtraBlocks the maximum number of extra blocks
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DB2ConnectOptions setMaxExtraBlocks(int maxExtraBlocks) {
+    if (maxExtraBlocks < 0 || maxExtraBlocks > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("max extra blocks must be between 0 and 32767");
+    }
+    checkReplyLength(queryBlockSize, maxExtraBlocks);
+    this.maxExtraBlocks = maxExtraBlocks;
+    return this;
+  }
+
+  private static void checkReplyLength(int queryBlockSize, int maxExtraBlocks) {
+    if ((long) queryBlockSize * (maxExtraBlocks + 2) > MAX_REPLY_LENGTH) {
+      throw new IllegalArgumentException("query block size (" + queryBlockSize + ") * (max extra blocks (" +
+        maxExtraBlocks + ") + 2) must not exceed " + MAX_REPLY_LENGTH);
+    }
+  }
+
   @Override
   public DB2ConnectOptions setTracingPolicy(TracingPolicy tracingPolicy) {
     return (DB2ConnectOptions) super.setTracingPolicy(tracingPolicy);
@@ -255,13 +330,17 @@ public class DB2ConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit)
       return false;
+    if (queryBlockSize != that.queryBlockSize)
+      return false;
+    if (maxExtraBlocks != that.maxExtraBlocks)
+      return false;
 
     return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(pipeliningLimit);
+    return Objects.hash(pipeliningLimit, queryBlockSize, maxExtraBlocks);
   }
 
   @Override
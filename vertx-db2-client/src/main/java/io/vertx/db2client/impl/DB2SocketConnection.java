@@ -27,6 +27,7 @@ import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.db2client.impl.codec.DB2Codec;
 import io.vertx.db2client.impl.command.InitialHandshakeCommand;
 import io.vertx.db2client.impl.drda.ConnectionMetaData;
+import io.vertx.db2client.spi.DB2ClientMetrics;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.internal.Connection;
 import io.vertx.sqlclient.internal.QueryResultHandler;
@@ -54,6 +55,11 @@ public class DB2SocketConnection extends SocketConnectionBase {
                              ContextInternal context) {
     super(socket, clientMetrics, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
     this.connectOptions = connectOptions;
+    this.connMetadata.queryBlockSize = connectOptions.getQueryBlockSize();
+    this.connMetadata.maxExtraBlocks = connectOptions.getMaxExtraBlocks();
+    if (clientMetrics instanceof DB2ClientMetrics) {
+      this.connMetadata.sectionManager.metrics((DB2ClientMetrics<?, ?, ?>) clientMetrics);
+    }
   }
 
   // TODO RETURN FUTURE ???
@@ -27,6 +27,8 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   public R result;
   final C cmd;
   DB2Encoder encoder;
+  // correlation ID of the last DSS of the request chain sent by this command
+  int correlationId;
 
   CommandCodec(C cmd) {
     this.cmd = cmd;
@@ -61,6 +63,8 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   }
 
   void sendNonSplitPacket(ByteBuf packet) {
-    encoder.chctx.writeAndFlush(packet, encoder.chctx.voidPromise());
+    correlationId = DB2Codec.lastCorrelationId(packet);
+    // The connection flushes once the pending commands of the pipeline have been written
+    encoder.chctx.write(packet, encoder.chctx.voidPromise());
   }
 }
@@ -17,7 +17,9 @@ package io.vertx.db2client.impl.codec;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.CombinedChannelDuplexHandler;
+import io.netty.buffer.ByteBuf;
 import io.vertx.db2client.impl.DB2SocketConnection;
+import io.vertx.db2client.impl.drda.DssConstants;
 import io.vertx.sqlclient.ClosedConnectionException;
 
 import java.util.ArrayDeque;
@@ -41,6 +43,69 @@ public class DB2Codec extends CombinedChannelDuplexHandler<DB2Decoder, DB2Encode
     super.channelInactive(ctx);
   }
 
+  /**
+   * Computes the length of the DSS (Data Stream Structure) starting at {@code index}, including its continuation
+   * segments when the DSS exceeds the maximum segment length.
+   *
+   * @return the length of the DSS or {@code -1} when the DSS is not fully contained in the buffer before {@code limit}
+   */
+  static int dssLength(ByteBuf buffer, int index, int limit) {
+    if (limit - index < 6) {
+      return -1;
+    }
+    int segmentLength = buffer.getUnsignedShort(index);
+    if ((segmentLength & 0x8000) == 0 && segmentLength < 6) {
+      throw new IllegalStateException("DSS header length must be at least 6 bytes but was: " + segmentLength);
+    }
+    int length = 0;
+    while ((segmentLength & 0x8000) == 0x8000) {
+      // A continued segment has the maximum length and is followed by a segment with a two bytes length header
+      length += DssConstants.MAX_DSS_LENGTH;
+      if (limit - (index + length) < 2) {
+        return -1;
+      }
+      segmentLength = buffer.getUnsignedShort(index + length);
+      if ((segmentLength & 0x8000) == 0 && segmentLength <= 2) {
+        throw new IllegalStateException("DSS continuation header length must be greater than 2 bytes but was: " + segmentLength);
+      }
+    }
+    length += segmentLength;
+    return index + length <= limit ? length : -1;
+  }
+
+  /**
+   * @return whether the DSS starting at {@code index} is chained to a following DSS
+   */
+  static boolean isChained(ByteBuf buffer, int index) {
+    return (buffer.getByte(index + 3) & 0x40) == 0x40;
+  }
+
+  /**
+   * @return the request correlation ID of the DSS starting at {@code index}
+   */
+  static int correlationId(ByteBuf buffer, int index) {
+    return buffer.getShort(index + 4);
+  }
+
+  /**
+   * @return the correlation ID of the last DSS of the request chain contained in {@code packet}, or {@code 0} when the
+   * packet is empty
+   */
+  static int lastCorrelationId(ByteBuf packet) {
+    int correlationId = 0;
+    int index = packet.readerIndex();
+    int limit = packet.writerIndex();
+    while (index < limit) {
+      int length = dssLength(packet, index, limit);
+      if (length < 0) {
+        break;
+      }
+      correlationId = correlationId(packet, index);
+      index += length;
+    }
+    return correlationId;
+  }
+
   private void clearInflightCommands(Throwable failure) {
     for (CommandCodec<?, ?> commandCodec : inflight) {
       commandCodec.cmd.fail(failure);
@@ -32,6 +32,7 @@ class DB2Decoder extends ByteToMessageDecoder {
   private static final Logger LOG = LoggerFactory.getLogger(DB2Decoder.class);
 
   private final ArrayDeque<CommandCodec<?, ?>> inflight;
+  private int lastCorrelationId;
 
   DB2Decoder(ArrayDeque<CommandCodec<?, ?>> inflight) {
     this.inflight = inflight;
@@ -39,35 +40,51 @@ class DB2Decoder extends ByteToMessageDecoder {
 
   @Override
   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+    // With pipelining the buffer can contain the replies of several commands, each reply is a chain of DSS
     int payloadLength = computeLength(in);
-    if (payloadLength >= DB2Codec.PACKET_PAYLOAD_LENGTH_LIMIT)
-      throw new UnsupportedOperationException("split package decoding not implemented"); // TODO @AGG
-    if (payloadLength <= 4)
-      throw new IllegalStateException("Illegal payload length: " + payloadLength);
-    if (payloadLength > in.readableBytes()) {
+    if (payloadLength < 0) {
       // wait until we have more bytes to read
-      LOG.debug("Waiting for more bytes to be available. payload=" + payloadLength + " > readable=" + in.readableBytes());
+      if (LOG.isDebugEnabled())
+        LOG.debug("Waiting for more bytes to be available. readable=" + in.readableBytes());
       return;
     }
+    if (payloadLength >= DB2Codec.PACKET_PAYLOAD_LENGTH_LIMIT)
+      // DB2ConnectOptions bounds the query blocks of a reply below the limit
+      throw new UnsupportedOperationException("split package decoding not implemented, reply length " + payloadLength);
+    CommandCodec<?, ?> codec = inflight.peek();
+    if (codec == null) {
+      throw new IllegalStateException("Received a reply without any command in flight");
+    }
+    // Replies carry the correlation IDs of the request chain they answer, a reply to a later command of the
+    // pipeline would carry a correlation ID that the current command never sent
+    if (lastCorrelationId > codec.correlationId) {
+      throw new IllegalStateException("Invalid correlator ID. Got " + lastCorrelationId + " expected at most " +
+          codec.correlationId + " for command " + codec);
+    }
     decodePayload(in.readRetainedSlice(payloadLength), payloadLength);
   }
 
+  /**
+   * Computes the length of the reply chain at the reader index and records the correlation ID of its last DSS.
+   *
+   * @return the length of the chain or {@code -1} when the chain is not fully received
+   */
   private int computeLength(ByteBuf in) {
     final int ridx = in.readerIndex();
-    int index = 0;
-    final int readableBytes = in.readableBytes();
-    boolean dssContinues = true;
-    while (dssContinues && index < readableBytes) {
-      if (readableBytes > index + 3)
-        dssContinues &= (in.getByte(ridx + index + 3) & 0x40) == 0x40;
-      else
-        dssContinues = false;
-      short dssLen = 11; // minimum length of DRDA message
-      if (readableBytes >= index + 2) // julien: is this correct ? thtis checks more space than necessary
-        dssLen = in.getShort(ridx + index);
-      index += dssLen;
+    final int limit = in.writerIndex();
+    int index = ridx;
+    while (true) {
+      int dssLength = DB2Codec.dssLength(in, index, limit);
+      if (dssLength < 0) {
+        return -1;
+      }
+      boolean chained = DB2Codec.isChained(in, index);
+      lastCorrelationId = DB2Codec.correlationId(in, index);
+      index += dssLength;
+      if (!chained) {
+        return index - ridx;
+      }
     }
-    return index;
   }
 
   private void decodePayload(ByteBuf payload, int payloadLength) {
@@ -67,8 +67,14 @@ class DB2Encoder extends ChannelOutboundHandlerAdapter {
   void write(CommandBase<?> cmd) {
     CommandCodec<?, ?> codec = wrap(cmd);
     codec.completionHandler = resp -> {
-      CommandCodec<?, ?> c = inflight.poll();
-      resp.cmd = (CommandBase) c.cmd;
+      // A command can complete while encoding (e.g. closing a statement or failing to encode), in which case it is
+      // not necessarily the head of the pipeline
+      if (inflight.peekFirst() == codec) {
+        inflight.pollFirst();
+      } else if (!inflight.remove(codec)) {
+        return;
+      }
+      resp.cmd = (CommandBase) codec.cmd;
       chctx.fireChannelRead(resp);
     };
     inflight.add(codec);
@@ -21,9 +21,11 @@ import java.util.stream.Collector;
 import io.netty.buffer.ByteBuf;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.db2client.DB2Exception;
 import io.vertx.db2client.impl.codec.DB2PreparedStatement.QueryInstance;
 import io.vertx.db2client.impl.drda.DRDAQueryRequest;
 import io.vertx.db2client.impl.drda.DRDAQueryResponse;
+import io.vertx.db2client.impl.drda.SqlCode;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.data.Numeric;
@@ -89,6 +91,41 @@ abstract class ExtendedQueryCommandBaseCodec<R, C extends ExtendedQueryCommand<R
     return decoder;
   }
 
+  @Override
+  void decodePayload(ByteBuf payload, int payloadLength) {
+    try {
+      super.decodePayload(payload, payloadLength);
+    } catch (RuntimeException e) {
+      if (invalidatesStatement(e)) {
+        // The statement must be prepared again before its section is reused
+        statement.section.clearPrepared();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return whether the failure leaves the statement prepared in the section unusable, an unexpected failure
+   *         leaves the state of the section unknown
+   */
+  private static boolean invalidatesStatement(RuntimeException e) {
+    if (!(e instanceof DB2Exception)) {
+      return true;
+    }
+    switch (((DB2Exception) e).getErrorCode()) {
+      case SqlCode.CURSOR_NOT_PREPARED:
+      case SqlCode.STATEMENT_NOT_PREPARED:
+      case SqlCode.OBJECT_NOT_DEFINED:
+      case SqlCode.COLUMN_DOES_NOT_EXIST:
+      case SqlCode.IMPLICIT_SYSTEM_ACTION_FAILED:
+      case SqlCode.PACKAGE_NOT_FOUND:
+      case SqlCode.PACKAGE_TIMESTAMP_CONFLICT:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   void handleUpdateResult(DRDAQueryResponse updateResponse) {
     int updatedCount = (int) updateResponse.readExecute();
     R result = emptyResult(cmd.collector());
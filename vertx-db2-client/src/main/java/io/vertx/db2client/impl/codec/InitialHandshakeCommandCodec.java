@@ -116,6 +116,7 @@ class InitialHandshakeCommandCodec extends AuthenticationCommandBaseCodec<Connec
 
         int lenOfPayload = packet.writerIndex() - packetStartIdx;
         sendPacket(packet, lenOfPayload);
+        encoder.chctx.flush();
         status = ConnectionState.AUTHENTICATING;
         break;
 
@@ -53,11 +53,21 @@ class PrepareStatementCodec extends CommandCodec<PreparedStatement, PrepareState
   }
 
   private void sendStatementPrepareCommand() {
+    section = encoder.socketConnection.connMetadata.sectionManager.getSection(cmd.sql());
+    if (section.isPrepared(cmd.sql())) {
+      // The section still holds this statement from a previous prepare, no need to prepare it again
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Reusing prepared section " + section);
+      }
+      paramDesc = section.preparedInputMetaData();
+      rowDesc = section.preparedOutputMetaData();
+      handleColumnDefinitionsDecodingCompleted();
+      return;
+    }
     ByteBuf packet = allocateBuffer();
     // encode packet header
     int packetStartIdx = packet.writerIndex();
     DRDAQueryRequest prepareCommand = new DRDAQueryRequest(packet, encoder.socketConnection.connMetadata);
-    section = encoder.socketConnection.connMetadata.sectionManager.getSection(cmd.sql());
     String dbName = encoder.socketConnection.connMetadata.databaseName;
     prepareCommand.writePrepareDescribeOutput(cmd.sql(), dbName, section);
     prepareCommand.writeDescribeInput(section, dbName);
@@ -73,9 +83,17 @@ class PrepareStatementCodec extends CommandCodec<PreparedStatement, PrepareState
     switch (commandHandlerState) {
     case INIT:
       DRDAQueryResponse response = new DRDAQueryResponse(payload, encoder.socketConnection.connMetadata);
-      response.readPrepareDescribeInputOutput();
+      try {
+        response.readPrepareDescribeInputOutput();
+      } catch (RuntimeException e) {
+        // The statement could not be prepared, give the section back
+        section.release();
+        section = null;
+        throw e;
+      }
       rowDesc = response.getOutputColumnMetaData();
       paramDesc = response.getInputColumnMetaData();
+      section.prepared(cmd.sql(), paramDesc, rowDesc);
       if (LOG.isDebugEnabled()) {
         LOG.debug("Prepared parameters: " + paramDesc);
       }
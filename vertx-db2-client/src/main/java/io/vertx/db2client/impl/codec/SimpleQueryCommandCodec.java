@@ -44,6 +44,8 @@ class SimpleQueryCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCom
   @Override
   void encodeUpdate(DRDAQueryRequest updateCommand) {
     querySection = encoder.socketConnection.connMetadata.sectionManager.getSection(cmd.sql());
+    // Executing immediately replaces any statement prepared in the section
+    querySection.clearPrepared();
     updateCommand.writeExecuteImmediate(cmd.sql(), querySection, encoder.socketConnection.connMetadata.databaseName);
     if (cmd.autoCommit()) {
       updateCommand.buildRDBCMM();
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2019,2020 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vertx.db2client.impl.drda;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Decodes the character data sent by the server into strings.
+ * <p>
+ * Single byte charsets, such as the EBCDIC CCSIDs of DB2 for z/OS, are decoded with a lookup table
+ * computed once per charset instead of a charset decoder. UTF-8 data made of ASCII characters only
+ * is copied without being decoded.
+ */
+public final class CCSIDDecoder {
+
+    // marks the charsets that can not be decoded with a lookup table
+    private static final Table NO_TABLE = new Table(null, null);
+    private static final ConcurrentMap<Charset, Table> TABLES = new ConcurrentHashMap<>();
+
+    private CCSIDDecoder() {}
+
+    /**
+     * Decodes {@code length} bytes of {@code buffer} starting at {@code index}, the reader index of the buffer is not modified.
+     */
+    public static String decode(ByteBuf buffer, int index, int length, Charset charset) {
+        if (length == 0) {
+            return "";
+        }
+        if (buffer.hasArray()) {
+            return decode(buffer.array(), buffer.arrayOffset() + index, length, charset);
+        }
+        byte[] bytes = new byte[length];
+        buffer.getBytes(index, bytes);
+        return decode(bytes, 0, length, charset);
+    }
+
+    /**
+     * Decodes {@code length} bytes of {@code buffer} starting at its reader index and advances the reader index.
+     */
+    public static String read(ByteBuf buffer, int length, Charset charset) {
+        String s = decode(buffer, buffer.readerIndex(), length, charset);
+        buffer.skipBytes(length);
+        return s;
+    }
+
+    public static String decode(byte[] bytes, int offset, int length, Charset charset) {
+        if (charset == StandardCharsets.UTF_8) {
+            if (isAscii(bytes, offset, length)) {
+                // ASCII is a subset of ISO-8859-1, which strings store without any conversion
+                return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+            }
+            return new String(bytes, offset, length, charset);
+        }
+        Table table = table(charset);
+        if (table == NO_TABLE) {
+            return new String(bytes, offset, length, charset);
+        }
+        if (table.latin1 != null) {
+            byte[] latin1 = table.latin1;
+            byte[] decoded = new byte[length];
+            for (int i = 0; i < length; i++) {
+                decoded[i] = latin1[bytes[offset + i] & 0xFF];
+            }
+            return new String(decoded, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = table.chars;
+        char[] decoded = new char[length];
+        for (int i = 0; i < length; i++) {
+            decoded[i] = chars[bytes[offset + i] & 0xFF];
+        }
+        return new String(decoded);
+    }
+
+    static boolean isAscii(byte[] bytes, int offset, int length) {
+        // no early exit so that the loop can be vectorized
+        int bits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            bits |= bytes[i];
+        }
+        return bits >= 0;
+    }
+
+    private static Table table(Charset charset) {
+        Table table = TABLES.get(charset);
+        if (table == null) {
+            table = TABLES.computeIfAbsent(charset, CCSIDDecoder::createTable);
+        }
+        return table;
+    }
+
+    private static Table createTable(Charset charset) {
+        // only a charset encoding every character on a single byte maps each byte to a single character
+        if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1.0f) {
+            return NO_TABLE;
+        }
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        // unmappable bytes are decoded to the replacement character, as the charset decoder would do
+        char[] chars = new String(bytes, charset).toCharArray();
+        if (chars.length != bytes.length) {
+            return NO_TABLE;
+        }
+        byte[] latin1 = new byte[chars.length];
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] > 0xFF) {
+                latin1 = null;
+                break;
+            }
+            latin1[i] = (byte) chars[i];
+        }
+        return new Table(chars, latin1);
+    }
+
+    private static final class Table {
+
+        final char[] chars;
+        // the same table when all the characters are in ISO-8859-1, which strings store on a single byte
+        final byte[] latin1;
+
+        Table(char[] chars, byte[] latin1) {
+            this.chars = chars;
+            this.latin1 = latin1;
+        }
+    }
+}
@@ -25,6 +25,9 @@ public class ConnectionMetaData {
   public String databaseName;
   private DB2DatabaseMetadata dbMetadata;
   public final SectionManager sectionManager = new SectionManager();
+  // size of the query blocks and number of extra blocks requested when opening a query
+  public int queryBlockSize = DssConstants.MAX_DSS_LENGTH;
+  public int maxExtraBlocks = 0;
   
   private Charset currentCCSID = CCSIDConstants.EBCDIC;
   
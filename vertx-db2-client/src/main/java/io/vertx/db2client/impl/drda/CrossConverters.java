@@ -765,7 +765,8 @@ final class CrossConverters {
                 throw new IllegalStateException("SQLState.READER_UNDER_RUN");
             }
 
-            return new String(baos.toByteArray(), encoding);
+            byte[] bytes = baos.toByteArray();
+            return CCSIDDecoder.decode(bytes, 0, bytes.length, encoding);
     }
 
     // Convert from Blob source to target type
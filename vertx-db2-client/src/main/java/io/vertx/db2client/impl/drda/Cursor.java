@@ -39,6 +39,7 @@ import java.util.HashMap;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 
 public class Cursor {
 
@@ -261,6 +262,28 @@ public class Cursor {
         setAllRowsReceivedFromServer(false);
     }
 
+    // the cursor owns a reference to its data buffer, the reference to the previous buffer is
+    // released when the data of the next query block is set
+    final void setDataBuffer(ByteBuf data) {
+        if (dataBuffer_ != null) {
+            dataBuffer_.release();
+        }
+        dataBuffer_ = data;
+    }
+
+    // appends the data of an extra query block to the bytes of the buffer not yet consumed,
+    // rows are re-based on the start of the new buffer. The composite buffer takes the ownership
+    // of the unconsumed bytes and of the data, the reference to the previous buffer is released
+    final void appendDataBuffer(ByteBuf data) {
+        int readerIndex = dataBuffer_.readerIndex();
+        ByteBuf unprocessed = dataBuffer_.retainedSlice(readerIndex, lastValidBytePosition_ - readerIndex);
+        dataBuffer_.release();
+        dataBuffer_ = Unpooled.wrappedBuffer(unprocessed, data);
+        lastValidBytePosition_ = dataBuffer_.capacity();
+        currentRowPosition_ = 0;
+        nextRowPosition_ = 0;
+    }
+
     final boolean dataBufferHasUnprocessedData() {
         return dataBuffer_ != null && (lastValidBytePosition_ - dataBuffer_.readerIndex()) > 0;
     }
@@ -456,8 +479,8 @@ public class Cursor {
         int dataLength = columnDataComputedLength_[column - 1] - 2;
         if (maxFieldSize_ != 0 && maxFieldSize_ < dataLength)
           dataLength = maxFieldSize_;
-        return dataBuffer_.getCharSequence(columnDataPosition_[column - 1] + 2,
-            dataLength, charset_[column - 1]).toString();
+        return CCSIDDecoder.decode(dataBuffer_, columnDataPosition_[column - 1] + 2,
+            dataLength, charset_[column - 1]);
 //        String tempString = new String(dataBuffer_,
 //                columnDataPosition_[column - 1] + 2,
 //                columnDataComputedLength_[column - 1] - 2,
@@ -484,8 +507,8 @@ public class Cursor {
         int dataLength = columnDataComputedLength_[column - 1];
         if (maxFieldSize_ != 0 && maxFieldSize_ < dataLength)
           dataLength = maxFieldSize_;
-        return dataBuffer_.getCharSequence(columnDataPosition_[column - 1],
-            dataLength, charset_[column - 1]).toString();
+        return CCSIDDecoder.decode(dataBuffer_, columnDataPosition_[column - 1],
+            dataLength, charset_[column - 1]);
 //        String tempString = new String(dataBuffer_,
 //                columnDataPosition_[column - 1],
 //                columnDataComputedLength_[column - 1],
@@ -498,8 +521,8 @@ public class Cursor {
     // Build a JDBC Date object from the ISO DATE field.
     private LocalDate get_DATE(int column) {
         // DATE column is always 10 chars long
-        String dateString = dataBuffer_.getCharSequence(columnDataPosition_[column - 1],
-            10, charset_[column - 1]).toString();
+        String dateString = CCSIDDecoder.decode(dataBuffer_, columnDataPosition_[column - 1],
+            10, charset_[column - 1]);
         return LocalDate.parse(dateString, DRDAConstants.DB2_DATE_FORMAT);
 //        return DateTime.dateBytesToDate(dataBuffer_,
 //            columnDataPosition_[column - 1],
@@ -510,8 +533,8 @@ public class Cursor {
     // Build a JDBC Time object from the ISO TIME field.
     private LocalTime get_TIME(int column) {
         // Time column is always 8 chars long
-        String timeString = dataBuffer_.getCharSequence(columnDataPosition_[column - 1],
-            8, charset_[column - 1]).toString();
+        String timeString = CCSIDDecoder.decode(dataBuffer_, columnDataPosition_[column - 1],
+            8, charset_[column - 1]);
         return LocalTime.parse(timeString, DRDAConstants.DB2_TIME_FORMAT);
 //        return DateTime.timeBytesToTime(dataBuffer_,
 //                columnDataPosition_[column - 1],
@@ -521,8 +544,8 @@ public class Cursor {
 
     // Build a JDBC Timestamp object from the ISO TIMESTAMP field.
     private final LocalDateTime get_TIMESTAMP(int column) {
-        String timeString = dataBuffer_.getCharSequence(columnDataPosition_[column - 1],
-            26, charset_[column - 1]).toString();
+        String timeString = CCSIDDecoder.decode(dataBuffer_, columnDataPosition_[column - 1],
+            26, charset_[column - 1]);
         return LocalDateTime.parse(timeString, DRDAConstants.DB2_TIMESTAMP_FORMAT);
 //        return DateTime.timestampBytesToTimestamp(
 //            dataBuffer_,
@@ -2080,7 +2103,7 @@ public class Cursor {
 
         checkForSplitRowAndComplete(length);
 
-        return dataBuffer_.readCharSequence(length, encoding).toString();
+        return CCSIDDecoder.read(dataBuffer_, length, encoding);
 //        String s = new String(dataBuffer_, position_, length, encoding);
 //        position_ += length;
 //        return s;
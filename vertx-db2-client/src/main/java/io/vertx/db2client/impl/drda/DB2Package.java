@@ -15,8 +15,6 @@
  */
 package io.vertx.db2client.impl.drda;
 
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -52,8 +50,7 @@ public class DB2Package {
     final int maxSections;
 
     byte[] pkgNameConsistencyBytes;
-    final ConcurrentLinkedDeque<Section> freeSections = new ConcurrentLinkedDeque<>();
-    private AtomicInteger nextAvailableSectionNumber = new AtomicInteger(1);
+    private int nextAvailableSectionNumber = 1;
 
   public DB2Package(boolean isSmallPackage, int pkgNum) {
       maxSections = isSmallPackage ? MAX_SECTIONS_SMALL_PKG : MAX_SECTIONS_LARGE_PKG;
@@ -69,33 +66,28 @@ public class DB2Package {
     return maxSections == MAX_SECTIONS_SMALL_PKG;
   }
 
-  int sectionsInUse() {
-    return nextAvailableSectionNumber.get() - 1 - freeSections.size();
+  int allocatedSections() {
+    return nextAvailableSectionNumber - 1;
   }
 
-  Section getFreeSection() {
-    Section s = freeSections.poll();
-    if (s != null) {
-      s.use();
-      if (LOG.isLoggable(Level.FINE))
-        LOG.fine("Using existing section " + s);
-      return s;
-    }
-
-    int sectionNumber = nextAvailableSectionNumber.getAndIncrement();
-    if (sectionNumber > maxSections) {
+  /**
+   * Allocates a section that was never used before, free sections are tracked by the {@link SectionManager}.
+   *
+   * @return the new section or {@code null} when all the sections of this package have been allocated
+   */
+  Section newSection(SectionManager manager) {
+    if (nextAvailableSectionNumber > maxSections) {
       if (LOG.isLoggable(Level.FINE))
         LOG.fine("All sections in use for package " + this);
       return null;
     }
-
-    return new Section(this, sectionNumber);
+    return new Section(manager, this, nextAvailableSectionNumber++);
   }
 
   @Override
   public String toString() {
-    return super.toString() + "{name=" + name + ", freeSections=" + freeSections.size() +
-        ",nextSection=" + nextAvailableSectionNumber + ", maxSections=" + maxSections + "}";
+    return super.toString() + "{name=" + name + ", allocatedSections=" + allocatedSections() +
+        ", maxSections=" + maxSections + "}";
   }
 
 }
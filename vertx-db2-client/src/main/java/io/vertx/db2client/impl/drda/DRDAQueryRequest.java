@@ -1620,7 +1620,9 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
         markLengthBytes(CodePoint.OPNQRY);
 
         buildPKGNAMCSN(dbName, section);
-        buildQRYBLKSZ();  // specify a hard coded query block size
+        buildQRYBLKSZ();  // query block size configured for the connection
+        // extra query blocks the server may return with the reply, without waiting for a CNTQRY
+        buildMAXBLKEXT(metadata.maxExtraBlocks);
 
 //        if (sendQueryRowSet) {
 //            buildMAXBLKEXT(-1);
@@ -1678,14 +1680,14 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
     // data objects and the reply messages being returned from this command.
     // this is a 4 byte unsigned binary number.
     // the sqlam 6 min value is 512 and max value is 32767.
-    // this value was increased in later sqlam levels.
-    // until the code is ready to support larger query block sizes,
-    // it will always use DssConstants.MAX_DSS_LEN which is 32767.
+    // this value was increased in later sqlam levels, up to 10M.
+    // the size configured for the connection is used, it defaults to
+    // DssConstants.MAX_DSS_LEN which is 32767.
     //
     // preconditions:
     //   sqlam must support this parameter for the command, method will not check.
     void buildQRYBLKSZ() {
-        writeScalar4Bytes(CodePoint.QRYBLKSZ, DssConstants.MAX_DSS_LENGTH);
+        writeScalar4Bytes(CodePoint.QRYBLKSZ, metadata.queryBlockSize);
     }
 
     private int checkFetchsize(int fetchSize, int resultSetType) {
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Objects;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 public class DRDAQueryResponse extends DRDAConnectResponse {
 
@@ -1106,16 +1107,21 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
     }
 
     /**
-     * Reads the bytes for the current QRYDTA into the cursor's buffer
+     * Reads the bytes for the QRYDTA that follow into the cursor's buffer. When extra query
+     * blocks were returned with the reply, they are all appended to the data not yet consumed
+     * so that rows spanning several blocks can be decoded.
      * @return
      */
     public boolean readOpenQueryData() {
         int peekCP = peekCodePoint();
-        if (peekCP == CodePoint.QRYDTA) {
-            parseQRYDTA(/*NetResultSet*/);
-            return true;
+        if (peekCP != CodePoint.QRYDTA) {
+            return false;
         }
-        return false;
+        do {
+            parseQRYDTA(/*NetResultSet*/);
+            peekCP = peekCodePoint();
+        } while (peekCP == CodePoint.QRYDTA);
+        return true;
     }
 
     public boolean isQueryComplete() {
@@ -1769,7 +1775,12 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
 //            netCursor.dataBuffer_ = netCursor.dataBufferStream_.toByteArray();
         if (cursor == null)
             cursor = new Cursor(metadata);
-        cursor.dataBuffer_ = getData();
+        if (cursor.dataBufferHasUnprocessedData()) {
+            // extra query block of the same reply, keep the bytes of the previous block not yet consumed
+            cursor.appendDataBuffer(getData());
+            return;
+        }
+        cursor.setDataBuffer(getData());
 //        } else {
 //            int size = netCursor.dataBufferStream_.size();
 //            if (size == 0) {
@@ -1794,6 +1805,7 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
         boolean readHeader;
         int copySize;
         ByteBuf baos = null;
+        List<ByteBuf> segments = null;
 //        ByteArrayOutputStream baos;
 
 //        // note: an empty baos can yield an allocated and empty byte[]
@@ -1824,7 +1836,17 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
             // read the segment
             ensureALayerDataInBuffer(copySize);
             adjustLengths(copySize);
-            baos = buffer.readRetainedSlice(copySize).asReadOnly();
+            ByteBuf segment = buffer.readRetainedSlice(copySize).asReadOnly();
+            if (baos == null) {
+                baos = segment;
+            } else {
+                // a QRYDTA larger than a DSS is split in continuation segments
+                if (segments == null) {
+                    segments = new ArrayList<>();
+                    segments.add(baos);
+                }
+                segments.add(segment);
+            }
 //            baos.write(buffer_, pos_, copySize);
 //            pos_ += copySize;
 
@@ -1836,7 +1858,9 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
             copySize = dssLength_;
         } while (readHeader == true);
 
-
+        if (segments != null) {
+            baos = Unpooled.wrappedBuffer(segments.toArray(new ByteBuf[0])).asReadOnly();
+        }
         return baos;
     }
 
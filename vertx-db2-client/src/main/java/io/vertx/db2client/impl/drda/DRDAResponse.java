@@ -1002,7 +1002,7 @@ public abstract class DRDAResponse {
     final String readString(int length, Charset encoding) {
         ensureBLayerDataInBuffer(length);
         adjustLengths(length);
-        String s = buffer.readCharSequence(length, encoding).toString();
+        String s = CCSIDDecoder.read(buffer, length, encoding);
         //String s = new String(buffer.array(), pos_, length, encoding);
         //pos_ += length;
         return s;
@@ -1366,7 +1366,7 @@ public abstract class DRDAResponse {
     final String readFastString(int length, Charset encoding) {
 //        String s = new String(buffer_, pos_, length, encoding);
         //pos_ += length;
-        return buffer.readCharSequence(length, encoding).toString();
+        return CCSIDDecoder.read(buffer, length, encoding);
     }
     
     final void readFastIntArray(int[] array) {
@@ -1421,7 +1421,7 @@ public abstract class DRDAResponse {
     }
 
     final String readFastString(int length) {
-        String result = buffer.readCharSequence(length, metadata.getCCSID()).toString();
+        String result = CCSIDDecoder.read(buffer, length, metadata.getCCSID());
 //                            .convertToJavaString(buffer_, pos_, length);
         //pos_ += length;
         return result;
@@ -22,7 +22,7 @@ package io.vertx.db2client.impl.drda;
 public class DssConstants
 {
 
-  protected static final int MAX_DSS_LENGTH = 32767;
+  public static final int MAX_DSS_LENGTH = 32767;
 
   // Registered DSS identifier indicating DDM data (xD0 for DDM data).
   protected static final int DSS_ID = 0xD0;
@@ -24,21 +24,28 @@ public class Section {
 
   private static final Logger LOG = Logger.getLogger(Section.class.getName());
 
+  final SectionManager manager;
   final DB2Package pkg;
     final int number;
-    private final AtomicBoolean inUse = new AtomicBoolean(true);
+    private final AtomicBoolean inUse = new AtomicBoolean(false);
 
-    Section(DB2Package pkg, int sectionNumber) {
-      this(pkg, sectionNumber, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    // statement prepared in this section, kept when the section is released so it can be reused for the same SQL
+    private volatile String preparedSql;
+    private volatile ColumnMetaData preparedInputMetaData;
+    private volatile ColumnMetaData preparedOutputMetaData;
+
+    Section(SectionManager manager, DB2Package pkg, int sectionNumber) {
+      this(manager, pkg, sectionNumber, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
 
-    Section(DB2Package pkg, int sectionNumber, int resultSetHoldability) {
+    Section(SectionManager manager, DB2Package pkg, int sectionNumber, int resultSetHoldability) {
+        this.manager = manager;
         this.pkg = pkg;
         this.number = sectionNumber;
     }
 
     /**
-     * Marks a section for use. An initially created section is already in use.
+     * Marks a section for use.
      * @throws IllegalStateException if this method is called on a section that
      *  is already in use
      * @see #release()
@@ -62,12 +69,49 @@ public class Section {
         LOG.fine("Releasing section: " + this);
 
       if (inUse.getAndSet(false)) {
-        pkg.freeSections.add(this);
+        manager.release(this);
       } else {
         throw new IllegalStateException("Attempted to release section multiple times: " + this);
       }
     }
 
+    /**
+     * Records the statement prepared in this section along with its described input and output.
+     */
+    public void prepared(String sql, ColumnMetaData inputMetaData, ColumnMetaData outputMetaData) {
+      this.preparedInputMetaData = inputMetaData;
+      this.preparedOutputMetaData = outputMetaData;
+      this.preparedSql = sql;
+    }
+
+    /**
+     * Forgets the statement prepared in this section, e.g. when the statement has been replaced or failed.
+     */
+    public void clearPrepared() {
+      preparedSql = null;
+      preparedInputMetaData = null;
+      preparedOutputMetaData = null;
+    }
+
+    /**
+     * @return whether the statement for {@code sql} is prepared in this section
+     */
+    public boolean isPrepared(String sql) {
+      return sql.equals(preparedSql);
+    }
+
+    String preparedSql() {
+      return preparedSql;
+    }
+
+    public ColumnMetaData preparedInputMetaData() {
+      return preparedInputMetaData;
+    }
+
+    public ColumnMetaData preparedOutputMetaData() {
+      return preparedOutputMetaData;
+    }
+
     @Override
     public String toString() {
         return super.toString() + "{packageName=" + pkg.name + ", sectionNumber=" + number + ", cursorName=" + pkg.cursorNamePrefix + "}";
@@ -75,7 +119,7 @@ public class Section {
 
     static class ImmediateSection extends Section {
       public ImmediateSection(DB2Package pkg) {
-        super(pkg, pkg.maxSections + 1);
+        super(null, pkg, pkg.maxSections + 1);
       }
 
       @Override
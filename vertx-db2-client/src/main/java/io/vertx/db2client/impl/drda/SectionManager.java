@@ -15,14 +15,48 @@
  */
 package io.vertx.db2client.impl.drda;
 
+import io.vertx.db2client.spi.DB2ClientMetrics;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Hands out the dynamic sections of the packages to the statements of a connection.
+ * <p>
+ * A released section keeps the statement prepared in it, so a later request for the same SQL gets the same section
+ * back and does not need to prepare the statement again. Free sections are indexed, sections that never held a
+ * reusable statement are handed out first, then new sections are allocated from the packages and finally the least
+ * recently released prepared sections are evicted.
+ */
 public class SectionManager {
 
+    private static final Logger LOG = Logger.getLogger(SectionManager.class.getName());
+
     private final List<DB2Package> pkgs = new ArrayList<>(6);
     private final Section staticSection;
 
+    // free sections without a reusable prepared statement
+    private final ArrayDeque<Section> freeSections = new ArrayDeque<>();
+    // free sections with a prepared statement, by SQL and in release order
+    private final Map<String, ArrayDeque<Section>> preparedSections = new HashMap<>();
+    private final LinkedHashSet<Section> preparedSectionsLru = new LinkedHashSet<>();
+    // index of the first package that may still allocate new sections
+    private int nextPackage;
+
+    private int sectionsInUse;
+    private int maxSectionsInUse;
+    private long reusedSections;
+    private long evictedSections;
+    private long exhaustions;
+    private DB2ClientMetrics<?, ?, ?> metrics;
+
     SectionManager() {
       // by default there are 3 small and 3 large packages
         for (int i = 0; i < 3; i++)
@@ -32,36 +66,159 @@ public class SectionManager {
         staticSection = new Section.ImmediateSection(pkgs.get(3));
     }
 
-    void configureForZOS() {
+    /**
+     * Report the section events to the {@code metrics} of the client.
+     */
+    public synchronized void metrics(DB2ClientMetrics<?, ?, ?> metrics) {
+      this.metrics = metrics;
+    }
+
+    synchronized void configureForZOS() {
       // DB2/Z doesn't have small packages by default -- remove them
       pkgs.removeIf(DB2Package::isSmallPackage);
+      nextPackage = 0;
     }
 
     @Override
-    public String toString() {
+    public synchronized String toString() {
       StringBuilder sb = new StringBuilder("SectionManager info:\n");
       for (DB2Package p : pkgs)
         sb.append("  ").append(p).append("\n");
-      sb.append(staticSection);
+      sb.append(staticSection).append("\n");
+      sb.append("  inUse=").append(sectionsInUse)
+        .append(", maxInUse=").append(maxSectionsInUse)
+        .append(", free=").append(freeSections.size())
+        .append(", freePrepared=").append(preparedSectionsLru.size())
+        .append(", reused=").append(reusedSections)
+        .append(", evicted=").append(evictedSections)
+        .append(", exhaustions=").append(exhaustions);
       return sb.toString();
     }
 
-    public int sectionsInUse() {
-      return pkgs.stream().mapToInt(DB2Package::sectionsInUse).sum();
+    public synchronized int sectionsInUse() {
+      return sectionsInUse;
+    }
+
+    /**
+     * @return the highest number of sections simultaneously in use
+     */
+    public synchronized int maxSectionsInUse() {
+      return maxSectionsInUse;
+    }
+
+    /**
+     * @return the number of times a section was handed out with the statement for the requested SQL already prepared
+     */
+    public synchronized long reusedSections() {
+      return reusedSections;
+    }
+
+    /**
+     * @return the number of prepared sections evicted to prepare a different statement
+     */
+    public synchronized long evictedSections() {
+      return evictedSections;
     }
-    
-    public Section getSection(String sql) {
-      return getDynamicSection();
+
+    /**
+     * @return the number of times a section was requested while all the sections were in use
+     */
+    public synchronized long exhaustions() {
+      return exhaustions;
     }
 
-    private Section getDynamicSection() {
-      for (DB2Package p : pkgs) {
-        Section s = p.getFreeSection();
-        if (s != null)
+    /**
+     * Get a section to run the given SQL. When the returned section {@link Section#isPrepared(String) is prepared}
+     * for the SQL, the statement does not need to be prepared again.
+     *
+     * @throws IllegalStateException when all the sections are in use
+     */
+    public synchronized Section getSection(String sql) {
+      Section s = reusePreparedSection(sql);
+      if (s == null) {
+        s = freeSections.poll();
+        if (s == null) {
+          s = newSection();
+        }
+        if (s == null) {
+          s = evictPreparedSection();
+        }
+        if (s == null) {
+          exhaustions++;
+          if (metrics != null) {
+            metrics.sectionsExhausted();
+          }
+          if (LOG.isLoggable(Level.FINE))
+            LOG.fine("All sections are in use, exhaustions=" + exhaustions);
+          throw new IllegalStateException("All sections are in use: " + this);
+        }
+        s.clearPrepared();
+      }
+      if (metrics != null) {
+        metrics.sectionAcquired(s.isPrepared(sql));
+      }
+      s.use();
+      sectionsInUse++;
+      maxSectionsInUse = Math.max(maxSectionsInUse, sectionsInUse);
+      return s;
+    }
+
+    synchronized void release(Section s) {
+      sectionsInUse--;
+      String sql = s.preparedSql();
+      if (sql != null) {
+        preparedSections.computeIfAbsent(sql, k -> new ArrayDeque<>(1)).add(s);
+        preparedSectionsLru.add(s);
+      } else {
+        freeSections.add(s);
+      }
+    }
+
+    private Section reusePreparedSection(String sql) {
+      ArrayDeque<Section> sections = preparedSections.get(sql);
+      if (sections == null) {
+        return null;
+      }
+      Section s = sections.pollLast();
+      if (sections.isEmpty()) {
+        preparedSections.remove(sql);
+      }
+      preparedSectionsLru.remove(s);
+      reusedSections++;
+      return s;
+    }
+
+    private Section newSection() {
+      while (nextPackage < pkgs.size()) {
+        Section s = pkgs.get(nextPackage).newSection(this);
+        if (s != null) {
           return s;
+        }
+        nextPackage++;
       }
-      throw new IllegalStateException("All sections are in use: " + this);
+      return null;
     }
 
-}
+    private Section evictPreparedSection() {
+      Iterator<Section> it = preparedSectionsLru.iterator();
+      if (!it.hasNext()) {
+        return null;
+      }
+      Section s = it.next();
+      it.remove();
+      String sql = s.preparedSql();
+      ArrayDeque<Section> sections = preparedSections.get(sql);
+      sections.remove(s);
+      if (sections.isEmpty()) {
+        preparedSections.remove(sql);
+      }
+      evictedSections++;
+      if (metrics != null) {
+        metrics.sectionEvicted();
+      }
+      if (LOG.isLoggable(Level.FINE))
+        LOG.fine("Evicting prepared section " + s);
+      return s;
+    }
 
+}
@@ -65,6 +65,17 @@ public class SqlCode {
 
   public static final int DUPLICATE_KEYS_DETECTED = -803;
 
+  // The prepared statement of a section is no longer valid on the server
+  public static final int CURSOR_NOT_PREPARED = -514;
+
+  public static final int STATEMENT_NOT_PREPARED = -518;
+
+  public static final int IMPLICIT_SYSTEM_ACTION_FAILED = -727;
+
+  public static final int PACKAGE_NOT_FOUND = -805;
+
+  public static final int PACKAGE_TIMESTAMP_CONFLICT = -818;
+
     private final int code_;
 
     SqlCode(int code) {
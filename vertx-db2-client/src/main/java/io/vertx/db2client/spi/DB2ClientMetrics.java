@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.db2client.spi;
+
+import io.vertx.core.spi.metrics.ClientMetrics;
+
+/**
+ * The metrics of a DB2 client.
+ * <p>
+ * The {@link ClientMetrics} created by {@link io.vertx.core.spi.metrics.VertxMetrics#createClientMetrics} for a DB2
+ * client of type {@code sql} can implement this interface to receive the events of the package sections in which the
+ * connections prepare their statements.
+ */
+public interface DB2ClientMetrics<M, Req, Resp> extends ClientMetrics<M, Req, Resp> {
+
+  /**
+   * Called when a connection acquires a section to prepare a statement.
+   *
+   * @param reused whether the section already holds the statement prepared, so it does not need to be prepared again
+   */
+  default void sectionAcquired(boolean reused) {
+  }
+
+  /**
+   * Called when a connection evicts the statement prepared in a section to prepare a different statement.
+   */
+  default void sectionEvicted() {
+  }
+
+  /**
+   * Called when a connection fails to acquire a section because all the sections are in use.
+   */
+  default void sectionsExhausted() {
+  }
+}
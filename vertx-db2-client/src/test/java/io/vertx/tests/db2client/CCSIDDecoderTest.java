@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.db2client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.db2client.impl.drda.CCSIDConstants;
+import io.vertx.db2client.impl.drda.CCSIDDecoder;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public class CCSIDDecoderTest {
+
+  @Test
+  public void testSingleByteCharsets() {
+    byte[] bytes = new byte[256];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    for (String name : new String[]{"CP1047", "IBM037", "ISO-8859-1", "ISO-8859-15", "windows-1252"}) {
+      Charset charset = Charset.forName(name);
+      assertEquals(name, new String(bytes, charset), CCSIDDecoder.decode(bytes, 0, bytes.length, charset));
+    }
+  }
+
+  @Test
+  public void testUTF8() {
+    for (String s : new String[]{"", "hello", "héllo", "日本語", "😀"}) {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      assertEquals(s, CCSIDDecoder.decode(bytes, 0, bytes.length, StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testDecodeFromByteBuf() {
+    String s = "SELECT * FROM SYSIBM.SYSDUMMY1";
+    ByteBuf direct = Unpooled.directBuffer().writeByte(0).writeBytes(s.getBytes(CCSIDConstants.EBCDIC)).asReadOnly();
+    assertEquals(s, CCSIDDecoder.decode(direct, 1, s.length(), CCSIDConstants.EBCDIC));
+    ByteBuf heap = Unpooled.buffer().writeByte(0).writeBytes(s.getBytes(CCSIDConstants.UTF8));
+    heap.skipBytes(1);
+    assertEquals(s, CCSIDDecoder.read(heap, s.length(), CCSIDConstants.UTF8));
+    assertEquals(0, heap.readableBytes());
+  }
+}
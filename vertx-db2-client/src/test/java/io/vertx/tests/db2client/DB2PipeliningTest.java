@@ -0,0 +1,75 @@
+package io.vertx.tests.db2client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.vertx.core.Future;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.tests.db2client.tck.ClientConfig;
+
+@RunWith(VertxUnitRunner.class)
+public class DB2PipeliningTest extends DB2TestBase {
+
+  private static final int COUNT = 100;
+
+  @Override
+  protected void initConnector() {
+    options = rule.options().setPipeliningLimit(16);
+    connector = ClientConfig.CONNECT.connect(vertx, options);
+  }
+
+  @Test
+  public void testPipelinedSimpleQueries(TestContext ctx) {
+    connect(ctx.asyncAssertSuccess(conn -> {
+      List<Future<RowSet<Row>>> futures = new ArrayList<>();
+      for (int i = 0; i < COUNT; i++) {
+        futures.add(conn.query("SELECT " + i + " FROM SYSIBM.SYSDUMMY1").execute());
+      }
+      checkResults(ctx, futures).onComplete(ctx.asyncAssertSuccess(v -> conn.close()));
+    }));
+  }
+
+  @Test
+  public void testPipelinedPreparedQueries(TestContext ctx) {
+    connect(ctx.asyncAssertSuccess(conn -> {
+      List<Future<RowSet<Row>>> futures = new ArrayList<>();
+      for (int i = 0; i < COUNT; i++) {
+        futures.add(conn.preparedQuery("SELECT CAST(? AS INTEGER) FROM SYSIBM.SYSDUMMY1").execute(Tuple.of(i)));
+      }
+      checkResults(ctx, futures).onComplete(ctx.asyncAssertSuccess(v -> conn.close()));
+    }));
+  }
+
+  @Test
+  public void testPipelinedFailure(TestContext ctx) {
+    connect(ctx.asyncAssertSuccess(conn -> {
+      Future<RowSet<Row>> before = conn.query("SELECT 1 FROM SYSIBM.SYSDUMMY1").execute();
+      Future<RowSet<Row>> failure = conn.query("SELECT * FROM DOES_NOT_EXIST").execute();
+      Future<RowSet<Row>> after = conn.query("SELECT 2 FROM SYSIBM.SYSDUMMY1").execute();
+      before.onComplete(ctx.asyncAssertSuccess(rows -> ctx.assertEquals(1, rows.iterator().next().getInteger(0))));
+      failure.onComplete(ctx.asyncAssertFailure());
+      after.onComplete(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(2, rows.iterator().next().getInteger(0));
+        conn.close();
+      }));
+    }));
+  }
+
+  private Future<Void> checkResults(TestContext ctx, List<Future<RowSet<Row>>> futures) {
+    return Future.all(futures).map(cf -> {
+      for (int i = 0; i < COUNT; i++) {
+        RowSet<Row> rows = futures.get(i).result();
+        ctx.assertEquals(1, rows.size());
+        ctx.assertEquals(i, rows.iterator().next().getInteger(0));
+      }
+      return null;
+    });
+  }
+}
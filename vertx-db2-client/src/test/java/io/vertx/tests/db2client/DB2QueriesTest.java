@@ -1,11 +1,24 @@
 package io.vertx.tests.db2client;
 
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.db2client.DB2Connection;
+import io.vertx.db2client.spi.DB2ClientMetrics;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @RunWith(VertxUnitRunner.class)
 public class DB2QueriesTest extends DB2TestBase {
 
@@ -22,4 +35,68 @@ public class DB2QueriesTest extends DB2TestBase {
         }));
     }));
   }
+
+  @Test
+  public void testOneShotPreparedQueriesReuseSections(TestContext ctx) {
+    AtomicInteger reused = new AtomicInteger();
+    Vertx metricsVertx = Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(metricsOptions -> new VertxMetrics() {
+        @Override
+        public ClientMetrics<?, ?, ?> createClientMetrics(SocketAddress remoteAddress, String type, String namespace) {
+          return new DB2ClientMetrics<Object, Object, Object>() {
+            @Override
+            public void sectionAcquired(boolean hit) {
+              if (hit) {
+                reused.incrementAndGet();
+              }
+            }
+          };
+        }
+      })
+      .build();
+    // More distinct statements than sections, alternating with a hot statement that keeps its prepared section
+    options.setCachePreparedStatements(false);
+    DB2Connection.connect(metricsVertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      executeSequentially(conn, 0, 1500).onComplete(ctx.asyncAssertSuccess(v -> {
+        // The hot statement is only prepared the first time
+        ctx.assertTrue(reused.get() >= 749, "Expected the hot statement section to be reused, reused=" + reused.get());
+        conn.close().onComplete(ctx.asyncAssertSuccess(v2 -> metricsVertx.close().onComplete(ctx.asyncAssertSuccess())));
+      }));
+    }));
+  }
+
+  @Test
+  public void testLargeResultWithExtraQueryBlocks(TestContext ctx) {
+    // The rows span several query blocks returned with the open query reply
+    options.setQueryBlockSize(65536).setMaxExtraBlocks(8);
+    String digits = "(VALUES 0, 1, 2, 3, 4, 5, 6, 7, 8, 9)";
+    connect(ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT a.i * 100 + b.i * 10 + c.i AS n, REPEAT('x', 200) AS s FROM " +
+          digits + " a(i), " + digits + " b(i), " + digits + " c(i) ORDER BY n").execute()
+        .onComplete(ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(1000, rows.size());
+          int expected = 0;
+          for (Row row : rows) {
+            ctx.assertEquals(expected++, row.getInteger(0));
+            ctx.assertEquals(200, row.getString(1).length());
+          }
+          conn.close();
+        }));
+    }));
+  }
+
+  private Future<Void> executeSequentially(SqlConnection conn, int i, int count) {
+    if (i == count) {
+      return Future.succeededFuture();
+    }
+    String sql = i % 2 == 0 ? "SELECT CAST(? AS INTEGER) FROM SYSIBM.SYSDUMMY1" : "SELECT CAST(? AS INTEGER) + " + i + " FROM SYSIBM.SYSDUMMY1";
+    int expected = i % 2 == 0 ? i : 2 * i;
+    return conn.preparedQuery(sql).execute(Tuple.of(i)).compose(rows -> {
+      if (rows.iterator().next().getInteger(0) != expected) {
+        return Future.failedFuture("Unexpected result for " + sql);
+      }
+      return executeSequentially(conn, i + 1, count);
+    });
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.db2client.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.db2client.impl.drda.CCSIDConstants;
+import io.vertx.db2client.impl.drda.CCSIDDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of character column decoding, with the lookup tables and with the charset decoders.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3, jvmArgs = {"-Xms8g", "-Xmx8g", "-Xmn7g"})
+public class StringDecodeBenchmarks {
+
+  @Param({"16", "256"})
+  public int length;
+
+  private ByteBuf ebcdic;
+  private ByteBuf ascii;
+  private ByteBuf utf8;
+
+  @Setup
+  public void setup() {
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < length) {
+      sb.append("The quick brown fox jumps over the lazy dog ");
+    }
+    String text = sb.substring(0, length);
+    ebcdic = buffer(text, CCSIDConstants.EBCDIC);
+    ascii = buffer(text, CCSIDConstants.UTF8);
+    utf8 = buffer("é" + text.substring(1), CCSIDConstants.UTF8);
+  }
+
+  // Query data is received in read-only slices of direct buffers
+  private static ByteBuf buffer(String value, Charset charset) {
+    return Unpooled.unreleasableBuffer(Unpooled.directBuffer().writeBytes(value.getBytes(charset))).asReadOnly();
+  }
+
+  @Benchmark
+  public String decodeEBCDIC() {
+    return CCSIDDecoder.decode(ebcdic, ebcdic.readerIndex(), ebcdic.readableBytes(), CCSIDConstants.EBCDIC);
+  }
+
+  @Benchmark
+  public String decodeEBCDICWithCharset() {
+    return ebcdic.toString(ebcdic.readerIndex(), ebcdic.readableBytes(), CCSIDConstants.EBCDIC);
+  }
+
+  @Benchmark
+  public String decodeASCII() {
+    return CCSIDDecoder.decode(ascii, ascii.readerIndex(), ascii.readableBytes(), CCSIDConstants.UTF8);
+  }
+
+  @Benchmark
+  public String decodeASCIIWithCharset() {
+    return ascii.toString(ascii.readerIndex(), ascii.readableBytes(), CCSIDConstants.UTF8);
+  }
+
+  @Benchmark
+  public String decodeUTF8() {
+    return CCSIDDecoder.decode(utf8, utf8.readerIndex(), utf8.readableBytes(), CCSIDConstants.UTF8);
+  }
+
+  @Benchmark
+  public String decodeUTF8WithCharset() {
+    return utf8.toString(utf8.readerIndex(), utf8.readableBytes(), CCSIDConstants.UTF8);
+  }
+}
@@ -12,12 +12,14 @@
 package examples;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.docgen.Source;
 import io.vertx.mssqlclient.MSSQLBuilder;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
 import io.vertx.mssqlclient.MSSQLConnection;
+import io.vertx.mssqlclient.data.TableValuedParameter;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.data.NullValue;
 
@@ -273,6 +275,31 @@ public class MSSQLClientExamples {
       });
   }
 
+  public void streamedParamExample(Vertx vertx, SqlClient client) {
+    vertx.fileSystem()
+      .open("document.pdf", new OpenOptions().setRead(true))
+      .compose(file -> client
+        .preparedQuery("INSERT INTO documents (content) VALUES (@p1)")
+        .execute(Tuple.of(file)))
+      .onComplete(res -> {
+        // ...
+      });
+  }
+
+  public void tableValuedParamExample(SqlClient client) {
+    // CREATE TYPE dbo.IdList AS TABLE (id BIGINT NOT NULL)
+    TableValuedParameter ids = new TableValuedParameter("dbo.IdList");
+    for (long id = 1; id <= 10_000; id++) {
+      ids.addRow(Tuple.of(id));
+    }
+    client
+      .preparedQuery("SELECT * FROM users WHERE id IN (SELECT id FROM @p1)")
+      .execute(Tuple.of(ids))
+      .onComplete(res -> {
+        // ...
+      });
+  }
+
   public void enumeratedType02Example(SqlClient client) {
     client
       .preparedQuery("SELECT color FROM colors")
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.mssqlclient.data;
+
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A <a href="https://learn.microsoft.com/en-us/sql/relational-databases/tables/use-table-valued-parameters-database-engine">table-valued parameter</a>.
+ * <p>
+ * The rows are sent to the server in a single parameter of a user-defined table type. The type of a column is
+ * determined by its non-null values, unless declared with {@link #setColumnTypes(Class[])}, which is required for a
+ * column that only has null values. A column can not mix values of different types, except integer and
+ * {@link java.math.BigDecimal} values, and all the rows must have the same number of columns.
+ */
+public class TableValuedParameter {
+
+  private final String typeName;
+  private final List<Tuple> rows;
+  private List<Class<?>> columnTypes = Collections.emptyList();
+
+  /**
+   * @param typeName the name of the user-defined table type, optionally qualified by the schema name, e.g. {@code dbo.IdList}
+   */
+  public TableValuedParameter(String typeName) {
+    this(typeName, new ArrayList<>());
+  }
+
+  /**
+   * @param typeName the name of the user-defined table type, optionally qualified by the schema name, e.g. {@code dbo.IdList}
+   * @param rows the rows of the parameter
+   */
+  public TableValuedParameter(String typeName, List<Tuple> rows) {
+    this.typeName = Objects.requireNonNull(typeName, "typeName");
+    this.rows = Objects.requireNonNull(rows, "rows");
+  }
+
+  /**
+   * @return the name of the user-defined table type
+   */
+  public String typeName() {
+    return typeName;
+  }
+
+  /**
+   * @return the rows of the parameter
+   */
+  public List<Tuple> rows() {
+    return rows;
+  }
+
+  /**
+   * @return the declared types of the columns, empty when the types are determined by the values
+   */
+  public List<Class<?>> columnTypes() {
+    return columnTypes;
+  }
+
+  /**
+   * Declare the types of the columns with the classes of their values, e.g. {@code Integer.class},
+   * {@code BigDecimal.class} or {@code Buffer.class}.
+   *
+   * @param columnTypes the types of the columns, in order
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TableValuedParameter setColumnTypes(Class<?>... columnTypes) {
+    for (Class<?> columnType : columnTypes) {
+      Objects.requireNonNull(columnType, "columnType");
+    }
+    this.columnTypes = Collections.unmodifiableList(Arrays.asList(columnTypes.clone()));
+    return this;
+  }
+
+  /**
+   * Add a row to the parameter.
+   *
+   * @param row the values of the row
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TableValuedParameter addRow(Tuple row) {
+    rows.add(Objects.requireNonNull(row, "row"));
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "TableValuedParameter{" +
+      "typeName='" + typeName + '\'' +
+      ", rows=" + rows.size() +
+      '}';
+  }
+}
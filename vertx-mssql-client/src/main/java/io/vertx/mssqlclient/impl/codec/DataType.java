@@ -18,6 +18,9 @@ import io.netty.util.collection.IntObjectHashMap;
 import io.netty.util.collection.IntObjectMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.mssqlclient.data.TableValuedParameter;
+import io.vertx.sqlclient.Tuple;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -28,6 +31,7 @@ import java.sql.JDBCType;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -283,7 +287,26 @@ public enum DataType {
         uValue = (UUID) value;
       } else throw new IllegalArgumentException(value.getClass().getName());
       writeParamSize(byteBuf, 16, 16);
+      writeUUID(byteBuf, uValue);
+    }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      byteBuf.writeByte(16);
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        byteBuf.writeByte(16);
+        writeUUID(byteBuf, (UUID) value);
+      }
+    }
 
+    private void writeUUID(ByteBuf byteBuf, UUID uValue) {
       long msb = uValue.getMostSignificantBits();
       byteBuf.writeIntLE((int) (msb >> 32));
       byteBuf.writeShortLE((short) (msb >> 16));
@@ -343,6 +366,23 @@ public enum DataType {
         byteBuf.writeLongLE(lValue);
       } else throw new IllegalArgumentException(value.getClass().getName());
     }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      // All the values of a column have the same length, use the widest
+      byteBuf.writeByte(8);
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        byteBuf.writeByte(8);
+        byteBuf.writeLongLE(((Number) value).longValue());
+      }
+    }
   },
   BITN(0x68) {
     @Override
@@ -374,6 +414,22 @@ public enum DataType {
       writeParamSize(byteBuf, 1, 1);
       byteBuf.writeBoolean((Boolean) value);
     }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      byteBuf.writeByte(1);
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        byteBuf.writeByte(1);
+        byteBuf.writeBoolean((Boolean) value);
+      }
+    }
   },
   DECIMALN(0x6A) {
     @Override
@@ -412,9 +468,45 @@ public enum DataType {
       BigDecimal bigDecimal = (BigDecimal) value;
       writeParamDescription(byteBuf, name, out, id);
       writeParamSize(byteBuf, 17, 38);
+      byteBuf.writeByte(Math.max(0, bigDecimal.scale()));
+      writeDecimal(byteBuf, bigDecimal);
+    }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      // The scale is part of the type info, the values are rescaled to the largest scale of the column
+      int scale = 0;
+      for (Tuple row : rows) {
+        Object value = row.getValue(column);
+        if (value != null) {
+          scale = Math.max(scale, toBigDecimal(value).scale());
+        }
+      }
+      writeParamSize(byteBuf, 17, 38);
+      byteBuf.writeByte(scale);
+      return new TypeInfo().scale((byte) scale);
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        writeDecimal(byteBuf, toBigDecimal(value).setScale(typeInfo.scale()));
+      }
+    }
+
+    // A decimal column can mix integer and decimal values
+    private BigDecimal toBigDecimal(Object value) {
+      if (value instanceof BigDecimal) {
+        return (BigDecimal) value;
+      }
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+
+    private void writeDecimal(ByteBuf byteBuf, BigDecimal bigDecimal) {
       int sign = bigDecimal.signum() < 0 ? 0 : 1;
       byte[] bytes = (sign == 0 ? bigDecimal.negate() : bigDecimal).unscaledValue().toByteArray();
-      byteBuf.writeByte(Math.max(0, bigDecimal.scale()));
       byteBuf.writeByte(1 + bytes.length);
       byteBuf.writeByte(sign);
       for (int i = bytes.length - 1; i >= 0; i--) byteBuf.writeByte(bytes[i]);
@@ -476,6 +568,22 @@ public enum DataType {
         byteBuf.writeDoubleLE(dValue);
       } else throw new IllegalArgumentException();
     }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      byteBuf.writeByte(8);
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        byteBuf.writeByte(8);
+        byteBuf.writeDoubleLE(((Number) value).doubleValue());
+      }
+    }
   },
   MONEYN(0x6E) {
     @Override
@@ -556,6 +664,21 @@ public enum DataType {
       byteBuf.writeByte(3);
       byteBuf.writeMediumLE(daysFromStartDate((LocalDate) value));
     }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        byteBuf.writeByte(3);
+        byteBuf.writeMediumLE(daysFromStartDate((LocalDate) value));
+      }
+    }
   },
   TIMEN(0x29) {
     @Override
@@ -586,6 +709,22 @@ public enum DataType {
       writeParamSize(byteBuf, 7, 5);
       writeUnsignedInt40LE(byteBuf, hundredsOfNanos((LocalTime) value));
     }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      byteBuf.writeByte(7);
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        byteBuf.writeByte(5);
+        writeUnsignedInt40LE(byteBuf, hundredsOfNanos((LocalTime) value));
+      }
+    }
   },
   DATETIME2N(0x2A) {
     @Override
@@ -620,6 +759,24 @@ public enum DataType {
       writeUnsignedInt40LE(byteBuf, hundredsOfNanos(localDateTime.toLocalTime()));
       byteBuf.writeMediumLE(daysFromStartDate(localDateTime.toLocalDate()));
     }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      byteBuf.writeByte(7);
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        LocalDateTime localDateTime = (LocalDateTime) value;
+        byteBuf.writeByte(8);
+        writeUnsignedInt40LE(byteBuf, hundredsOfNanos(localDateTime.toLocalTime()));
+        byteBuf.writeMediumLE(daysFromStartDate(localDateTime.toLocalDate()));
+      }
+    }
   },
   DATETIMEOFFSETN(0x2B) {
     @Override
@@ -652,6 +809,26 @@ public enum DataType {
       OffsetDateTime offsetDateTime = (OffsetDateTime) value;
       writeParamDescription(byteBuf, name, out, id);
       writeParamSize(byteBuf, 7, 10);
+      writeOffsetDateTime(byteBuf, offsetDateTime);
+    }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      byteBuf.writeByte(7);
+      return null;
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      if (value == null) {
+        byteBuf.writeByte(0);
+      } else {
+        byteBuf.writeByte(10);
+        writeOffsetDateTime(byteBuf, (OffsetDateTime) value);
+      }
+    }
+
+    private void writeOffsetDateTime(ByteBuf byteBuf, OffsetDateTime offsetDateTime) {
       int offsetMinutes = offsetDateTime.getOffset().getTotalSeconds() / 60;
       LocalDateTime localDateTime = offsetDateTime.toLocalDateTime().minusMinutes(offsetMinutes);
       writeUnsignedInt40LE(byteBuf, hundredsOfNanos(localDateTime.toLocalTime()));
@@ -731,7 +908,7 @@ public enum DataType {
       String definition;
       if (value == null) {
         definition = "binary(1)";
-      } else if (((Buffer) value).length() > 8000) {
+      } else if (value instanceof ReadStream || ((Buffer) value).length() > 8000) {
         definition = "varbinary(max)";
       } else {
         definition = "varbinary(8000)";
@@ -741,6 +918,13 @@ public enum DataType {
 
     @Override
     public void encodeParam(ByteBuf byteBuf, String name, boolean out, Object value) {
+      if (value instanceof ReadStream) {
+        // The chunks and the terminator are written by the message encoder as the stream is read
+        writeParamDescription(byteBuf, name, out, id);
+        byteBuf.writeShortLE(0xFFFF);
+        byteBuf.writeLongLE(PLP_UNKNOWN_LENGTH);
+        return;
+      }
       BufferInternal buffer = (BufferInternal) value;
       writeParamDescription(byteBuf, name, out, id);
       if (buffer.length() > 8000) {
@@ -755,6 +939,45 @@ public enum DataType {
         byteBuf.writeBytes(buffer.getByteBuf());
       }
     }
+
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      int maxLength = 8000;
+      for (Tuple row : rows) {
+        Object value = row.getValue(column);
+        if (value instanceof ReadStream) {
+          throw new IllegalArgumentException("Streams are not supported in table-valued parameters");
+        }
+        if (value != null && ((Buffer) value).length() > 8000) {
+          maxLength = 0xFFFF;
+          break;
+        }
+      }
+      byteBuf.writeShortLE(maxLength);
+      return new TypeInfo().maxLength(maxLength);
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      BufferInternal buffer = (BufferInternal) value;
+      if (isPLP(typeInfo)) {
+        if (buffer == null) {
+          byteBuf.writeLongLE(PLP_NULL);
+        } else {
+          byteBuf.writeLongLE(buffer.length());
+          if (buffer.length() > 0) {
+            byteBuf.writeIntLE(buffer.length());
+            byteBuf.writeBytes(buffer.getByteBuf());
+          }
+          byteBuf.writeIntLE(0);
+        }
+      } else if (buffer == null) {
+        byteBuf.writeShortLE(0xFFFF);
+      } else {
+        byteBuf.writeShortLE(buffer.length());
+        byteBuf.writeBytes(buffer.getByteBuf());
+      }
+    }
   },
   BIGVARCHAR(0xA7) {
     @Override
@@ -871,6 +1094,43 @@ public enum DataType {
       }
     }
 
+    @Override
+    public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+      int maxLength = 8000;
+      for (Tuple row : rows) {
+        String val = stringRepresentation(row.getValue(column));
+        if (val != null && val.length() > 4000) {
+          maxLength = 0xFFFF;
+          break;
+        }
+      }
+      byteBuf.writeShortLE(maxLength);
+      writeCollation(byteBuf);
+      return new TypeInfo().maxLength(maxLength);
+    }
+
+    @Override
+    public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+      String val = stringRepresentation(value);
+      if (isPLP(typeInfo)) {
+        if (val == null) {
+          byteBuf.writeLongLE(PLP_NULL);
+        } else {
+          byteBuf.writeLongLE(val.length() * 2L);
+          if (!val.isEmpty()) {
+            byteBuf.writeIntLE(val.length() * 2);
+            byteBuf.writeCharSequence(val, StandardCharsets.UTF_16LE);
+          }
+          byteBuf.writeIntLE(0);
+        }
+      } else if (val == null) {
+        byteBuf.writeShortLE(0xFFFF);
+      } else {
+        byteBuf.writeShortLE(val.length() * 2);
+        byteBuf.writeCharSequence(val, StandardCharsets.UTF_16LE);
+      }
+    }
+
     private void writeCollation(ByteBuf byteBuf) {
       byteBuf.writeInt(0x0904d000);
       byteBuf.writeByte(0x34);
@@ -897,6 +1157,59 @@ public enum DataType {
   XML(0xF1),
   UDT(0xF0),
 
+  // Table Valued Parameter, the rows are sent in the value of the parameter
+  TVP(0xF3) {
+    @Override
+    public String paramDefinition(Object value) {
+      if (value == null) {
+        throw new IllegalArgumentException("A table-valued parameter can not be null");
+      }
+      return ((TableValuedParameter) value).typeName() + " READONLY";
+    }
+
+    @Override
+    public void encodeParam(ByteBuf byteBuf, String name, boolean out, Object value) {
+      TableValuedParameter tvp = (TableValuedParameter) value;
+      writeParamDescription(byteBuf, name, out, id);
+
+      // TVP_TYPENAME, the database name must be empty
+      String typeName = tvp.typeName();
+      int idx = typeName.lastIndexOf('.');
+      writeByteLengthString(byteBuf, null);
+      writeByteLengthString(byteBuf, idx < 0 ? null : typeName.substring(0, idx));
+      writeByteLengthString(byteBuf, typeName.substring(idx + 1));
+
+      // TVP_COLMETADATA
+      List<Tuple> rows = tvp.rows();
+      DataType[] dataTypes = columnDataTypes(tvp);
+      int columnCount = dataTypes.length;
+      TypeInfo[] typeInfos = new TypeInfo[columnCount];
+      if (columnCount == 0) {
+        byteBuf.writeShortLE(TVP_NULL_TOKEN);
+      } else {
+        byteBuf.writeShortLE(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+          DataType dataType = dataTypes[i];
+          byteBuf.writeIntLE(0); // UserType
+          byteBuf.writeShortLE(0x0001); // Flags: nullable
+          byteBuf.writeByte(dataType.id);
+          typeInfos[i] = dataType.encodeColumnTypeInfo(byteBuf, rows, i);
+          byteBuf.writeByte(0); // ColName, must be empty
+        }
+      }
+      byteBuf.writeByte(TVP_END_TOKEN);
+
+      // TVP_ROW
+      for (Tuple row : rows) {
+        byteBuf.writeByte(TVP_ROW_TOKEN);
+        for (int i = 0; i < columnCount; i++) {
+          dataTypes[i].encodeColumnValue(byteBuf, typeInfos[i], row.getValue(i));
+        }
+      }
+      byteBuf.writeByte(TVP_END_TOKEN);
+    }
+  },
+
   TEXT(0x23) {
     @Override
     public TypeInfo decodeTypeInfo(ByteBuf byteBuf) {
@@ -995,6 +1308,11 @@ public enum DataType {
   };
 
   private static final ByteBufAllocator ALLOCATOR = BufferInternal.buffer().getByteBuf().alloc();
+  private static final long PLP_UNKNOWN_LENGTH = 0xFFFFFFFFFFFFFFFEL;
+  private static final long PLP_NULL = 0xFFFFFFFFFFFFFFFFL;
+  private static final int TVP_END_TOKEN = 0x00;
+  private static final int TVP_ROW_TOKEN = 0x01;
+  private static final int TVP_NULL_TOKEN = 0xFFFF;
 
   public final int id;
 
@@ -1023,7 +1341,7 @@ public enum DataType {
   }
 
   private static boolean isPLPNull(long payloadLength) {
-    return payloadLength == 0xFFFFFFFFFFFFFFFFL;
+    return payloadLength == PLP_NULL;
   }
 
   private static ByteBuf readPLP(ByteBuf byteBuf) {
@@ -1084,6 +1402,19 @@ public enum DataType {
     throw new UnsupportedOperationException("Unable to encode param for " + name());
   }
 
+  /**
+   * Encode the type info of a table-valued parameter column, which is shared by all the rows.
+   *
+   * @return the type info to use when encoding the values of the column
+   */
+  public TypeInfo encodeColumnTypeInfo(ByteBuf byteBuf, List<Tuple> rows, int column) {
+    throw new UnsupportedOperationException("Unable to encode column type info for " + name());
+  }
+
+  public void encodeColumnValue(ByteBuf byteBuf, TypeInfo typeInfo, Object value) {
+    throw new UnsupportedOperationException("Unable to encode column value for " + name());
+  }
+
   private static final LocalDate START_DATE = LocalDate.of(1, 1, 1);
   private static final LocalDate START_DATE_DATETIME = LocalDate.of(1900, 1, 1);
   private static final IntObjectMap<DataType> typesById;
@@ -1108,6 +1439,7 @@ public enum DataType {
     typesByValueClass.put(OffsetDateTime.class, DATETIMEOFFSETN);
     typesByValueClass.put(UUID.class, GUID);
     typesByValueClass.put(Buffer.class, BIGVARBINARY);
+    typesByValueClass.put(TableValuedParameter.class, TVP);
   }
 
   public static DataType forId(int id) {
@@ -1116,9 +1448,55 @@ public enum DataType {
     return dataType;
   }
 
+  /**
+   * Determine the types of the columns of a table-valued parameter, from the declared column types or the values
+   * of the rows. A column must not mix values of different types, except integer and decimal values which are
+   * sent as decimal values.
+   *
+   * @return the types of the columns, empty when the parameter has no rows
+   * @throws IllegalArgumentException when the rows do not match the columns or the type of a column can not be determined
+   */
+  public static DataType[] columnDataTypes(TableValuedParameter tvp) {
+    List<Tuple> rows = tvp.rows();
+    if (rows.isEmpty()) {
+      return new DataType[0];
+    }
+    List<Class<?>> columnTypes = tvp.columnTypes();
+    int columnCount = columnTypes.isEmpty() ? rows.get(0).size() : columnTypes.size();
+    for (Tuple row : rows) {
+      if (row.size() != columnCount) {
+        throw new IllegalArgumentException("All the rows of table-valued parameter " + tvp.typeName() + " must have " + columnCount + " columns");
+      }
+    }
+    DataType[] dataTypes = new DataType[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      Class<?> columnType = columnTypes.isEmpty() ? null : columnTypes.get(i);
+      DataType dataType = columnType != null ? forValueClass(columnType) : null;
+      for (Tuple row : rows) {
+        Object value = row.getValue(i);
+        if (value == null) {
+          continue;
+        }
+        DataType valueType = forValueClass(value.getClass());
+        if (dataType == null || (dataType == INTN && valueType == DECIMALN && columnType == null)) {
+          dataType = valueType;
+        } else if (valueType != dataType && !(dataType == DECIMALN && valueType == INTN)) {
+          throw new IllegalArgumentException("Column " + i + " of table-valued parameter " + tvp.typeName() + " can not mix "
+            + dataType + " and " + valueType + " values");
+        }
+      }
+      if (dataType == null) {
+        throw new IllegalArgumentException("Column " + i + " of table-valued parameter " + tvp.typeName()
+          + " only has null values, declare its type with TableValuedParameter#setColumnTypes");
+      }
+      dataTypes[i] = dataType;
+    }
+    return dataTypes;
+  }
+
   public static DataType forValueClass(Class<?> valueClass) {
     DataType dataType;
-    if (Buffer.class.isAssignableFrom(valueClass)) {
+    if (Buffer.class.isAssignableFrom(valueClass) || ReadStream.class.isAssignableFrom(valueClass)) {
       dataType = typesByValueClass.get(Buffer.class);
     } else if (valueClass.isEnum()) {
       dataType = typesByValueClass.get(String.class);
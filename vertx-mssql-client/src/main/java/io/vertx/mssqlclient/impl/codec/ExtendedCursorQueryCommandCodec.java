@@ -88,7 +88,7 @@ class ExtendedCursorQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T
     // Param values
     encodeParams(content, params);
 
-    tdsMessageCodec.encoder().writeTdsMessage(RPC, content);
+    writeRpcMessage(content);
   }
 
   @Override
@@ -12,16 +12,22 @@
 package io.vertx.mssqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.sqlclient.data.NullValue;
 import io.vertx.sqlclient.internal.TupleInternal;
 import io.vertx.sqlclient.internal.command.ExtendedQueryCommand;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.vertx.mssqlclient.impl.codec.DataType.*;
 import static io.vertx.mssqlclient.impl.codec.MessageType.RPC;
 
 abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T, ExtendedQueryCommand<T>> {
 
   final MSSQLPreparedStatement ps;
+  private List<TdsMessageStreamer.StreamedValue> streamedValues;
 
   ExtendedQueryCommandBaseCodec(TdsMessageCodec tdsMessageCodec, ExtendedQueryCommand<T> cmd) {
     super(tdsMessageCodec, cmd);
@@ -99,7 +105,7 @@ abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T,
     // Param values
     encodeParams(content, params);
 
-    tdsMessageCodec.encoder().writeTdsMessage(RPC, content);
+    writeRpcMessage(content);
   }
 
   protected abstract TupleInternal prepexecRequestParams();
@@ -111,7 +117,17 @@ abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T,
 
     writeRpcRequestBatch(content);
 
-    tdsMessageCodec.encoder().writeTdsMessage(RPC, content);
+    writeRpcMessage(content);
+  }
+
+  void writeRpcMessage(ByteBuf content) {
+    if (streamedValues == null) {
+      tdsMessageCodec.encoder().writeTdsMessage(RPC, content);
+    } else {
+      List<TdsMessageStreamer.StreamedValue> values = streamedValues;
+      streamedValues = null;
+      tdsMessageCodec.encoder().writeTdsMessage(RPC, content, values);
+    }
   }
 
   protected void writeRpcRequestBatch(ByteBuf packet) {
@@ -165,6 +181,13 @@ abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T,
       } else {
         DataType dataType = DataType.forValueClass(value.getClass());
         dataType.encodeParam(buffer, name, false, value);
+        if (value instanceof ReadStream) {
+          // The content of the stream is inserted here when the message is written
+          if (streamedValues == null) {
+            streamedValues = new ArrayList<>();
+          }
+          streamedValues.add(new TdsMessageStreamer.StreamedValue(buffer.writerIndex(), (ReadStream<Buffer>) value));
+        }
       }
     }
   }
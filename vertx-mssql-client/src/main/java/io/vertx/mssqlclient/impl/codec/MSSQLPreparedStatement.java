@@ -11,6 +11,7 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
+import io.vertx.mssqlclient.data.TableValuedParameter;
 import io.vertx.sqlclient.internal.ParamDesc;
 import io.vertx.sqlclient.internal.PreparedStatement;
 import io.vertx.sqlclient.internal.RowDesc;
@@ -42,6 +43,16 @@ public class MSSQLPreparedStatement implements PreparedStatement {
 
   @Override
   public String prepare(TupleInternal values) {
+    for (int i = 0; i < values.size(); i++) {
+      Object value = values.getValue(i);
+      if (value instanceof TableValuedParameter) {
+        try {
+          DataType.columnDataTypes((TableValuedParameter) value);
+        } catch (IllegalArgumentException e) {
+          return e.getMessage();
+        }
+      }
+    }
     return null;
   }
 }
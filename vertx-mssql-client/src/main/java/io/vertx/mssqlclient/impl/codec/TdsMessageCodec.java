@@ -54,7 +54,7 @@ public class TdsMessageCodec extends CombinedChannelDuplexHandler<TdsMessageDeco
     super.exceptionCaught(ctx, cause);
   }
 
-  private void fail(Throwable cause) {
+  void fail(Throwable cause) {
     if (failure == null) {
       failure = cause;
       for (Iterator<MSSQLCommandCodec<?, ?>> it = inflight.iterator(); it.hasNext(); ) {
@@ -74,6 +74,7 @@ public class TdsMessageCodec extends CombinedChannelDuplexHandler<TdsMessageDeco
   @Override
   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
     fail(ClosedConnectionException.INSTANCE);
+    encoder.channelInactive();
     super.channelInactive(ctx);
   }
 
@@ -48,6 +48,12 @@ public class TdsMessageDecoder extends ChannelInboundHandlerAdapter {
     }
   }
 
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    tdsMessageCodec.encoder().channelWritabilityChanged();
+    super.channelWritabilityChanged(ctx);
+  }
+
   @Override
   public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
     releaseMessage();
@@ -18,6 +18,9 @@ import io.netty.channel.ChannelPromise;
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
 import io.vertx.sqlclient.internal.command.*;
 
+import java.util.ArrayDeque;
+import java.util.List;
+
 import static io.vertx.mssqlclient.MSSQLConnectOptions.MIN_PACKET_SIZE;
 import static io.vertx.mssqlclient.impl.codec.MessageStatus.END_OF_MESSAGE;
 import static io.vertx.mssqlclient.impl.codec.MessageStatus.NORMAL;
@@ -29,6 +32,8 @@ public class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
 
   private ChannelHandlerContext chctx;
   private int payloadMaxLength;
+  private TdsMessageStreamer streamer;
+  private ArrayDeque<CommandBase<?>> pendingCommands;
 
   public TdsMessageEncoder(TdsMessageCodec tdsMessageCodec, int desiredPacketSize) {
     this.tdsMessageCodec = tdsMessageCodec;
@@ -51,6 +56,14 @@ public class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
   }
 
   void write(CommandBase<?> cmd) {
+    if (streamer != null) {
+      // The packets of a message can not be interleaved with those of another message
+      if (pendingCommands == null) {
+        pendingCommands = new ArrayDeque<>();
+      }
+      pendingCommands.add(cmd);
+      return;
+    }
     MSSQLCommandCodec<?, ?> codec = wrap(cmd);
     if (tdsMessageCodec.add(codec)) {
       codec.encode();
@@ -121,7 +134,39 @@ public class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
     }
   }
 
-  private void writeTdsPacket(short messageType, short status, int length, ByteBuf payload) {
+  /**
+   * Write a message which contains values read from streams, see {@link TdsMessageStreamer}.
+   */
+  void writeTdsMessage(short messageType, ByteBuf tdsMessageContent, List<TdsMessageStreamer.StreamedValue> streamedValues) {
+    streamer = new TdsMessageStreamer(this, chctx, messageType, tdsMessageContent, streamedValues, payloadMaxLength);
+    streamer.start();
+  }
+
+  void streamingEnded() {
+    streamer = null;
+    while (streamer == null && pendingCommands != null && !pendingCommands.isEmpty()) {
+      write(pendingCommands.poll());
+    }
+  }
+
+  void streamingFailed(Throwable cause) {
+    tdsMessageCodec.fail(cause);
+    chctx.close();
+  }
+
+  void channelWritabilityChanged() {
+    if (streamer != null) {
+      streamer.channelWritabilityChanged();
+    }
+  }
+
+  void channelInactive() {
+    if (streamer != null) {
+      streamer.channelInactive();
+    }
+  }
+
+  void writeTdsPacket(short messageType, short status, int length, ByteBuf payload) {
     ByteBuf header = chctx.alloc().ioBuffer(PACKET_HEADER_SIZE);
     header.writeByte(messageType);
     header.writeByte(status);
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static io.vertx.mssqlclient.impl.codec.MessageStatus.END_OF_MESSAGE;
+import static io.vertx.mssqlclient.impl.codec.MessageStatus.NORMAL;
+
+/**
+ * Writes a TDS message which contains values read from {@link ReadStream} instances.
+ * <p>
+ * The content of the message is written up to the offset of the first streamed value, then the buffers of the stream
+ * are written as PLP chunks until the stream ends, and so on. Packets are written as soon as they are full, the stream
+ * is paused when the channel is not writable.
+ */
+class TdsMessageStreamer {
+
+  /**
+   * A value to insert in the content of the message.
+   */
+  static final class StreamedValue {
+
+    final int offset;
+    final ReadStream<Buffer> stream;
+
+    StreamedValue(int offset, ReadStream<Buffer> stream) {
+      this.offset = offset;
+      this.stream = stream;
+    }
+  }
+
+  private final TdsMessageEncoder encoder;
+  private final ChannelHandlerContext chctx;
+  private final short messageType;
+  private final ByteBuf content;
+  private final Iterator<StreamedValue> streamedValues;
+  private final int payloadMaxLength;
+
+  private ByteBuf pending;
+  private ReadStream<Buffer> stream;
+  private boolean paused;
+  private boolean done;
+
+  TdsMessageStreamer(TdsMessageEncoder encoder, ChannelHandlerContext chctx, short messageType, ByteBuf content, List<StreamedValue> streamedValues, int payloadMaxLength) {
+    this.encoder = encoder;
+    this.chctx = chctx;
+    this.messageType = messageType;
+    this.content = content;
+    this.streamedValues = streamedValues.iterator();
+    this.payloadMaxLength = payloadMaxLength;
+  }
+
+  void start() {
+    pending = chctx.alloc().ioBuffer(payloadMaxLength);
+    writeContent();
+  }
+
+  private void writeContent() {
+    if (streamedValues.hasNext()) {
+      StreamedValue value = streamedValues.next();
+      pending.writeBytes(content, value.offset - content.readerIndex());
+      writeFullPackets();
+      ReadStream<Buffer> s = value.stream;
+      stream = s;
+      EventExecutor executor = chctx.executor();
+      s.exceptionHandler(err -> execute(executor, () -> handleFailure(err)));
+      s.endHandler(v -> execute(executor, this::handleEnd));
+      s.handler(buffer -> execute(executor, () -> handleChunk(buffer)));
+      // The stream might have ended synchronously
+      if (stream == s) {
+        if (chctx.channel().isWritable()) {
+          s.resume();
+        } else {
+          pause();
+        }
+      }
+    } else {
+      pending.writeBytes(content);
+      content.release();
+      writeFullPackets();
+      // The last packet is never empty
+      encoder.writeTdsPacket(messageType, END_OF_MESSAGE, pending.readableBytes(), pending);
+      pending = null;
+      end();
+    }
+  }
+
+  private void execute(EventExecutor executor, Runnable task) {
+    if (executor.inEventLoop()) {
+      task.run();
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  private void handleChunk(Buffer buffer) {
+    if (done || buffer.length() == 0) {
+      // An empty chunk would terminate the value
+      return;
+    }
+    pending.writeIntLE(buffer.length());
+    pending.writeBytes(((BufferInternal) buffer).getByteBuf());
+    writeFullPackets();
+    if (!chctx.channel().isWritable()) {
+      pause();
+    }
+  }
+
+  private void handleEnd() {
+    if (done) {
+      return;
+    }
+    detach();
+    pending.writeIntLE(0); // PLP terminator
+    writeContent();
+  }
+
+  private void handleFailure(Throwable cause) {
+    if (done) {
+      return;
+    }
+    detach();
+    release();
+    // The server is waiting for the end of a message which can not be completed
+    encoder.streamingFailed(cause);
+    end();
+  }
+
+  // Writes the packets which are full, at least one byte is kept for the last packet of the message
+  private void writeFullPackets() {
+    if (pending.readableBytes() <= payloadMaxLength) {
+      return;
+    }
+    while (pending.readableBytes() > payloadMaxLength) {
+      encoder.writeTdsPacket(messageType, NORMAL, payloadMaxLength, pending.readRetainedSlice(payloadMaxLength));
+    }
+    // The packets share the memory of the pending buffer, copy the remaining bytes before writing more data
+    ByteBuf remaining = chctx.alloc().ioBuffer(payloadMaxLength);
+    remaining.writeBytes(pending);
+    pending.release();
+    pending = remaining;
+    chctx.flush();
+  }
+
+  private void pause() {
+    if (!paused) {
+      paused = true;
+      stream.pause();
+    }
+  }
+
+  void channelWritabilityChanged() {
+    if (paused && !done && chctx.channel().isWritable()) {
+      paused = false;
+      stream.resume();
+    }
+  }
+
+  void channelInactive() {
+    if (!done) {
+      detach();
+      release();
+      end();
+    }
+  }
+
+  private void detach() {
+    if (stream != null) {
+      stream.handler(null);
+      stream.endHandler(null);
+      stream.exceptionHandler(null);
+      stream = null;
+      paused = false;
+    }
+  }
+
+  private void release() {
+    if (pending != null) {
+      pending.release();
+      pending = null;
+    }
+    if (content.refCnt() > 0) {
+      content.release();
+    }
+  }
+
+  private void end() {
+    if (!done) {
+      done = true;
+      encoder.streamingEnded();
+    }
+  }
+}
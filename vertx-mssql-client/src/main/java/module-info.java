@@ -13,6 +13,7 @@ module io.vertx.sql.client.mssql {
   provides io.vertx.sqlclient.spi.Driver with io.vertx.mssqlclient.spi.MSSQLDriver;
 
   exports io.vertx.mssqlclient;
+  exports io.vertx.mssqlclient.data;
   exports io.vertx.mssqlclient.spi;
 
   exports io.vertx.mssqlclient.impl to io.vertx.tests.sql.client.mssql;
@@ -11,11 +11,18 @@
 
 package io.vertx.tests.mssqlclient;
 
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
 import io.vertx.mssqlclient.MSSQLConnection;
+import io.vertx.sqlclient.ClosedConnectionException;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.Tuple;
 import org.junit.After;
@@ -23,7 +30,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
@@ -69,4 +79,110 @@ public class MSSQLMultipleTdsPacketsTest extends MSSQLTestBase {
           }));
       }));
   }
+
+  @Test
+  public void testStreamedParam(TestContext ctx) throws Exception {
+    byte[] bytes = new byte[1024 * 1024];
+    new Random().nextBytes(bytes);
+    File file = File.createTempFile("mssql", ".bin");
+    file.deleteOnExit();
+    Files.write(file.toPath(), bytes);
+    vertx.fileSystem().open(file.getAbsolutePath(), new OpenOptions().setRead(true)).onComplete(ctx.asyncAssertSuccess(stream -> {
+      // The value is followed by another parameter, which must be written after the chunks of the stream
+      connection.preparedQuery("SELECT @p1, @p2")
+        .execute(Tuple.of(stream, "after")).onComplete(ctx.asyncAssertSuccess(result -> {
+          Row row = result.iterator().next();
+          ctx.assertEquals(Buffer.buffer(bytes), row.getBuffer(0));
+          ctx.assertEquals("after", row.getString(1));
+        }));
+    }));
+  }
+
+  @Test
+  public void testStreamedParamFailure(TestContext ctx) {
+    Async closed = ctx.async();
+    connection.closeHandler(v -> {
+      connection = null;
+      closed.complete();
+    });
+    // Enough chunks are emitted to write several packets before the stream fails
+    FailingStream stream = new FailingStream(vertx.getOrCreateContext(), 64, new Exception("expected"));
+    connection.preparedQuery("SELECT @p1, @p2")
+      .execute(Tuple.of(stream, "after")).onComplete(ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals("expected", err.getMessage());
+      }));
+    // Queued behind the streaming message, it must fail when the connection is closed
+    connection.query("SELECT 1").execute().onComplete(ctx.asyncAssertFailure(err -> {
+      ctx.assertTrue(err instanceof ClosedConnectionException || "expected".equals(err.getMessage()), err.toString());
+    }));
+  }
+
+  private static class FailingStream implements ReadStream<Buffer> {
+
+    private final Context context;
+    private final Throwable failure;
+    private int remaining;
+    private boolean paused = true;
+    private Handler<Buffer> handler;
+    private Handler<Throwable> exceptionHandler;
+
+    FailingStream(Context context, int chunks, Throwable failure) {
+      this.context = context;
+      this.remaining = chunks;
+      this.failure = failure;
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      exceptionHandler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+      this.handler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> pause() {
+      paused = true;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      if (paused) {
+        paused = false;
+        context.runOnContext(v -> emit());
+      }
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(long amount) {
+      return resume();
+    }
+
+    @Override
+    public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+      return this;
+    }
+
+    private void emit() {
+      if (paused) {
+        return;
+      }
+      if (remaining-- > 0) {
+        byte[] chunk = new byte[1024];
+        new Random().nextBytes(chunk);
+        if (handler != null) {
+          handler.handle(Buffer.buffer(chunk));
+        }
+        context.runOnContext(v -> emit());
+      } else if (exceptionHandler != null) {
+        exceptionHandler.handle(failure);
+      }
+    }
+  }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.mssqlclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.mssqlclient.MSSQLConnectOptions;
+import io.vertx.mssqlclient.MSSQLConnection;
+import io.vertx.mssqlclient.data.TableValuedParameter;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.UUID;
+
+@RunWith(VertxUnitRunner.class)
+public class MSSQLTableValuedParameterTest extends MSSQLTestBase {
+
+  Vertx vertx;
+  MSSQLConnection connection;
+
+  @Before
+  public void setup(TestContext ctx) {
+    vertx = Vertx.vertx();
+    options = new MSSQLConnectOptions(MSSQLTestBase.options);
+    MSSQLConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> this.connection = conn));
+  }
+
+  @After
+  public void tearDown(TestContext ctx) {
+    if (connection != null) {
+      connection.close().onComplete(ctx.asyncAssertSuccess());
+    }
+    vertx.close().onComplete(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testRows(TestContext ctx) {
+    UUID uuid = UUID.randomUUID();
+    String longString = String.join("", Collections.nCopies(5000, "x"));
+    TableValuedParameter tvp = new TableValuedParameter("dbo.TvpTestType")
+      .addRow(Tuple.of(1, new BigDecimal("1.5"), "foo", Buffer.buffer("bar"), LocalDate.of(2024, 1, 31), uuid))
+      .addRow(Tuple.of(2, new BigDecimal("-12.125"), longString, null, null, null))
+      .addRow(Tuple.of(3L, null, null, Buffer.buffer(), LocalDate.of(1970, 1, 1), null));
+    connection
+      .preparedQuery("SELECT id, test_decimal, test_varchar, test_binary, test_date, test_uuid FROM @P1 ORDER BY id")
+      .execute(Tuple.of(tvp))
+      .onComplete(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(3, rows.size());
+        RowIterator<Row> it = rows.iterator();
+        Row row = it.next();
+        ctx.assertEquals(1, row.getInteger(0));
+        ctx.assertEquals(new BigDecimal("1.500"), row.getBigDecimal(1));
+        ctx.assertEquals("foo", row.getString(2));
+        ctx.assertEquals(Buffer.buffer("bar"), row.getBuffer(3));
+        ctx.assertEquals(LocalDate.of(2024, 1, 31), row.getLocalDate(4));
+        ctx.assertEquals(uuid, row.getUUID(5));
+        row = it.next();
+        ctx.assertEquals(2, row.getInteger(0));
+        ctx.assertEquals(new BigDecimal("-12.125"), row.getBigDecimal(1));
+        ctx.assertEquals(longString, row.getString(2));
+        ctx.assertNull(row.getValue(3));
+        ctx.assertNull(row.getValue(4));
+        ctx.assertNull(row.getValue(5));
+        row = it.next();
+        ctx.assertEquals(3, row.getInteger(0));
+        ctx.assertNull(row.getValue(1));
+        ctx.assertNull(row.getValue(2));
+        ctx.assertEquals(Buffer.buffer(), row.getBuffer(3));
+      }));
+  }
+
+  @Test
+  public void testJoin(TestContext ctx) {
+    TableValuedParameter tvp = new TableValuedParameter("TvpTestType")
+      .setColumnTypes(Integer.class, BigDecimal.class, String.class, Buffer.class, LocalDate.class, UUID.class);
+    for (int i = 1; i <= 10000; i++) {
+      tvp.addRow(Tuple.of(i, null, null, null, null, null));
+    }
+    connection
+      .preparedQuery("SELECT COUNT(*) FROM immutable WHERE id IN (SELECT id FROM @P1)")
+      .execute(Tuple.of(tvp))
+      .onComplete(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(12, rows.iterator().next().getInteger(0));
+      }));
+  }
+
+  @Test
+  public void testNullColumns(TestContext ctx) {
+    // The binary column can not be converted from the default character type
+    TableValuedParameter tvp = new TableValuedParameter("dbo.TvpTestType")
+      .setColumnTypes(Integer.class, BigDecimal.class, String.class, Buffer.class, LocalDate.class, UUID.class)
+      .addRow(Tuple.of(1, null, null, null, null, null))
+      .addRow(Tuple.of(2, null, null, null, null, null));
+    connection
+      .preparedQuery("SELECT id, test_binary FROM @P1 ORDER BY id")
+      .execute(Tuple.of(tvp))
+      .onComplete(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(2, rows.size());
+        for (Row row : rows) {
+          ctx.assertNull(row.getValue(1));
+        }
+      }));
+  }
+
+  @Test
+  public void testUndeclaredNullColumn(TestContext ctx) {
+    TableValuedParameter tvp = new TableValuedParameter("dbo.TvpTestType")
+      .addRow(Tuple.of(1, null, "foo", null, null, null));
+    connection
+      .preparedQuery("SELECT COUNT(*) FROM @P1")
+      .execute(Tuple.of(tvp))
+      .onComplete(ctx.asyncAssertFailure(err -> {
+        ctx.assertTrue(err.getMessage().contains("only has null values"), err.getMessage());
+      }));
+  }
+
+  @Test
+  public void testMixedNumericColumn(TestContext ctx) {
+    TableValuedParameter tvp = new TableValuedParameter("dbo.TvpTestType")
+      .setColumnTypes(Integer.class, BigDecimal.class, String.class, Buffer.class, LocalDate.class, UUID.class)
+      .addRow(Tuple.of(1, 12, null, null, null, null))
+      .addRow(Tuple.of(2, new BigDecimal("1.25"), null, null, null, null));
+    connection
+      .preparedQuery("SELECT id, test_decimal FROM @P1 ORDER BY id")
+      .execute(Tuple.of(tvp))
+      .onComplete(ctx.asyncAssertSuccess(rows -> {
+        RowIterator<Row> it = rows.iterator();
+        ctx.assertEquals(0, new BigDecimal("12").compareTo(it.next().getBigDecimal(1)));
+        ctx.assertEquals(0, new BigDecimal("1.25").compareTo(it.next().getBigDecimal(1)));
+      }));
+  }
+
+  @Test
+  public void testMixedTypesColumn(TestContext ctx) {
+    TableValuedParameter tvp = new TableValuedParameter("dbo.TvpTestType")
+      .setColumnTypes(Integer.class, BigDecimal.class, String.class, Buffer.class, LocalDate.class, UUID.class)
+      .addRow(Tuple.of(1, null, "foo", null, null, null))
+      .addRow(Tuple.of(2, null, 3, null, null, null));
+    connection
+      .preparedQuery("SELECT COUNT(*) FROM @P1")
+      .execute(Tuple.of(tvp))
+      .onComplete(ctx.asyncAssertFailure(err -> {
+        ctx.assertTrue(err.getMessage().contains("can not mix"), err.getMessage());
+        // The connection is still usable
+        connection
+          .query("SELECT 1")
+          .execute()
+          .onComplete(ctx.asyncAssertSuccess());
+      }));
+  }
+
+  @Test
+  public void testEmpty(TestContext ctx) {
+    connection
+      .preparedQuery("SELECT COUNT(*) FROM @P1")
+      .execute(Tuple.of(new TableValuedParameter("dbo.TvpTestType")))
+      .onComplete(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(0, rows.iterator().next().getInteger(0));
+      }));
+  }
+}
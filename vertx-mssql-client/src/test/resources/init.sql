@@ -289,6 +289,21 @@ END
 GO
 -- Procedure for testing streaming with no cursor
 
+-- Table type for testing table-valued parameters
+DROP TYPE IF EXISTS dbo.TvpTestType;
+CREATE TYPE dbo.TvpTestType AS TABLE
+(
+  id           INT NOT NULL,
+  test_decimal DECIMAL(10, 3),
+  test_varchar NVARCHAR(MAX),
+  test_binary  VARBINARY(100),
+  test_date    DATE,
+  test_uuid    UNIQUEIDENTIFIER
+);
+
+GO
+-- Table type for testing table-valued parameters
+
 -- Collector API testing
 DROP TABLE IF EXISTS collector_test;
 CREATE TABLE collector_test
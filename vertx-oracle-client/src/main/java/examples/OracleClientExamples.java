@@ -15,6 +15,8 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.docgen.Source;
 import io.vertx.oracleclient.*;
 import io.vertx.oracleclient.data.Blob;
@@ -22,6 +24,7 @@ import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.data.Numeric;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Map;
 import java.util.stream.Collector;
@@ -240,6 +243,30 @@ public class OracleClientExamples {
       .setReconnectInterval(1000);
   }
 
+  public void workerPool(OracleConnectOptions options) {
+    // Blocking driver calls are executed on a pool of 20 threads shared by the clients using this name
+    options
+      .setWorkerPoolName("oracle-pool")
+      .setWorkerPoolSize(20);
+  }
+
+  public void prefetch(OracleConnectOptions options, SqlClient client) {
+    options
+      .setCachePreparedStatements(true)
+      .setPreparedStatementCacheMaxSize(50)
+      // Fetch 500 rows per round-trip instead of 10
+      .setDefaultRowPrefetch(500)
+      .setDefaultLobPrefetchSize(32 * 1024);
+
+    // Fetch 5000 rows per round-trip for this query
+    client
+      .preparedQuery("SELECT * FROM events WHERE day = ?", new OraclePrepareOptions().setFetchSize(5000))
+      .execute(Tuple.of(LocalDate.now()))
+      .onComplete(ar -> {
+        // Do something
+      });
+  }
+
   public void implicitTypeConversionExample(SqlClient client) {
     client
       .preparedQuery("SELECT * FROM students WHERE updated_time = ?")
@@ -520,6 +547,27 @@ public class OracleClientExamples {
       });
   }
 
+  public void lobStreaming(SqlConnection connection, ReadStream<Buffer> imageStream, WriteStream<Buffer> output, Long id) {
+    connection.preparedQuery("INSERT INTO images (name, data) VALUES (?, ?)")
+      // The stream is written to the BLOB before the statement is executed
+      .execute(Tuple.of("beautiful-sunset.jpg", imageStream))
+      .onComplete(ar -> {
+        // Do something
+      });
+
+    connection.preparedQuery("SELECT data FROM images WHERE id = ?", new OraclePrepareOptions().setLobStreaming(true))
+      .execute(Tuple.of(id))
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          Row row = ar.result().iterator().next();
+
+          // The BLOB content is read as the stream is consumed, the handler must be set when the result is delivered
+          ReadStream<Buffer> data = row.getStream("data");
+          data.pipeTo(output);
+        }
+      });
+  }
+
 
   public void setSsl(OracleConnectOptions oracleConnectOptions) {
     oracleConnectOptions.setSsl(true);
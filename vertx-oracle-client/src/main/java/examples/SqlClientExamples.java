@@ -363,6 +363,39 @@ public class SqlClientExamples {
   public void poolConfig01() {
   }
 
+  public void poolLoadBalancing() {
+  }
+
+  public void poolReadReplicas() {
+  }
+
+  public void poolReadOnly() {
+  }
+
+  public void poolHedging() {
+  }
+
   public void poolConfig02() {
   }
+
+  public void poolWarmUp() {
+  }
+
+  public void poolDeadline() {
+  }
+
+  public void poolLoadShedding() {
+  }
+
+  public void poolLanes() {
+  }
+
+  public void poolLaneSelection() {
+  }
+
+  public void poolSharded() {
+  }
+
+  public void poolStatementAffinity() {
+  }
 }
@@ -43,6 +43,9 @@ public class OracleConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_PASSWORD = "";
   public static final String DEFAULT_DATABASE = "";
   public static final boolean DEFAULT_SSL = false;
+  public static final int DEFAULT_WORKER_POOL_SIZE = 0;
+  public static final int DEFAULT_ROW_PREFETCH = -1;
+  public static final int DEFAULT_LOB_PREFETCH_SIZE = -1;
 
   private String serviceId;
   private String serviceName;
@@ -51,6 +54,10 @@ public class OracleConnectOptions extends SqlConnectOptions {
   private String tnsAlias;
   private String tnsAdmin;
   private boolean ssl;
+  private String workerPoolName;
+  private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+  private int defaultRowPrefetch = DEFAULT_ROW_PREFETCH;
+  private int defaultLobPrefetchSize = DEFAULT_LOB_PREFETCH_SIZE;
 
   public OracleConnectOptions() {
     super();
@@ -69,6 +76,10 @@ public class OracleConnectOptions extends SqlConnectOptions {
     this.tnsAlias = other.tnsAlias;
     this.tnsAdmin = other.tnsAdmin;
     this.ssl = other.ssl;
+    this.workerPoolName = other.workerPoolName;
+    this.workerPoolSize = other.workerPoolSize;
+    this.defaultRowPrefetch = other.defaultRowPrefetch;
+    this.defaultLobPrefetchSize = other.defaultLobPrefetchSize;
   }
 
   public OracleConnectOptions(SqlConnectOptions options) {
@@ -353,6 +364,96 @@ public class OracleConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return the size of the worker pool dedicated to the blocking driver calls
+   */
+  public int getWorkerPoolSize() {
+    return workerPoolSize;
+  }
+
+  /**
+   * Set the size of the worker pool dedicated to the blocking driver calls, the default value {@code 0} runs them on
+   * the Vert.x worker pool.
+   * <p>
+   * A dedicated pool prevents the client from starving the other blocking tasks of the application, sizing it to the
+   * maximum number of connections lets the client concurrency scale with the connections.
+   * The pool reports the Vert.x worker pool metrics (queue delay, pending tasks, usage) under its name.
+   *
+   * @param workerPoolSize the pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OracleConnectOptions setWorkerPoolSize(int workerPoolSize) {
+    if (workerPoolSize < 0) {
+      throw new IllegalArgumentException("workerPoolSize must be >= 0");
+    }
+    this.workerPoolSize = workerPoolSize;
+    return this;
+  }
+
+  /**
+   * @return the name of the worker pool dedicated to the blocking driver calls
+   */
+  public String getWorkerPoolName() {
+    return workerPoolName;
+  }
+
+  /**
+   * Set the name of the worker pool dedicated to the blocking driver calls, clients using the same name share the
+   * pool. When no name is set, each client uses its own pool.
+   *
+   * @param workerPoolName the pool name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OracleConnectOptions setWorkerPoolName(String workerPoolName) {
+    this.workerPoolName = workerPoolName;
+    return this;
+  }
+
+  /**
+   * @return the number of rows fetched per round-trip by default
+   */
+  public int getDefaultRowPrefetch() {
+    return defaultRowPrefetch;
+  }
+
+  /**
+   * Set the number of rows fetched per round-trip by default, the default value {@code -1} uses the driver default
+   * ({@code 10} rows). This can be overridden per query with {@link OraclePrepareOptions#setFetchSize(int)}.
+   *
+   * @param defaultRowPrefetch the number of rows
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OracleConnectOptions setDefaultRowPrefetch(int defaultRowPrefetch) {
+    if (defaultRowPrefetch == 0 || defaultRowPrefetch < -1) {
+      throw new IllegalArgumentException("defaultRowPrefetch must be > 0 or -1");
+    }
+    this.defaultRowPrefetch = defaultRowPrefetch;
+    return this;
+  }
+
+  /**
+   * @return the number of bytes or characters of a large object fetched with its locator by default
+   */
+  public int getDefaultLobPrefetchSize() {
+    return defaultLobPrefetchSize;
+  }
+
+  /**
+   * Set the number of bytes ({@code BLOB}) or characters ({@code CLOB}) of a large object fetched with its locator by
+   * default, the default value {@code -1} uses the driver default. This can be overridden per query with
+   * {@link OraclePrepareOptions#setLobPrefetchSize(int)}.
+   *
+   * @param defaultLobPrefetchSize the prefetch size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OracleConnectOptions setDefaultLobPrefetchSize(int defaultLobPrefetchSize) {
+    if (defaultLobPrefetchSize < -1) {
+      throw new IllegalArgumentException("defaultLobPrefetchSize must be >= -1");
+    }
+    this.defaultLobPrefetchSize = defaultLobPrefetchSize;
+    return this;
+  }
+
   @Override
   public JsonObject toJson() {
     JsonObject json = super.toJson();
@@ -22,9 +22,15 @@ import io.vertx.sqlclient.PrepareOptions;
 public class OraclePrepareOptions extends PrepareOptions {
 
   public static final boolean DEFAULT_AUTO_GENERATED_KEY = true;
+  public static final boolean DEFAULT_LOB_STREAMING = false;
+  public static final int DEFAULT_FETCH_SIZE = 0;
+  public static final int DEFAULT_LOB_PREFETCH_SIZE = -1;
 
   private boolean autoGeneratedKeys = DEFAULT_AUTO_GENERATED_KEY;
   private JsonArray autoGeneratedKeysIndexes;
+  private boolean lobStreaming = DEFAULT_LOB_STREAMING;
+  private int fetchSize = DEFAULT_FETCH_SIZE;
+  private int lobPrefetchSize = DEFAULT_LOB_PREFETCH_SIZE;
 
   public OraclePrepareOptions() {
   }
@@ -33,6 +39,9 @@ public class OraclePrepareOptions extends PrepareOptions {
     super(options);
     this.autoGeneratedKeys = options.autoGeneratedKeys;
     this.autoGeneratedKeysIndexes = options.autoGeneratedKeysIndexes != null ? options.autoGeneratedKeysIndexes.copy() : null;
+    this.lobStreaming = options.lobStreaming;
+    this.fetchSize = options.fetchSize;
+    this.lobPrefetchSize = options.lobPrefetchSize;
   }
 
   public OraclePrepareOptions(JsonObject json) {
@@ -76,6 +85,73 @@ public class OraclePrepareOptions extends PrepareOptions {
     return this;
   }
 
+  /**
+   * @return whether {@code BLOB} and {@code CLOB} values are streamed
+   */
+  public boolean isLobStreaming() {
+    return lobStreaming;
+  }
+
+  /**
+   * Set whether {@code BLOB} and {@code CLOB} values are streamed.
+   * <p>
+   * When enabled, large object columns are returned as a {@link io.vertx.core.streams.ReadStream ReadStream<Buffer>}
+   * instead of being loaded in memory, the content is read from the database on demand when the stream is consumed.
+   * {@code CLOB} content is streamed as UTF-8 encoded bytes. The connection executes no other command until the streams
+   * are fully read or their rows are released with {@link io.vertx.sqlclient.Row#release()}.
+   *
+   * @param lobStreaming {@code true} to stream large objects
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OraclePrepareOptions setLobStreaming(boolean lobStreaming) {
+    this.lobStreaming = lobStreaming;
+    return this;
+  }
+
+  /**
+   * @return the number of rows fetched per round-trip
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Set the number of rows fetched per round-trip, the default value {@code 0} uses
+   * {@link OracleConnectOptions#getDefaultRowPrefetch()}.
+   *
+   * @param fetchSize the number of rows
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OraclePrepareOptions setFetchSize(int fetchSize) {
+    if (fetchSize < 0) {
+      throw new IllegalArgumentException("fetchSize must be >= 0");
+    }
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * @return the number of bytes or characters of a large object fetched with its locator
+   */
+  public int getLobPrefetchSize() {
+    return lobPrefetchSize;
+  }
+
+  /**
+   * Set the number of bytes ({@code BLOB}) or characters ({@code CLOB}) of a large object fetched with its locator,
+   * the default value {@code -1} uses {@link OracleConnectOptions#getDefaultLobPrefetchSize()}.
+   *
+   * @param lobPrefetchSize the prefetch size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OraclePrepareOptions setLobPrefetchSize(int lobPrefetchSize) {
+    if (lobPrefetchSize < -1) {
+      throw new IllegalArgumentException("lobPrefetchSize must be >= -1");
+    }
+    this.lobPrefetchSize = lobPrefetchSize;
+    return this;
+  }
+
   @Override
   public JsonObject toJson() {
     JsonObject jsonObject = new JsonObject();
@@ -88,6 +164,9 @@ public class OraclePrepareOptions extends PrepareOptions {
     return "OraclePrepareOptions{" +
       "autoGeneratedKeys=" + autoGeneratedKeys +
       ", autoGeneratedKeysIndexes=" + autoGeneratedKeysIndexes +
+      ", lobStreaming=" + lobStreaming +
+      ", fetchSize=" + fetchSize +
+      ", lobPrefetchSize=" + lobPrefetchSize +
       '}';
   }
 }
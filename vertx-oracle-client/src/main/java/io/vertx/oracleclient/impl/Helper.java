@@ -12,11 +12,16 @@ package io.vertx.oracleclient.impl;
 
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.oracleclient.OracleException;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.RowBase;
+import oracle.jdbc.OracleBlob;
+import oracle.jdbc.OracleClob;
 import oracle.sql.TIMESTAMPTZ;
 
 import java.sql.*;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -72,6 +77,26 @@ public class Helper {
     }
   }
 
+  /**
+   * Like {@link #convertSqlValue(Object)} but large objects are converted to a {@link LobReadStream} released along
+   * with the {@code row} when {@code lobStreams} is not {@code null}.
+   */
+  public static Object convertSqlValue(LobStreams lobStreams, RowBase row, Object value) throws SQLException {
+    if (lobStreams != null) {
+      LobReadStream<?> stream = null;
+      if (value instanceof OracleBlob) {
+        stream = lobStreams.blob((OracleBlob) value);
+      } else if (value instanceof OracleClob) {
+        stream = lobStreams.clob((OracleClob) value);
+      }
+      if (stream != null) {
+        row.addStream(stream);
+        return stream;
+      }
+    }
+    return convertSqlValue(value);
+  }
+
   public static Object convertSqlValue(Object value) throws SQLException {
     if (value == null) {
       return null;
@@ -348,4 +373,25 @@ public class Helper {
   public static Future<Void> executeBlocking(Context context, SQLBlockingTaskHandler blockingTaskHandler) {
     return context.executeBlocking(blockingTaskHandler, false);
   }
+
+  /**
+   * Execute the blocking code on the {@code workerExecutor} when it is not {@code null}, otherwise on the Vert.x worker
+   * pool, the result is completed on the {@code context}.
+   */
+  private static <T> Future<T> executeBlocking(Context context, WorkerExecutor workerExecutor, Callable<T> blockingCodeHandler) {
+    if (workerExecutor == null) {
+      return context.executeBlocking(blockingCodeHandler, false);
+    }
+    Promise<T> promise = ((ContextInternal) context).promise();
+    workerExecutor.executeBlocking(blockingCodeHandler, false).onComplete(promise);
+    return promise.future();
+  }
+
+  public static <T> Future<T> executeBlocking(Context context, WorkerExecutor workerExecutor, SQLBlockingCodeHandler<T> blockingCodeHandler) {
+    return executeBlocking(context, workerExecutor, (Callable<T>) blockingCodeHandler);
+  }
+
+  public static Future<Void> executeBlocking(Context context, WorkerExecutor workerExecutor, SQLBlockingTaskHandler blockingTaskHandler) {
+    return executeBlocking(context, workerExecutor, (Callable<Void>) blockingTaskHandler);
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.oracleclient.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.sqlclient.internal.ColumnStream;
+import oracle.jdbc.OracleBlob;
+import oracle.jdbc.OracleClob;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import static io.vertx.oracleclient.impl.FailureUtil.sanitize;
+import static io.vertx.oracleclient.impl.Helper.executeBlocking;
+
+/**
+ * Reads a large object with the reactive extensions of the Oracle JDBC driver.
+ * <p>
+ * The LOB publisher is subscribed when a handler is set, chunks are requested one at a time as long as the stream
+ * buffer is writable. The LOB is freed when the stream ends, fails or is released with its row.
+ */
+public class LobReadStream<T> extends ColumnStream implements Flow.Subscriber<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LobReadStream.class);
+
+  static LobReadStream<byte[]> blob(LobStreams owner, ContextInternal context, WorkerExecutor workerExecutor, OracleBlob blob) throws SQLException {
+    return new LobReadStream<>(owner, context, workerExecutor, blob.publisherOracle(1L), Buffer::buffer, blob::free);
+  }
+
+  static LobReadStream<String> clob(LobStreams owner, ContextInternal context, WorkerExecutor workerExecutor, OracleClob clob) throws SQLException {
+    return new LobReadStream<>(owner, context, workerExecutor, clob.publisherOracle(1L), s -> Buffer.buffer(s.getBytes(StandardCharsets.UTF_8)), clob::free);
+  }
+
+  private final LobStreams owner;
+  private final ContextInternal context;
+  private final WorkerExecutor workerExecutor;
+  private final Flow.Publisher<T> publisher;
+  private final Function<T, Buffer> mapper;
+  private final Helper.SQLBlockingTaskHandler free;
+  private Flow.Subscription subscription;
+  private boolean subscribed;
+  private boolean freed;
+
+  private LobReadStream(LobStreams owner, ContextInternal context, WorkerExecutor workerExecutor, Flow.Publisher<T> publisher, Function<T, Buffer> mapper, Helper.SQLBlockingTaskHandler free) {
+    super(context);
+    this.owner = owner;
+    this.context = context;
+    this.workerExecutor = workerExecutor;
+    this.publisher = publisher;
+    this.mapper = mapper;
+    this.free = free;
+    drainHandler(v -> {
+      if (!isReleased() && subscription != null) {
+        subscription.request(1);
+      }
+    });
+  }
+
+  @Override
+  public LobReadStream<T> handler(Handler<Buffer> handler) {
+    super.handler(handler);
+    if (handler != null && !subscribed && !isReleased()) {
+      subscribed = true;
+      publisher.subscribe(this);
+    }
+    return this;
+  }
+
+  /**
+   * @return whether a handler has been set on the stream
+   */
+  boolean isSubscribed() {
+    return subscribed;
+  }
+
+  @Override
+  public void release() {
+    super.release();
+    if (subscription != null) {
+      subscription.cancel();
+    }
+    free();
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription sub) {
+    context.runOnContext(v -> {
+      subscription = sub;
+      if (isReleased()) {
+        sub.cancel();
+      } else {
+        sub.request(1);
+      }
+    });
+  }
+
+  @Override
+  public void onNext(T item) {
+    Buffer chunk = mapper.apply(item);
+    context.runOnContext(v -> {
+      // Read the next chunk only while the buffer is writable, otherwise when it drains
+      if (write(chunk) && !isReleased()) {
+        subscription.request(1);
+      }
+    });
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    context.runOnContext(v -> {
+      fail(sanitize(throwable));
+      free();
+    });
+  }
+
+  @Override
+  public void onComplete() {
+    context.runOnContext(v -> {
+      end();
+      free();
+    });
+  }
+
+  private void free() {
+    if (!freed) {
+      freed = true;
+      executeBlocking(context, workerExecutor, free).onComplete(ar -> {
+        if (ar.failed()) {
+          LOG.trace("Failed to free LOB", ar.cause());
+        }
+        owner.freed(this);
+      });
+    }
+  }
+}
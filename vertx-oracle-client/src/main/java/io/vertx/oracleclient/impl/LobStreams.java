@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.oracleclient.impl;
+
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.internal.ContextInternal;
+import oracle.jdbc.OracleBlob;
+import oracle.jdbc.OracleClob;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The LOB streams of a connection that are not yet freed.
+ * <p>
+ * The streams read the LOB content with the connection, so the connection keeps them until they are fully read or
+ * released and does not execute other commands meanwhile. The streams without a handler when the result is delivered
+ * are released, so they cannot block the connection.
+ */
+public class LobStreams {
+
+  private final ContextInternal context;
+  private final WorkerExecutor workerExecutor;
+  private final Runnable freedHandler;
+  private final Set<LobReadStream<?>> streams = new HashSet<>();
+
+  /**
+   * @param freedHandler called when the last open stream has been freed
+   */
+  public LobStreams(ContextInternal context, WorkerExecutor workerExecutor, Runnable freedHandler) {
+    this.context = context;
+    this.workerExecutor = workerExecutor;
+    this.freedHandler = freedHandler;
+  }
+
+  public LobReadStream<byte[]> blob(OracleBlob blob) throws SQLException {
+    return add(LobReadStream.blob(this, context, workerExecutor, blob));
+  }
+
+  public LobReadStream<String> clob(OracleClob clob) throws SQLException {
+    return add(LobReadStream.clob(this, context, workerExecutor, clob));
+  }
+
+  private synchronized <T> LobReadStream<T> add(LobReadStream<T> stream) {
+    streams.add(stream);
+    return stream;
+  }
+
+  void freed(LobReadStream<?> stream) {
+    boolean empty;
+    synchronized (this) {
+      empty = streams.remove(stream) && streams.isEmpty();
+    }
+    if (empty) {
+      freedHandler.run();
+    }
+  }
+
+  /**
+   * @return whether some streams are not yet freed
+   */
+  public synchronized boolean isOpen() {
+    return !streams.isEmpty();
+  }
+
+  /**
+   * Release the open streams, called when the connection closes.
+   */
+  public void releaseAll() {
+    release(false);
+  }
+
+  /**
+   * Release the open streams without a handler, called when a result has been delivered and when the connection
+   * is recycled.
+   */
+  public void releaseUnsubscribed() {
+    release(true);
+  }
+
+  private void release(boolean unsubscribedOnly) {
+    List<LobReadStream<?>> open;
+    synchronized (this) {
+      open = new ArrayList<>(streams);
+    }
+    for (LobReadStream<?> stream : open) {
+      context.runOnContext(v -> {
+        if (!unsubscribedOnly || !stream.isSubscribed()) {
+          stream.release();
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.oracleclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.VertxException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+import oracle.jdbc.OracleBlob;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+
+import static io.vertx.oracleclient.impl.FailureUtil.sanitize;
+
+/**
+ * Writes a large object with the reactive extensions of the Oracle JDBC driver.
+ * <p>
+ * Buffers are queued in an {@link InboundBuffer} and handed to the LOB subscriber as it requests them. The future
+ * returned by {@link #write(Buffer)} completes when the driver has written the buffer, the future returned by
+ * {@link #end()} completes when the driver has written all the content.
+ */
+public class LobWriteStream implements WriteStream<Buffer>, Flow.Subscription {
+
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 16;
+
+  private static final Object END = new Object();
+
+  public static LobWriteStream blob(ContextInternal context, OracleBlob blob) throws SQLException {
+    LobWriteStream stream = new LobWriteStream(context);
+    stream.subscriber = blob.subscriberOracle(1L, stream.new Outcome());
+    stream.subscriber.onSubscribe(stream);
+    return stream;
+  }
+
+  private final ContextInternal context;
+  private final Promise<Void> outcome;
+  private final InboundBuffer<Object> pending;
+  // The writes not yet acknowledged by the driver, with the offset of their last byte
+  private final ArrayDeque<Write> writes = new ArrayDeque<>();
+  private long queuedBytes;
+  private long writtenBytes;
+  private Flow.Subscriber<byte[]> subscriber;
+  private Handler<Void> drainHandler;
+  private Handler<Throwable> exceptionHandler;
+  private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+  private boolean ending;
+  private boolean needsDrain;
+  private Throwable failure;
+
+  private LobWriteStream(ContextInternal context) {
+    this.context = context;
+    this.outcome = context.promise();
+    this.pending = new InboundBuffer<>(context)
+      .pause()
+      .handler(this::handleItem)
+      .emptyHandler(v -> handleEmpty());
+  }
+
+  @Override
+  public LobWriteStream exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public Future<Void> write(Buffer data) {
+    if (failure != null) {
+      return context.failedFuture(failure);
+    }
+    if (ending) {
+      return context.failedFuture("Stream is ended");
+    }
+    byte[] bytes = data.getBytes();
+    queuedBytes += bytes.length;
+    Promise<Void> promise = context.promise();
+    writes.add(new Write(queuedBytes, promise));
+    context.execute(bytes, pending::write);
+    return promise.future();
+  }
+
+  @Override
+  public Future<Void> end() {
+    if (!ending) {
+      ending = true;
+      context.execute(END, pending::write);
+    }
+    return outcome.future();
+  }
+
+  @Override
+  public LobWriteStream setWriteQueueMaxSize(int maxSize) {
+    maxQueueSize = maxSize;
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    if (pending.size() >= maxQueueSize) {
+      needsDrain = true;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public LobWriteStream drainHandler(Handler<Void> handler) {
+    drainHandler = handler;
+    return this;
+  }
+
+  @Override
+  public void request(long n) {
+    context.execute(n, pending::fetch);
+  }
+
+  @Override
+  public void cancel() {
+    context.execute(VertxException.noStackTrace("LOB write has been cancelled"), this::fail);
+  }
+
+  private void fail(Throwable cause) {
+    if (failure != null) {
+      return;
+    }
+    failure = cause;
+    pending.clear();
+    Write write;
+    while ((write = writes.poll()) != null) {
+      write.promise.tryFail(cause);
+    }
+    outcome.tryFail(cause);
+    Handler<Throwable> handler = exceptionHandler;
+    if (handler != null) {
+      handler.handle(cause);
+    }
+  }
+
+  private void handleItem(Object item) {
+    if (failure != null) {
+      return;
+    }
+    if (item == END) {
+      subscriber.onComplete();
+    } else {
+      subscriber.onNext((byte[]) item);
+    }
+  }
+
+  private void handleWritten(long count) {
+    writtenBytes += count;
+    Write write;
+    while ((write = writes.peek()) != null && write.end <= writtenBytes) {
+      writes.poll();
+      write.promise.tryComplete();
+    }
+  }
+
+  private void handleCompleted() {
+    Write write;
+    while ((write = writes.poll()) != null) {
+      write.promise.tryComplete();
+    }
+    outcome.tryComplete();
+  }
+
+  private void handleEmpty() {
+    Handler<Void> handler = drainHandler;
+    if (needsDrain && handler != null) {
+      needsDrain = false;
+      handler.handle(null);
+    }
+  }
+
+  /**
+   * Receives the number of bytes written by each write of the driver and the completion of the write.
+   */
+  private class Outcome implements Flow.Subscriber<Long> {
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Long item) {
+      context.execute(item, LobWriteStream.this::handleWritten);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      context.execute(sanitize(throwable), LobWriteStream.this::fail);
+    }
+
+    @Override
+    public void onComplete() {
+      context.execute(LobWriteStream.this::handleCompleted);
+    }
+  }
+
+  private static class Write {
+
+    final long end;
+    final Promise<Void> promise;
+
+    Write(long end, Promise<Void> promise) {
+      this.end = end;
+      this.promise = promise;
+    }
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.oracleclient.impl;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.json.JsonObject;
@@ -25,23 +26,59 @@ import io.vertx.sqlclient.spi.ConnectionFactory;
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.datasource.OracleDataSource;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.vertx.oracleclient.impl.Helper.executeBlocking;
 import static io.vertx.oracleclient.impl.OracleDatabaseHelper.createDataSource;
 
 public class OracleConnectionFactory implements ConnectionFactory<OracleConnectOptions> {
 
+  private static final AtomicInteger WORKER_POOL_SEQ = new AtomicInteger();
+
+  private final VertxInternal vertx;
   private final Map<JsonObject, OracleDataSource> datasources;
+  private final Map<String, WorkerExecutor> workerExecutors;
 
   public OracleConnectionFactory(VertxInternal vertx) {
+    this.vertx = vertx;
     this.datasources = new HashMap<>();
+    this.workerExecutors = new HashMap<>();
   }
 
   @Override
   public void close(Promise<Void> promise) {
-    promise.complete();
+    List<WorkerExecutor> executors;
+    synchronized (this) {
+      executors = new ArrayList<>(workerExecutors.values());
+      workerExecutors.clear();
+    }
+    List<Future<Void>> futures = new ArrayList<>(executors.size());
+    for (WorkerExecutor executor : executors) {
+      futures.add(executor.close());
+    }
+    Future.join(futures).<Void>mapEmpty().onComplete(promise);
+  }
+
+  private WorkerExecutor getWorkerExecutor(OracleConnectOptions options) {
+    int poolSize = options.getWorkerPoolSize();
+    if (poolSize == 0) {
+      return null;
+    }
+    String poolName = options.getWorkerPoolName();
+    synchronized (this) {
+      String key = poolName + ":" + poolSize;
+      WorkerExecutor executor = workerExecutors.get(key);
+      if (executor == null) {
+        String name = poolName != null ? poolName : "vertx-oracle-client-" + WORKER_POOL_SEQ.incrementAndGet();
+        executor = vertx.createSharedWorkerExecutor(name, poolSize);
+        workerExecutors.put(key, executor);
+      }
+      return executor;
+    }
   }
 
   private OracleDataSource getDatasource(SqlConnectOptions options) {
@@ -63,10 +100,11 @@ public class OracleConnectionFactory implements ConnectionFactory<OracleConnectO
     VertxMetrics vertxMetrics = ((VertxInternal)context.owner()).metrics();
     ClientMetrics metrics = vertxMetrics != null ? vertxMetrics.createClientMetrics(options.getSocketAddress(), "sql", options.getMetricsName()) : null;
     ContextInternal ctx = (ContextInternal) context;
-    return executeBlocking(context, () -> {
+    WorkerExecutor workerExecutor = getWorkerExecutor(options);
+    return executeBlocking(context, workerExecutor, () -> {
       OracleConnection orac = datasource.createConnectionBuilder().build();
       OracleMetadata metadata = new OracleMetadata(orac.getMetaData());
-      OracleJdbcConnection conn = new OracleJdbcConnection(ctx, metrics, options, orac, metadata);
+      OracleJdbcConnection conn = new OracleJdbcConnection(ctx, metrics, options, orac, metadata, workerExecutor);
       OracleConnectionImpl msConn = new OracleConnectionImpl(ctx, this, conn);
       conn.init(msConn);
       return msConn;
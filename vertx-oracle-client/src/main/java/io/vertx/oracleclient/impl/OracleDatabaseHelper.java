@@ -22,6 +22,9 @@ import java.util.Optional;
 
 import static io.vertx.oracleclient.impl.Helper.getOrHandleSQLException;
 import static io.vertx.oracleclient.impl.Helper.runOrHandleSQLException;
+import static oracle.jdbc.OracleConnection.CONNECTION_PROPERTY_DEFAULT_LOB_PREFETCH_SIZE;
+import static oracle.jdbc.OracleConnection.CONNECTION_PROPERTY_DEFAULT_ROW_PREFETCH;
+import static oracle.jdbc.OracleConnection.CONNECTION_PROPERTY_IMPLICIT_STATEMENT_CACHE_SIZE;
 import static oracle.jdbc.OracleConnection.CONNECTION_PROPERTY_TNS_ADMIN;
 
 public class OracleDatabaseHelper {
@@ -118,9 +121,36 @@ public class OracleDatabaseHelper {
       runOrHandleSQLException(() -> oracleDataSource.setConnectionProperty(CONNECTION_PROPERTY_TNS_ADMIN, tnsAdmin));
     }
 
+    // The driver implicit statement cache plays the role of the client prepared statement cache
+    if (options.getCachePreparedStatements()) {
+      setConnectionPropertyIfAbsent(oracleDataSource, CONNECTION_PROPERTY_IMPLICIT_STATEMENT_CACHE_SIZE,
+        String.valueOf(options.getPreparedStatementCacheMaxSize()));
+    }
+
+    int defaultRowPrefetch = options.getDefaultRowPrefetch();
+    if (defaultRowPrefetch > 0) {
+      setConnectionPropertyIfAbsent(oracleDataSource, CONNECTION_PROPERTY_DEFAULT_ROW_PREFETCH, String.valueOf(defaultRowPrefetch));
+    }
+
+    int defaultLobPrefetchSize = options.getDefaultLobPrefetchSize();
+    if (defaultLobPrefetchSize >= 0) {
+      setConnectionPropertyIfAbsent(oracleDataSource, CONNECTION_PROPERTY_DEFAULT_LOB_PREFETCH_SIZE, String.valueOf(defaultLobPrefetchSize));
+    }
+
     // TODO Iterate over the other properties.
   }
 
+  /**
+   * Sets a connection property unless it has been set by user code with {@link OracleConnectOptions#getProperties()}.
+   */
+  private static void setConnectionPropertyIfAbsent(OracleDataSource oracleDataSource, String name, String value) {
+    runOrHandleSQLException(() -> {
+      if (oracleDataSource.getConnectionProperty(name) == null) {
+        oracleDataSource.setConnectionProperty(name, value);
+      }
+    });
+  }
+
   /**
    * Configures an {@code oracleDataSource} with any connection properties that
    * this adapter requires by default.
@@ -42,8 +42,10 @@ public class OracleJdbcConnection implements Connection {
   private final OracleMetadata metadata;
   private final ContextInternal context;
   private final OracleConnectOptions options;
+  private final WorkerExecutor workerExecutor;
   @SuppressWarnings("rawtypes")
   private final ConcurrentMap<String, RowReader> cursors = new ConcurrentHashMap<>();
+  private final LobStreams lobStreams;
   private Holder holder;
 
   // Command pipeline state
@@ -51,13 +53,17 @@ public class OracleJdbcConnection implements Connection {
   private final Deque<CommandBase> pending = new ArrayDeque<>();
   private Promise<Void> closePromise;
   private boolean inflight, executing;
+  // JDBC connections are created in auto-commit mode, the mode is tracked to avoid querying the driver
+  private boolean autoCommit = true;
 
-  public OracleJdbcConnection(ContextInternal ctx, ClientMetrics metrics, OracleConnectOptions options, OracleConnection oc, OracleMetadata metadata) {
+  public OracleJdbcConnection(ContextInternal ctx, ClientMetrics metrics, OracleConnectOptions options, OracleConnection oc, OracleMetadata metadata, WorkerExecutor workerExecutor) {
     this.context = ctx;
+    this.workerExecutor = workerExecutor;
     this.metrics = metrics;
     this.options = options;
     this.connection = oc;
     this.metadata = metadata;
+    this.lobStreams = new LobStreams(ctx, workerExecutor, () -> context.runOnContext(v -> checkPending()));
   }
 
   @Override
@@ -128,6 +134,7 @@ public class OracleJdbcConnection implements Connection {
         closePromise = context.promise();
         future = closePromise.future().andThen(ar -> holder.handleClosed());
         pending.add(CloseConnectionCommand.INSTANCE);
+        lobStreams.releaseAll();
         checkPending();
       } else {
         future = closePromise.future();
@@ -150,19 +157,19 @@ public class OracleJdbcConnection implements Connection {
 
   public Future<Void> afterAcquire() {
     PromiseInternal<Void> promise = context.owner().promise();
-    context.<Void>executeBlocking(() -> {
+    Helper.executeBlocking(context, workerExecutor, () -> {
       connection.beginRequest();
-      return null;
-    }, false).onComplete(promise);
+    }).onComplete(promise);
     return promise.future();
   }
 
   public Future<Void> beforeRecycle() {
+    // The streams of the results delivered to the pool user must have a handler by now
+    lobStreams.releaseUnsubscribed();
     PromiseInternal<Void> promise = context.owner().promise();
-    context.<Void>executeBlocking(() -> {
+    Helper.executeBlocking(context, workerExecutor, () -> {
       connection.endRequest();
-      return null;
-    }, false).onComplete(promise);
+    }).onComplete(promise);
     return promise.future();
   }
 
@@ -191,7 +198,12 @@ public class OracleJdbcConnection implements Connection {
     try {
       executing = true;
       CommandBase cmd;
-      while (!inflight && (cmd = pending.poll()) != null) {
+      while (!inflight && (cmd = pending.peek()) != null) {
+        if (lobStreams.isOpen() && !(cmd instanceof CloseConnectionCommand)) {
+          // The LOB streams read their content with the connection, wait until they are freed
+          break;
+        }
+        pending.poll();
         inflight = true;
         if (metrics != null && cmd instanceof CloseConnectionCommand) {
           metrics.close();
@@ -210,24 +222,27 @@ public class OracleJdbcConnection implements Connection {
   private OracleCommand wrap(CommandBase cmd) {
     OracleCommand action;
     if (cmd instanceof SimpleQueryCommand) {
-      action = OracleSimpleQueryCommand.create(connection, context, (SimpleQueryCommand) cmd);
+      action = OracleSimpleQueryCommand.create(connection, context, workerExecutor, (SimpleQueryCommand) cmd);
     } else if (cmd instanceof PrepareStatementCommand) {
-      action = new OraclePrepareStatementCommand(connection, context, (PrepareStatementCommand) cmd);
+      action = new OraclePrepareStatementCommand(connection, context, workerExecutor, (PrepareStatementCommand) cmd);
     } else if (cmd instanceof ExtendedQueryCommand) {
       action = forExtendedQuery((ExtendedQueryCommand) cmd);
     } else if (cmd instanceof TxCommand) {
-      action = OracleTransactionCommand.create(connection, context, ((TxCommand) cmd));
+      action = OracleTransactionCommand.create(connection, context, workerExecutor, ((TxCommand) cmd), autoCommit);
     } else if (cmd instanceof CloseStatementCommand) {
-      action = new OracleCloseStatementCommand(connection, context);
+      action = new OracleCloseStatementCommand(connection, context, workerExecutor);
     } else if (cmd instanceof CloseCursorCommand) {
       CloseCursorCommand closeCursorCommand = (CloseCursorCommand) cmd;
       RowReader reader = cursors.remove(closeCursorCommand.id());
-      action = new OracleCloseCursorCommand(connection, context, reader);
+      action = new OracleCloseCursorCommand(connection, context, workerExecutor, reader);
     } else if (cmd instanceof CloseConnectionCommand) {
-      action = new OracleCloseConnectionCommand(connection, context, closePromise);
+      action = new OracleCloseConnectionCommand(connection, context, workerExecutor, closePromise);
     } else {
       throw new UnsupportedOperationException(cmd.getClass().getName());
     }
+    if (action instanceof OracleQueryCommand) {
+      ((OracleQueryCommand<?, ?>) action).lobStreams(lobStreams);
+    }
     return action;
   }
 
@@ -238,20 +253,23 @@ public class OracleJdbcConnection implements Connection {
     if (cursorId != null) {
       RowReader rowReader = cursors.get(cursorId);
       if (rowReader != null) {
-        action = OracleCursorFetchCommand.create(connection, context, cmd, rowReader);
+        action = OracleCursorFetchCommand.create(connection, context, workerExecutor, cmd, rowReader);
       } else {
-        action = OracleCursorQueryCommand.create(connection, context, cmd, cmd.collector(), rr -> cursors.put(cursorId, rr));
+        action = OracleCursorQueryCommand.create(connection, context, workerExecutor, cmd, cmd.collector(), rr -> cursors.put(cursorId, rr));
       }
     } else if (cmd.isBatch()) {
-      action = new OraclePreparedBatchQuery(connection, context, cmd, cmd.collector());
+      action = new OraclePreparedBatchQuery(connection, context, workerExecutor, cmd, cmd.collector());
     } else {
-      action = new OraclePreparedQueryCommand(connection, context, cmd, cmd.collector());
+      action = new OraclePreparedQueryCommand(connection, context, workerExecutor, cmd, cmd.collector());
     }
     return action;
   }
 
   private void actionComplete(CommandBase cmd, OracleCommand<?> action, AsyncResult<Void> ar) {
     inflight = false;
+    if (action instanceof OracleTransactionCommand) {
+      autoCommit = ((OracleTransactionCommand<?>) action).autoCommit();
+    }
     Future<Void> future = Future.succeededFuture();
     if (ar.failed()) {
       Throwable cause = ar.cause();
@@ -266,6 +284,11 @@ public class OracleJdbcConnection implements Connection {
     }
     future.onComplete(ignored -> {
       action.fireResponse();
+      if (action instanceof OracleQueryCommand && lobStreams.isOpen()) {
+        // Runs after the result handlers dispatched on the connection event loop, the streams they have not
+        // subscribed would block the connection
+        context.runOnContext(v -> lobStreams.releaseUnsubscribed());
+      }
       checkPending();
     });
   }
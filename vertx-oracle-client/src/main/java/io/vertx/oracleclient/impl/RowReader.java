@@ -12,6 +12,7 @@ package io.vertx.oracleclient.impl;
 
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
@@ -39,9 +40,11 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
   private static final Logger LOG = LoggerFactory.getLogger(RowReader.class);
 
   private final ContextInternal context;
+  private final WorkerExecutor workerExecutor;
   private final List<Class<?>> classes;
   private final RowDesc description;
   private final Statement resultSetStatement;
+  private final LobStreams lobStreams;
 
   // The following fields must be read/updated on the RowReader context
 
@@ -56,9 +59,11 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
   private int fetchSize;
   private Promise<Void> closePromise;
 
-  public RowReader(ContextInternal context, Collector<Row, C, R> collector, OracleResultSet ors) throws SQLException {
+  public RowReader(ContextInternal context, WorkerExecutor workerExecutor, Collector<Row, C, R> collector, OracleResultSet ors, LobStreams lobStreams) throws SQLException {
     this.context = context;
+    this.workerExecutor = workerExecutor;
     this.collector = collector;
+    this.lobStreams = lobStreams;
     resultSetStatement = ors.getStatement();
     ResultSetMetaData metaData = ors.getMetaData();
     int cols = metaData.getColumnCount();
@@ -101,9 +106,9 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
       readPromise = context.promise();
       if (queue == null) {
         queue = new ArrayDeque<>(fetchSize + 1);
-        executeBlocking(context, () -> subscription.request(fetchSize + 1));
+        executeBlocking(context, workerExecutor, () -> subscription.request(fetchSize + 1));
       } else {
-        executeBlocking(context, () -> subscription.request(fetchSize));
+        executeBlocking(context, workerExecutor, () -> subscription.request(fetchSize));
       }
       readPromise.future().onComplete(promise);
     });
@@ -133,7 +138,7 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
         return;
       }
       closePromise = context.promise();
-      executeBlocking(context, () -> closeQuietly(resultSetStatement)).otherwiseEmpty().onComplete(closePromise);
+      executeBlocking(context, workerExecutor, () -> closeQuietly(resultSetStatement)).otherwiseEmpty().onComplete(closePromise);
       readPromise.fail(throwable);
     });
   }
@@ -145,7 +150,7 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
         return;
       }
       closePromise = context.promise();
-      executeBlocking(context, () -> closeQuietly(resultSetStatement)).otherwiseEmpty().onComplete(closePromise);
+      executeBlocking(context, workerExecutor, () -> closeQuietly(resultSetStatement)).otherwiseEmpty().onComplete(closePromise);
       OracleResponse<R> response = createResponse();
       queue = null;
       readPromise.complete(response);
@@ -169,16 +174,16 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
   @Override
   public Row apply(oracle.jdbc.OracleRow oracleRow) {
     try {
-      return transform(classes, description, oracleRow);
+      return transform(oracleRow);
     } catch (SQLException e) {
       throw new OracleException(e);
     }
   }
 
-  private static Row transform(List<Class<?>> classes, RowDesc desc, oracle.jdbc.OracleRow or) throws SQLException {
-    Row row = new OracleRow(desc);
-    for (int i = 1; i <= desc.columnNames().size(); i++) {
-      Object res = convertSqlValue(or.getObject(i, classes.get(i - 1)));
+  private Row transform(oracle.jdbc.OracleRow or) throws SQLException {
+    OracleRow row = new OracleRow(description);
+    for (int i = 1; i <= description.columnNames().size(); i++) {
+      Object res = convertSqlValue(lobStreams, row, or.getObject(i, classes.get(i - 1)));
       row.addValue(res);
     }
     return row;
@@ -207,7 +212,7 @@ public class RowReader<C, R> implements Flow.Subscriber<Row>, Function<oracle.jd
       if (readPromise != null) {
         readPromise.fail("Subscription has been canceled");
       }
-      executeBlocking(context, () -> closeQuietly(resultSetStatement)).otherwiseEmpty().onComplete(closePromise);
+      executeBlocking(context, workerExecutor, () -> closeQuietly(resultSetStatement)).otherwiseEmpty().onComplete(closePromise);
     });
     return promise.future();
   }
@@ -13,6 +13,7 @@ package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import oracle.jdbc.OracleConnection;
 
@@ -22,8 +23,8 @@ public class OracleCloseConnectionCommand extends OracleCommand<Void> {
 
   private final Promise<Void> closePromise;
 
-  public OracleCloseConnectionCommand(OracleConnection oracleConnection, ContextInternal connectionContext, Promise<Void> closePromise) {
-    super(oracleConnection, connectionContext);
+  public OracleCloseConnectionCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, Promise<Void> closePromise) {
+    super(oracleConnection, connectionContext, workerExecutor);
     this.closePromise = Objects.requireNonNull(closePromise);
   }
 
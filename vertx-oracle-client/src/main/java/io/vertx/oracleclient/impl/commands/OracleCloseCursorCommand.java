@@ -12,6 +12,7 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.oracleclient.impl.RowReader;
 import oracle.jdbc.OracleConnection;
@@ -20,8 +21,8 @@ public class OracleCloseCursorCommand extends OracleCommand<Void> {
 
   private final RowReader<?, ?> reader;
 
-  public OracleCloseCursorCommand(OracleConnection oracleConnection, ContextInternal connectionContext, RowReader<?, ?> reader) {
-    super(oracleConnection, connectionContext);
+  public OracleCloseCursorCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, RowReader<?, ?> reader) {
+    super(oracleConnection, connectionContext, workerExecutor);
     this.reader = reader;
   }
 
@@ -12,13 +12,14 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import oracle.jdbc.OracleConnection;
 
 public class OracleCloseStatementCommand extends OracleCommand<Void> {
 
-  public OracleCloseStatementCommand(OracleConnection oracleConnection, ContextInternal connectionContext) {
-    super(oracleConnection, connectionContext);
+  public OracleCloseStatementCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor) {
+    super(oracleConnection, connectionContext, workerExecutor);
   }
 
   @Override
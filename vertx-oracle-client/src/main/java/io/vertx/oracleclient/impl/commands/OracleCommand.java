@@ -12,7 +12,9 @@ package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.oracleclient.impl.Helper;
 import io.vertx.oracleclient.impl.Helper.SQLBlockingCodeHandler;
 import io.vertx.sqlclient.internal.command.CommandBase;
 import io.vertx.sqlclient.internal.command.CommandResponse;
@@ -27,11 +29,13 @@ public abstract class OracleCommand<T> {
 
   protected final OracleConnection oracleConnection;
   protected final ContextInternal connectionContext;
+  protected final WorkerExecutor workerExecutor;
   private CommandResponse<T> response;
 
-  protected OracleCommand(OracleConnection oracleConnection, ContextInternal connectionContext) {
+  protected OracleCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor) {
     this.oracleConnection = oracleConnection;
     this.connectionContext = connectionContext;
+    this.workerExecutor = workerExecutor;
   }
 
   public final Future<Void> processCommand(CommandBase<T> cmd) {
@@ -48,11 +52,11 @@ public abstract class OracleCommand<T> {
   protected abstract Future<T> execute();
 
   public final <U> Future<U> executeBlocking(SQLBlockingCodeHandler<U> blockingCodeHandler) {
-    return connectionContext.executeBlocking(blockingCodeHandler, false);
+    return Helper.executeBlocking(connectionContext, workerExecutor, blockingCodeHandler);
   }
 
   public final Future<Void> executeBlocking(SQLBlockingTaskHandler blockingTaskHandler) {
-    return connectionContext.executeBlocking(blockingTaskHandler, false);
+    return Helper.executeBlocking(connectionContext, workerExecutor, blockingTaskHandler);
   }
 
   public final <U> Future<U> first(Flow.Publisher<U> publisher) {
@@ -62,6 +66,7 @@ public abstract class OracleCommand<T> {
 
       @Override
       public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
         subscription.request(1);
       }
 
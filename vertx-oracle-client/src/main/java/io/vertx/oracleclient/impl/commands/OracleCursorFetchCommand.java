@@ -12,6 +12,7 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.oracleclient.impl.RowReader;
 import io.vertx.sqlclient.internal.QueryResultHandler;
@@ -24,15 +25,15 @@ public class OracleCursorFetchCommand<C, R> extends OracleCommand<Boolean> {
   private final int fetch;
   private final RowReader<C, R> rowReader;
 
-  private OracleCursorFetchCommand(OracleConnection oracleConnection, ContextInternal connectionContext, ExtendedQueryCommand<R> cmd, RowReader<C, R> rowReader) {
-    super(oracleConnection, connectionContext);
+  private OracleCursorFetchCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, ExtendedQueryCommand<R> cmd, RowReader<C, R> rowReader) {
+    super(oracleConnection, connectionContext, workerExecutor);
     resultHandler = cmd.resultHandler();
     fetch = cmd.fetch();
     this.rowReader = rowReader;
   }
 
-  public static <U, V> OracleCursorFetchCommand<U, V> create(OracleConnection oracleConnection, ContextInternal connectionContext, ExtendedQueryCommand<V> cmd, RowReader<U, V> rowReader) {
-    return new OracleCursorFetchCommand<>(oracleConnection, connectionContext, cmd, rowReader);
+  public static <U, V> OracleCursorFetchCommand<U, V> create(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, ExtendedQueryCommand<V> cmd, RowReader<U, V> rowReader) {
+    return new OracleCursorFetchCommand<>(oracleConnection, connectionContext, workerExecutor, cmd, rowReader);
   }
 
   @Override
@@ -11,6 +11,7 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.oracleclient.OraclePrepareOptions;
 import io.vertx.oracleclient.impl.RowReader;
@@ -38,8 +39,8 @@ public class OracleCursorQueryCommand<C, R> extends OracleQueryCommand<C, R> {
   private final Collector<Row, C, R> collector;
   private final QueryResultHandler<R> resultHandler;
 
-  private OracleCursorQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, ExtendedQueryCommand<R> cmd, Collector<Row, C, R> collector, Consumer<RowReader<C, R>> store) {
-    super(oracleConnection, connectionContext, collector);
+  private OracleCursorQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, ExtendedQueryCommand<R> cmd, Collector<Row, C, R> collector, Consumer<RowReader<C, R>> store) {
+    super(oracleConnection, connectionContext, workerExecutor, collector);
     sql = cmd.sql();
     fetch = cmd.fetch();
     params = cmd.params();
@@ -49,8 +50,8 @@ public class OracleCursorQueryCommand<C, R> extends OracleQueryCommand<C, R> {
     this.store = store;
   }
 
-  public static <U, V> OracleCursorQueryCommand<U, V> create(OracleConnection oracleConnection, ContextInternal connectionContext, ExtendedQueryCommand<V> cmd, Collector<Row, U, V> collector, Consumer<RowReader<U, V>> store) {
-    return new OracleCursorQueryCommand<>(oracleConnection, connectionContext, cmd, collector, store);
+  public static <U, V> OracleCursorQueryCommand<U, V> create(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, ExtendedQueryCommand<V> cmd, Collector<Row, U, V> collector, Consumer<RowReader<U, V>> store) {
+    return new OracleCursorQueryCommand<>(oracleConnection, connectionContext, workerExecutor, cmd, collector, store);
   }
 
   @Override
@@ -81,7 +82,7 @@ public class OracleCursorQueryCommand<C, R> extends OracleQueryCommand<C, R> {
   protected Future<Boolean> doExecute(OraclePreparedStatement ps, boolean returnAutoGeneratedKeys) {
     return executeBlocking(ps::executeQueryAsyncOracle)
       .compose(pub -> first(pub))
-      .compose(ors -> executeBlocking(() -> new RowReader<>(connectionContext, collector, ors)))
+      .compose(ors -> executeBlocking(() -> new RowReader<>(connectionContext, workerExecutor, collector, ors, lobStreams())))
       .compose(rr -> {
         store.accept(rr);
         return rr.read(fetch).compose(oracleResponse -> {
@@ -11,6 +11,7 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonArray;
 import io.vertx.oracleclient.OraclePrepareOptions;
@@ -26,8 +27,8 @@ public class OraclePrepareStatementCommand extends OracleCommand<PreparedStateme
   private final OraclePrepareOptions options;
   private final String sql;
 
-  public OraclePrepareStatementCommand(OracleConnection oracleConnection, ContextInternal connectionContext, PrepareStatementCommand cmd) {
-    super(oracleConnection, connectionContext);
+  public OraclePrepareStatementCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, PrepareStatementCommand cmd) {
+    super(oracleConnection, connectionContext, workerExecutor);
     this.options = OraclePrepareOptions.createFrom(cmd.options());
     this.sql = cmd.sql();
   }
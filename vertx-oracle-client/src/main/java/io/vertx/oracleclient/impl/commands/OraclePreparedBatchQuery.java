@@ -12,6 +12,7 @@ package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.oracleclient.OraclePrepareOptions;
 import io.vertx.sqlclient.Row;
@@ -25,13 +26,13 @@ import oracle.jdbc.OraclePreparedStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Flow;
 import java.util.stream.Collector;
 
 import static io.vertx.oracleclient.impl.FailureUtil.sanitize;
+import static io.vertx.oracleclient.impl.Helper.getOrHandleSQLException;
 
 public class OraclePreparedBatchQuery<C, R> extends OracleQueryCommand<C, R> {
 
@@ -39,8 +40,8 @@ public class OraclePreparedBatchQuery<C, R> extends OracleQueryCommand<C, R> {
   private final List<TupleInternal> listParams;
   private final QueryResultHandler<R> resultHandler;
 
-  public OraclePreparedBatchQuery(OracleConnection oracleConnection, ContextInternal connectionContext, ExtendedQueryCommand<R> cmd, Collector<Row, C, R> collector) {
-    super(oracleConnection, connectionContext, collector);
+  public OraclePreparedBatchQuery(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, ExtendedQueryCommand<R> cmd, Collector<Row, C, R> collector) {
+    super(oracleConnection, connectionContext, workerExecutor, collector);
     sql = cmd.sql();
     listParams = cmd.paramsList();
     resultHandler = cmd.resultHandler();
@@ -75,27 +76,27 @@ public class OraclePreparedBatchQuery<C, R> extends OracleQueryCommand<C, R> {
 
   @Override
   protected Future<Boolean> doExecute(OraclePreparedStatement ps, boolean returnAutoGeneratedKeys) {
+    // The driver binds the batch parameters as arrays and executes the statement in a single round-trip
     return executeBlocking(ps::executeBatchAsyncOracle)
-      .compose(pub -> collect(pub))
-      .map(list -> {
-        int[] res = new int[list.size()];
-        for (int i = 0; i < list.size(); i++) {
-          res[i] = list.get(i).intValue();
+      .compose(pub -> collectUpdateCounts(pub))
+      .compose(returnedBatchResult -> {
+        if (returnAutoGeneratedKeys) {
+          return executeBlocking(() -> decode(ps, returnedBatchResult, true));
         }
-        return res;
+        // Decoding the update counts does not call the driver
+        return Future.succeededFuture(getOrHandleSQLException(() -> decode(ps, returnedBatchResult, false)));
       })
-      .compose(returnedBatchResult -> executeBlocking(() -> decode(ps, returnedBatchResult, returnAutoGeneratedKeys)))
       .map(oracleResponse -> {
         oracleResponse.handle(resultHandler);
         return false;
       });
   }
 
-
-  private <T> Future<List<T>> collect(Flow.Publisher<T> publisher) {
-    Promise<List<T>> promise = connectionContext.promise();
+  private Future<int[]> collectUpdateCounts(Flow.Publisher<Long> publisher) {
+    Promise<int[]> promise = connectionContext.promise();
     publisher.subscribe(new Flow.Subscriber<>() {
-      final List<T> list = Collections.synchronizedList(new ArrayList<>());
+      int[] counts = new int[listParams.size()];
+      int size;
 
       @Override
       public void onSubscribe(Flow.Subscription subscription) {
@@ -103,8 +104,11 @@ public class OraclePreparedBatchQuery<C, R> extends OracleQueryCommand<C, R> {
       }
 
       @Override
-      public void onNext(T item) {
-        list.add(item);
+      public synchronized void onNext(Long item) {
+        if (size == counts.length) {
+          counts = Arrays.copyOf(counts, Math.max(8, size * 2));
+        }
+        counts[size++] = item.intValue();
       }
 
       @Override
@@ -113,8 +117,8 @@ public class OraclePreparedBatchQuery<C, R> extends OracleQueryCommand<C, R> {
       }
 
       @Override
-      public void onComplete() {
-        promise.complete(list);
+      public synchronized void onComplete() {
+        promise.complete(size == counts.length ? counts : Arrays.copyOf(counts, size));
       }
     });
     return promise.future();
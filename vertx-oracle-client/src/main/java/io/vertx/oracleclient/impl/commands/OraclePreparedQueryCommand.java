@@ -11,6 +11,7 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.oracleclient.OraclePrepareOptions;
 import io.vertx.sqlclient.PrepareOptions;
@@ -33,8 +34,8 @@ public class OraclePreparedQueryCommand<C, R> extends OracleQueryCommand<C, R> {
   private final PrepareOptions prepareOptions;
   private final QueryResultHandler<R> resultHandler;
 
-  public OraclePreparedQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, ExtendedQueryCommand<R> cmd, Collector<Row, C, R> collector) {
-    super(oracleConnection, connectionContext, collector);
+  public OraclePreparedQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, ExtendedQueryCommand<R> cmd, Collector<Row, C, R> collector) {
+    super(oracleConnection, connectionContext, workerExecutor, collector);
     sql = cmd.sql();
     params = cmd.params();
     prepareOptions = cmd.options();
@@ -13,17 +13,22 @@ package io.vertx.oracleclient.impl.commands;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.VertxException;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonArray;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.oracleclient.OraclePrepareOptions;
 import io.vertx.oracleclient.data.Blob;
 import io.vertx.oracleclient.impl.Helper;
+import io.vertx.oracleclient.impl.LobStreams;
+import io.vertx.oracleclient.impl.LobWriteStream;
 import io.vertx.oracleclient.impl.OracleRow;
 import io.vertx.oracleclient.impl.OracleRowDesc;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.desc.ColumnDescriptor;
 import io.vertx.sqlclient.internal.RowDesc;
+import oracle.jdbc.OracleBlob;
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OraclePreparedStatement;
 import oracle.sql.TIMESTAMPTZ;
@@ -32,7 +37,10 @@ import java.sql.*;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 
 import static io.vertx.oracleclient.impl.Helper.closeQuietly;
@@ -40,25 +48,37 @@ import static io.vertx.oracleclient.impl.Helper.closeQuietly;
 public abstract class OracleQueryCommand<C, R> extends OracleCommand<Boolean> {
 
   private final Collector<Row, C, R> collector;
-
-  protected OracleQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, Collector<Row, C, R> collector) {
-    super(oracleConnection, connectionContext);
+  private boolean lobStreaming;
+  private LobStreams lobStreams;
+  // Temporary LOBs bound to the statement, freed after execution
+  private List<java.sql.Blob> temporaryLobs;
+  // Streamed parameters written to their temporary LOB before execution
+  private List<Supplier<Future<Void>>> lobWrites;
+
+  protected OracleQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, Collector<Row, C, R> collector) {
+    super(oracleConnection, connectionContext, workerExecutor);
     this.collector = collector;
   }
 
   @Override
   protected Future<Boolean> execute() {
     OraclePrepareOptions options = prepareOptions();
+    lobStreaming = options != null && options.isLobStreaming();
     boolean returnAutoGeneratedKeys = returnAutoGeneratedKeys(oracleConnection, options);
     Future<OraclePreparedStatement> psFuture = prepare(oracleConnection, options, returnAutoGeneratedKeys, connectionContext);
     return psFuture.compose(ps -> withPreparedStatement(ps, connectionContext, returnAutoGeneratedKeys));
   }
 
   private Future<Boolean> withPreparedStatement(OraclePreparedStatement ps, ContextInternal context, boolean returnAutoGeneratedKeys) {
-    return doExecute(ps, returnAutoGeneratedKeys).transform(ar -> {
+    return writeLobs().compose(v -> doExecute(ps, returnAutoGeneratedKeys)).transform(ar -> {
       Future<Void> close;
       if (closeStatementAfterExecute()) {
-        close = executeBlocking(() -> closeQuietly(ps));
+        close = executeBlocking(() -> {
+          freeTemporaryLobs();
+          closeQuietly(ps);
+        });
+      } else if (temporaryLobs != null) {
+        close = executeBlocking(this::freeTemporaryLobs);
       } else {
         close = context.succeededFuture();
       }
@@ -70,10 +90,46 @@ public abstract class OracleQueryCommand<C, R> extends OracleCommand<Boolean> {
     });
   }
 
+  private Future<Void> writeLobs() {
+    Future<Void> future = connectionContext.succeededFuture();
+    if (lobWrites != null) {
+      for (Supplier<Future<Void>> lobWrite : lobWrites) {
+        future = future.compose(v -> lobWrite.get());
+      }
+    }
+    return future;
+  }
+
+  private void freeTemporaryLobs() {
+    if (temporaryLobs != null) {
+      for (java.sql.Blob lob : temporaryLobs) {
+        try {
+          lob.free();
+        } catch (SQLException ignore) {
+        }
+      }
+    }
+  }
+
   protected boolean closeStatementAfterExecute() {
     return true;
   }
 
+  /**
+   * Set the LOB streams of the connection, large objects are returned as streams when the prepare options enable it.
+   */
+  public void lobStreams(LobStreams lobStreams) {
+    this.lobStreams = lobStreams;
+  }
+
+  /**
+   * @return the LOB streams of the connection when large objects are returned as streams, otherwise {@code null},
+   *         only valid once the command is executing
+   */
+  protected LobStreams lobStreams() {
+    return lobStreaming ? lobStreams : null;
+  }
+
   protected abstract OraclePrepareOptions prepareOptions();
 
   protected boolean returnAutoGeneratedKeys(Connection conn, OraclePrepareOptions options) {
@@ -97,7 +153,7 @@ public abstract class OracleQueryCommand<C, R> extends OracleCommand<Boolean> {
   protected abstract String query();
 
   private Future<OraclePreparedStatement> prepare(Connection conn, OraclePrepareOptions options, boolean returnAutoGeneratedKeys, Context context) {
-    return context.executeBlocking(() -> {
+    return Helper.executeBlocking(context, workerExecutor, () -> {
       String query = query();
       PreparedStatement ps = null;
       try {
@@ -128,13 +184,26 @@ public abstract class OracleQueryCommand<C, R> extends OracleCommand<Boolean> {
 
         fillStatement(ps, conn);
 
-        return ps.unwrap(OraclePreparedStatement.class);
+        OraclePreparedStatement ops = ps.unwrap(OraclePreparedStatement.class);
+        applyFetchOptions(ops, options);
+        return ops;
 
       } catch (SQLException e) {
         closeQuietly(ps);
         throw e;
       }
-    }, false);
+    });
+  }
+
+  private static void applyFetchOptions(OraclePreparedStatement ps, OraclePrepareOptions options) throws SQLException {
+    if (options != null) {
+      if (options.getFetchSize() > 0) {
+        ps.setFetchSize(options.getFetchSize());
+      }
+      if (options.getLobPrefetchSize() >= 0) {
+        ps.setLobPrefetchSize(options.getLobPrefetchSize());
+      }
+    }
   }
 
   private boolean isAutoGeneratedIndexes(OraclePrepareOptions options) {
@@ -163,18 +232,38 @@ public abstract class OracleQueryCommand<C, R> extends OracleCommand<Boolean> {
     } else if (value instanceof Blob) {
       // -> java.sql.Blob
       Blob blob = (Blob) value;
-      java.sql.Blob javaBlob = conn.createBlob();
+      java.sql.Blob javaBlob = createTemporaryBlob(conn);
       javaBlob.setBytes(1, blob.bytes);
       return javaBlob;
     } else if (value instanceof Buffer) {
       // -> RAW
       Buffer buffer = (Buffer) value;
       return buffer.getBytes();
+    } else if (value instanceof ReadStream) {
+      // -> java.sql.Blob, the content is written before the statement is executed
+      @SuppressWarnings("unchecked")
+      ReadStream<Buffer> stream = (ReadStream<Buffer>) value;
+      java.sql.Blob javaBlob = createTemporaryBlob(conn);
+      LobWriteStream lobStream = LobWriteStream.blob(connectionContext, (OracleBlob) javaBlob);
+      if (lobWrites == null) {
+        lobWrites = new ArrayList<>();
+      }
+      lobWrites.add(() -> stream.pipeTo(lobStream));
+      return javaBlob;
     }
 
     return value;
   }
 
+  private java.sql.Blob createTemporaryBlob(Connection conn) throws SQLException {
+    java.sql.Blob javaBlob = conn.createBlob();
+    if (temporaryLobs == null) {
+      temporaryLobs = new ArrayList<>();
+    }
+    temporaryLobs.add(javaBlob);
+    return javaBlob;
+  }
+
   protected abstract Future<Boolean> doExecute(OraclePreparedStatement ps, boolean returnAutoGeneratedKeys);
 
   protected OracleResponse<R> decode(Statement statement, boolean returnedResultSet, boolean returnedKeys) throws SQLException {
@@ -236,9 +325,9 @@ public abstract class OracleQueryCommand<C, R> extends OracleCommand<Boolean> {
     RowDesc desc = OracleRowDesc.create(metaData);
     while (rs.next()) {
       size++;
-      Row row = new OracleRow(desc);
+      OracleRow row = new OracleRow(desc);
       for (int i = 1; i <= metaData.getColumnCount(); i++) {
-        Object res = Helper.convertSqlValue(rs.getObject(i));
+        Object res = Helper.convertSqlValue(lobStreams(), row, rs.getObject(i));
         row.addValue(res);
       }
       accumulator.accept(container, row);
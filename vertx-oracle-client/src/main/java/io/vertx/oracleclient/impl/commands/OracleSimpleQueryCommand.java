@@ -11,6 +11,7 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.oracleclient.OraclePrepareOptions;
 import io.vertx.sqlclient.Row;
@@ -29,14 +30,14 @@ public class OracleSimpleQueryCommand<C, R> extends OracleQueryCommand<C, R> {
   private final String sql;
   private final QueryResultHandler<R> resultHandler;
 
-  private OracleSimpleQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, SimpleQueryCommand<R> cmd, Collector<Row, C, R> collector) {
-    super(oracleConnection, connectionContext, collector);
+  private OracleSimpleQueryCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, SimpleQueryCommand<R> cmd, Collector<Row, C, R> collector) {
+    super(oracleConnection, connectionContext, workerExecutor, collector);
     sql = cmd.sql();
     resultHandler = cmd.resultHandler();
   }
 
-  public static <U> OracleSimpleQueryCommand<?, U> create(OracleConnection oracleConnection, ContextInternal connectionContext, SimpleQueryCommand<U> cmd) {
-    return new OracleSimpleQueryCommand<>(oracleConnection, connectionContext, cmd, cmd.collector());
+  public static <U> OracleSimpleQueryCommand<?, U> create(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, SimpleQueryCommand<U> cmd) {
+    return new OracleSimpleQueryCommand<>(oracleConnection, connectionContext, workerExecutor, cmd, cmd.collector());
   }
 
   @Override
@@ -11,25 +11,42 @@
 package io.vertx.oracleclient.impl.commands;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.internal.ContextInternal;
-import io.vertx.oracleclient.impl.Helper.SQLFutureMapper;
+import io.vertx.oracleclient.OracleException;
+import io.vertx.oracleclient.impl.Helper.ThrowingSupplier;
 import io.vertx.sqlclient.internal.command.TxCommand;
 import oracle.jdbc.OracleConnection;
 
+import java.sql.SQLException;
+import java.util.concurrent.Flow;
+
 import static io.vertx.sqlclient.internal.command.TxCommand.Kind.BEGIN;
 import static io.vertx.sqlclient.internal.command.TxCommand.Kind.COMMIT;
 
 public class OracleTransactionCommand<R> extends OracleCommand<R> {
 
   private final TxCommand<R> op;
+  private volatile boolean autoCommit;
 
-  private OracleTransactionCommand(OracleConnection oracleConnection, ContextInternal connectionContext, TxCommand<R> op) {
-    super(oracleConnection, connectionContext);
+  private OracleTransactionCommand(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, TxCommand<R> op, boolean autoCommit) {
+    super(oracleConnection, connectionContext, workerExecutor);
     this.op = op;
+    this.autoCommit = autoCommit;
+  }
+
+  /**
+   * @param autoCommit the auto-commit mode of the connection, tracked by the client to avoid querying the driver
+   */
+  public static <U> OracleTransactionCommand<U> create(OracleConnection oracleConnection, ContextInternal connectionContext, WorkerExecutor workerExecutor, TxCommand<U> cmd, boolean autoCommit) {
+    return new OracleTransactionCommand<>(oracleConnection, connectionContext, workerExecutor, cmd, autoCommit);
   }
 
-  public static <U> OracleTransactionCommand<U> create(OracleConnection oracleConnection, ContextInternal connectionContext, TxCommand<U> cmd) {
-    return new OracleTransactionCommand<>(oracleConnection, connectionContext, cmd);
+  /**
+   * @return the auto-commit mode of the connection after the command execution
+   */
+  public boolean autoCommit() {
+    return autoCommit;
   }
 
   @Override
@@ -46,26 +63,44 @@ public class OracleTransactionCommand<R> extends OracleCommand<R> {
   }
 
   private Future<Void> begin() {
-    return executeBlocking(() -> {
-      int isolation = oracleConnection.getTransactionIsolation();
-      oracleConnection.setAutoCommit(false);
-      oracleConnection.setTransactionIsolation(isolation);
-    });
+    if (!autoCommit) {
+      return Future.succeededFuture();
+    }
+    return executeBlocking(() -> oracleConnection.setAutoCommit(false))
+      .andThen(ar -> {
+        if (ar.succeeded()) {
+          autoCommit = false;
+        }
+      });
   }
 
   private Future<Void> commit() {
-    return executeBlocking(() -> oracleConnection.getAutoCommit())
-      .compose((SQLFutureMapper<Boolean, Void>) autoCommit -> {
-        return autoCommit ? Future.succeededFuture() : first(oracleConnection.commitAsyncOracle());
-      })
-      .eventually(() -> executeBlocking(() -> oracleConnection.setAutoCommit(true)));
+    return endTransaction(oracleConnection::commitAsyncOracle);
   }
 
   private Future<Void> rollback() {
-    return executeBlocking(() -> oracleConnection.getAutoCommit())
-      .compose((SQLFutureMapper<Boolean, Void>) autoCommit -> {
-        return autoCommit ? Future.succeededFuture() : first(oracleConnection.rollbackAsyncOracle());
-      })
-      .eventually(() -> executeBlocking(() -> oracleConnection.setAutoCommit(true)));
+    return endTransaction(oracleConnection::rollbackAsyncOracle);
+  }
+
+  private Future<Void> endTransaction(ThrowingSupplier<Flow.Publisher<Void>> publisher) {
+    if (autoCommit) {
+      return Future.succeededFuture();
+    }
+    Future<Void> future;
+    try {
+      future = first(publisher.getOrThrow());
+    } catch (SQLException e) {
+      future = Future.failedFuture(new OracleException(e));
+    }
+    return future.eventually(this::restoreAutoCommit);
+  }
+
+  private Future<Void> restoreAutoCommit() {
+    return executeBlocking(() -> oracleConnection.setAutoCommit(true))
+      .andThen(ar -> {
+        if (ar.succeeded()) {
+          autoCommit = true;
+        }
+      });
   }
 }
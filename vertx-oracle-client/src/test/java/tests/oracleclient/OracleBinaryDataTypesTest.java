@@ -11,10 +11,15 @@
 
 package tests.oracleclient;
 
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.oracleclient.OracleBuilder;
+import io.vertx.oracleclient.OraclePrepareOptions;
 import io.vertx.oracleclient.data.Blob;
 import tests.oracleclient.junit.OracleRule;
 import io.vertx.sqlclient.Pool;
@@ -28,6 +33,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.sql.JDBCType;
+import java.util.Random;
 import java.util.function.Function;
 
 @RunWith(VertxUnitRunner.class)
@@ -58,6 +64,12 @@ public class OracleBinaryDataTypesTest extends OracleTestBase {
     testEncode(ctx, "test_blob", Buffer.buffer("See you space cowboy..."), Blob::copy);
   }
 
+  @Test
+  public void testEncodeBlobStream(TestContext ctx) {
+    Buffer expected = randomBuffer(256 * 1024);
+    testEncode(ctx, "test_blob", expected, buffer -> new BufferReadStream(buffer, 4096));
+  }
+
   private void testEncode(TestContext ctx, String columnName, Buffer expected, Function<Buffer, Object> input) {
     pool
       .preparedQuery("UPDATE binary_data_types SET " + columnName + " = ? WHERE id = 2")
@@ -86,6 +98,79 @@ public class OracleBinaryDataTypesTest extends OracleTestBase {
     testDecode(ctx, "test_blob", JDBCType.BLOB, Buffer.buffer("See you space cowboy..."));
   }
 
+  @Test
+  public void testDecodeBlobStream(TestContext ctx) {
+    Buffer expected = randomBuffer(256 * 1024);
+    Async async = ctx.async();
+    pool
+      .preparedQuery("UPDATE binary_data_types SET test_blob = ? WHERE id = 2")
+      .execute(Tuple.of(Blob.copy(expected)))
+      .compose(updateResult -> pool.withConnection(conn -> conn
+        .preparedQuery("SELECT test_blob FROM binary_data_types WHERE id = 2", new OraclePrepareOptions().setLobStreaming(true))
+        .execute()
+        .compose(result -> {
+          ctx.assertEquals(1, result.size());
+          Row row = result.iterator().next();
+          ReadStream<Buffer> stream = row.getStream("test_blob");
+          Buffer received = Buffer.buffer();
+          Promise<Buffer> ended = Promise.promise();
+          stream.pause();
+          stream.handler(received::appendBuffer);
+          stream.endHandler(v -> ended.complete(received));
+          stream.exceptionHandler(ended::fail);
+          stream.fetch(1);
+          vertx.setTimer(100, id -> stream.resume());
+          return ended.future();
+        })))
+      .onComplete(ctx.asyncAssertSuccess(received -> {
+        ctx.assertEquals(expected, received);
+        async.complete();
+      }));
+  }
+
+  @Test
+  public void testReleaseUnsubscribedBlobStream(TestContext ctx) {
+    Async async = ctx.async();
+    pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .preparedQuery("SELECT test_blob FROM binary_data_types WHERE id = 1", new OraclePrepareOptions().setLobStreaming(true))
+        .execute()
+        // The stream has no handler when the result is delivered, it is released instead of blocking the connection
+        .compose(result -> conn.query("SELECT 1 FROM DUAL").execute())
+        .onComplete(ctx.asyncAssertSuccess(v -> {
+          conn.close();
+          async.complete();
+        }));
+    }));
+  }
+
+  @Test
+  public void testReleaseUnconsumedBlobStream(TestContext ctx) {
+    Async async = ctx.async();
+    pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .preparedQuery("SELECT test_blob FROM binary_data_types WHERE id = 1", new OraclePrepareOptions().setLobStreaming(true))
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          // The next command waits until the stream is freed
+          conn
+            .query("SELECT 1 FROM DUAL")
+            .execute()
+            .onComplete(ctx.asyncAssertSuccess(v -> {
+              conn.close();
+              async.complete();
+            }));
+          result.iterator().next().release();
+        }));
+    }));
+  }
+
+  private static Buffer randomBuffer(int len) {
+    byte[] bytes = new byte[len];
+    new Random().nextBytes(bytes);
+    return Buffer.buffer(bytes);
+  }
+
   private <T> void testDecode(TestContext ctx, String columnName, JDBCType jdbcType, Buffer expected) {
     pool
       .preparedQuery("SELECT " + columnName + " FROM binary_data_types WHERE id = 1")
@@ -158,4 +243,85 @@ public class OracleBinaryDataTypesTest extends OracleTestBase {
         }
       }));
   }
+
+  private static class BufferReadStream implements ReadStream<Buffer> {
+
+    private final Buffer buffer;
+    private final int chunkSize;
+    private int pos;
+    private long demand = Long.MAX_VALUE;
+    private Handler<Buffer> handler;
+    private Handler<Void> endHandler;
+    private boolean emitting;
+    private boolean ended;
+
+    BufferReadStream(Buffer buffer, int chunkSize) {
+      this.buffer = buffer;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> handler(Handler<Buffer> handler) {
+      this.handler = handler;
+      emit();
+      return this;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> pause() {
+      demand = 0L;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> fetch(long amount) {
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+      emit();
+      return this;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      emit();
+      return this;
+    }
+
+    private void emit() {
+      if (emitting) {
+        return;
+      }
+      emitting = true;
+      try {
+        while (handler != null && demand > 0L && pos < buffer.length()) {
+          int end = Math.min(pos + chunkSize, buffer.length());
+          Buffer chunk = buffer.getBuffer(pos, end);
+          pos = end;
+          if (demand != Long.MAX_VALUE) {
+            demand--;
+          }
+          handler.handle(chunk);
+        }
+        if (pos == buffer.length() && handler != null && endHandler != null && !ended) {
+          ended = true;
+          endHandler.handle(null);
+        }
+      } finally {
+        emitting = false;
+      }
+    }
+  }
 }
@@ -13,12 +13,14 @@ package tests.oracleclient;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.oracleclient.OracleBuilder;
 import io.vertx.oracleclient.OracleConnectOptions;
+import io.vertx.oracleclient.OraclePrepareOptions;
 import tests.oracleclient.junit.OracleRule;
 import io.vertx.sqlclient.*;
 import org.junit.After;
@@ -30,8 +32,11 @@ import org.junit.runner.RunWith;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 @RunWith(VertxUnitRunner.class)
 public class OraclePoolTest extends OracleTestBase {
@@ -104,6 +109,69 @@ public class OraclePoolTest extends OracleTestBase {
     }
   }
 
+  @Test
+  public void testDedicatedWorkerPool(TestContext ctx) {
+    // Occupy the Vert.x worker pool, the client must not depend on it
+    CountDownLatch latch = new CountDownLatch(1);
+    for (int i = 0; i < VertxOptions.DEFAULT_WORKER_POOL_SIZE; i++) {
+      vertx.executeBlocking(() -> latch.await(20, TimeUnit.SECONDS), false);
+    }
+    Async async = ctx.async();
+    Pool pool = createPool(new OracleConnectOptions(options).setWorkerPoolSize(4), 4);
+    pool
+      .query("SELECT id, randomnumber FROM WORLD")
+      .execute()
+      .onComplete(ar -> {
+        latch.countDown();
+        if (ar.failed()) {
+          ctx.fail(ar.cause());
+          return;
+        }
+        ctx.assertEquals(100, ar.result().size());
+        async.complete();
+      });
+  }
+
+  @Test
+  public void testFetchOptions(TestContext ctx) {
+    OracleConnectOptions connectOptions = new OracleConnectOptions(options)
+      .setCachePreparedStatements(true)
+      .setPreparedStatementCacheMaxSize(16)
+      .setDefaultRowPrefetch(200);
+    Pool pool = createPool(connectOptions, 1);
+    pool.withConnection(conn -> fetchRoundTrips(ctx, conn, "SELECT id, randomnumber FROM WORLD WHERE id <= ?", new OraclePrepareOptions())
+      .compose(defaultPrefetch -> fetchRoundTrips(ctx, conn, "SELECT id, randomnumber FROM WORLD WHERE id <= ? ORDER BY id", new OraclePrepareOptions().setFetchSize(7))
+        .map(fetchSize -> {
+          // The rows are all prefetched with the execution, unless the fetch size is 7
+          ctx.assertTrue(fetchSize - defaultPrefetch >= 5, "Expected more round trips with a fetch size of 7: " + fetchSize + " <= " + defaultPrefetch);
+          return null;
+        })))
+      .onComplete(ctx.asyncAssertSuccess());
+  }
+
+  // Returns the number of round trips of the second execution of the query, the first one prepares the statement
+  private Future<Long> fetchRoundTrips(TestContext ctx, SqlConnection conn, String sql, OraclePrepareOptions prepareOptions) {
+    Supplier<Future<Void>> execute = () -> conn
+      .preparedQuery(sql, prepareOptions)
+      .execute(Tuple.of(50))
+      .map(rows -> {
+        ctx.assertEquals(50, rows.size());
+        return null;
+      });
+    return execute.get()
+      .compose(v -> roundTrips(conn))
+      .compose(start -> execute.get()
+        .compose(v -> roundTrips(conn))
+        .map(end -> end - start));
+  }
+
+  private Future<Long> roundTrips(SqlConnection conn) {
+    return conn
+      .query("SELECT s.value FROM v$mystat s JOIN v$statname n ON s.statistic# = n.statistic# WHERE n.name = 'SQL*Net roundtrips to/from client'")
+      .execute()
+      .map(rows -> rows.iterator().next().getLong(0));
+  }
+
   @Test
   public void testQuery(TestContext ctx) {
     int num = 1000;
@@ -24,11 +24,21 @@ public class PgConnectOptionsConverter {
             obj.setSslMode(io.vertx.pgclient.SslMode.valueOf((String)member.getValue()));
           }
           break;
+        case "useBinarySimpleQueries":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUseBinarySimpleQueries((Boolean)member.getValue());
+          }
+          break;
         case "useLayer7Proxy":
           if (member.getValue() instanceof Boolean) {
             obj.setUseLayer7Proxy((Boolean)member.getValue());
           }
           break;
+        case "zeroCopyByteaThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setZeroCopyByteaThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -42,6 +52,8 @@ public class PgConnectOptionsConverter {
     if (obj.getSslMode() != null) {
       json.put("sslMode", obj.getSslMode().name());
     }
+    json.put("useBinarySimpleQueries", obj.getUseBinarySimpleQueries());
     json.put("useLayer7Proxy", obj.getUseLayer7Proxy());
+    json.put("zeroCopyByteaThreshold", obj.getZeroCopyByteaThreshold());
   }
 }
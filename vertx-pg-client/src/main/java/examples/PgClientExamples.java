@@ -19,9 +19,12 @@ package examples;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.docgen.Source;
 import io.vertx.pgclient.PgBuilder;
 import io.vertx.pgclient.PgConnectOptions;
@@ -294,6 +297,20 @@ public class PgClientExamples {
       .build();
   }
 
+  public void queryPipeline(SqlClient client) {
+    client
+      .pipeline()
+      .add("SELECT * FROM users WHERE id = $1", Tuple.of(1))
+      .add("SELECT * FROM orders WHERE user_id = $1", Tuple.of(1))
+      .add("SELECT COUNT(*) FROM products")
+      .execute()
+      .onSuccess(results -> {
+        RowSet<Row> users = results.get(0);
+        RowSet<Row> orders = results.get(1);
+        RowSet<Row> count = results.get(2);
+      });
+  }
+
   public void poolVersusPooledClient(Vertx vertx, String sql, PgConnectOptions connectOptions, PoolOptions poolOptions) {
 
     // Pooled client
@@ -787,4 +804,39 @@ public class PgClientExamples {
   public void pgBouncer(PgConnectOptions connectOptions) {
     connectOptions.setUseLayer7Proxy(true);
   }
+
+  public void binarySimpleQueries(PgConnectOptions connectOptions) {
+    connectOptions
+      .setUseBinarySimpleQueries(true)
+      .setCachePreparedStatements(true);
+  }
+
+  public void zeroCopyBytea(PgConnectOptions connectOptions, SqlClient client, int imageId) {
+    // Values of 64KB and more are sliced
+    connectOptions.setZeroCopyByteaThreshold(64 * 1024);
+
+    client
+      .preparedQuery("SELECT thumbnail FROM images WHERE id = $1")
+      .execute(Tuple.of(imageId))
+      .onSuccess(rows -> {
+        for (Row row : rows) {
+          Buffer thumbnail = row.getBuffer("thumbnail");
+          // Use the thumbnail
+          // ...
+          // Release the network buffer
+          row.release();
+        }
+      });
+  }
+
+  public void streamingColumn(SqlClient client, int documentId, WriteStream<Buffer> output) {
+    client
+      .preparedQuery("SELECT id, content FROM documents WHERE id = $1")
+      // Stream the last column when it is a bytea
+      .collecting(StreamingCollector.of(Collector.<Row, Void>of(() -> null, (v, row) -> {
+        ReadStream<Buffer> content = row.getStream("content");
+        content.pipeTo(output);
+      }, (v1, v2) -> null)))
+      .execute(Tuple.of(documentId));
+  }
 }
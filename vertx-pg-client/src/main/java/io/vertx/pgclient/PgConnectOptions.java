@@ -112,6 +112,8 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final int DEFAULT_PIPELINING_LIMIT = 256;
   public static final SslMode DEFAULT_SSLMODE = SslMode.DISABLE;
   public static final boolean DEFAULT_USE_LAYER_7_PROXY = false;
+  public static final boolean DEFAULT_USE_BINARY_SIMPLE_QUERIES = false;
+  public static final int DEFAULT_ZERO_COPY_BYTEA_THRESHOLD = -1;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
   static {
@@ -126,6 +128,8 @@ public class PgConnectOptions extends SqlConnectOptions {
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
   private SslMode sslMode = DEFAULT_SSLMODE;
   private boolean useLayer7Proxy = DEFAULT_USE_LAYER_7_PROXY;
+  private boolean useBinarySimpleQueries = DEFAULT_USE_BINARY_SIMPLE_QUERIES;
+  private int zeroCopyByteaThreshold = DEFAULT_ZERO_COPY_BYTEA_THRESHOLD;
 
   public PgConnectOptions() {
     super();
@@ -142,6 +146,8 @@ public class PgConnectOptions extends SqlConnectOptions {
       PgConnectOptions opts = (PgConnectOptions) other;
       pipeliningLimit = opts.pipeliningLimit;
       sslMode = opts.sslMode;
+      useBinarySimpleQueries = opts.useBinarySimpleQueries;
+      zeroCopyByteaThreshold = opts.zeroCopyByteaThreshold;
     }
   }
 
@@ -149,6 +155,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     super(other);
     pipeliningLimit = other.pipeliningLimit;
     sslMode = other.sslMode;
+    useBinarySimpleQueries = other.useBinarySimpleQueries;
+    zeroCopyByteaThreshold = other.zeroCopyByteaThreshold;
   }
 
   @Override
@@ -258,6 +266,51 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether single statement simple queries are executed with binary result formats
+   */
+  public boolean getUseBinarySimpleQueries() {
+    return useBinarySimpleQueries;
+  }
+
+  /**
+   * Set the client to execute single statement simple queries with the extended query protocol so the rows are
+   * returned in binary format when the column types support it, avoiding the cost of parsing text values.
+   * <p>
+   * Queries containing several statements are still executed with the simple query protocol. When prepared statement
+   * caching is enabled, the statements are cached like prepared queries, otherwise each execution requires an extra
+   * round-trip to describe the query.
+   *
+   * @param useBinarySimpleQueries whether to use binary result formats for simple queries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setUseBinarySimpleQueries(boolean useBinarySimpleQueries) {
+    this.useBinarySimpleQueries = useBinarySimpleQueries;
+    return this;
+  }
+
+  /**
+   * @return the minimum size of {@code bytea} values returned as slices of the network buffers
+   */
+  public int getZeroCopyByteaThreshold() {
+    return zeroCopyByteaThreshold;
+  }
+
+  /**
+   * Set the minimum size in bytes of binary format {@code bytea} values that are returned as slices of the network
+   * buffers instead of being copied, a negative value disables this feature (default).
+   * <p>
+   * Such values retain the network buffers until the row is released with {@link io.vertx.sqlclient.Row#release()},
+   * the application must release every row it receives and must not use these values after that.
+   *
+   * @param zeroCopyByteaThreshold the minimum size in bytes, or a negative value to disable
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setZeroCopyByteaThreshold(int zeroCopyByteaThreshold) {
+    this.zeroCopyByteaThreshold = zeroCopyByteaThreshold;
+    return this;
+  }
+
   @Override
   public PgConnectOptions setReconnectAttempts(int attempts) {
     return (PgConnectOptions)super.setReconnectAttempts(attempts);
@@ -317,6 +370,8 @@ public class PgConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit) return false;
     if (sslMode != that.sslMode) return false;
+    if (useBinarySimpleQueries != that.useBinarySimpleQueries) return false;
+    if (zeroCopyByteaThreshold != that.zeroCopyByteaThreshold) return false;
 
     return true;
   }
@@ -326,6 +381,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     int result = super.hashCode();
     result = 31 * result + pipeliningLimit;
     result = 31 * result + sslMode.hashCode();
+    result = 31 * result + (useBinarySimpleQueries ? 1 : 0);
+    result = 31 * result + zeroCopyByteaThreshold;
     return result;
   }
 
@@ -30,6 +30,7 @@ import io.vertx.pgclient.PgException;
 import io.vertx.pgclient.impl.codec.NoticeResponse;
 import io.vertx.pgclient.impl.codec.PgCodec;
 import io.vertx.pgclient.impl.codec.TxFailedEvent;
+import io.vertx.sqlclient.internal.ArrayTuple;
 import io.vertx.sqlclient.internal.Connection;
 import io.vertx.sqlclient.impl.Notification;
 import io.vertx.sqlclient.internal.QueryResultHandler;
@@ -47,6 +48,7 @@ public class PgSocketConnection extends SocketConnectionBase {
 
   private PgCodec codec;
   private final boolean useLayer7Proxy;
+  private final boolean useBinarySimpleQueries;
   public int processId;
   public int secretKey;
   public PgDatabaseMetadata dbMetaData;
@@ -64,6 +66,7 @@ public class PgSocketConnection extends SocketConnectionBase {
     super(socket, metrics, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
     this.connectOptions = connectOptions;
     this.useLayer7Proxy = useLayer7Proxy;
+    this.useBinarySimpleQueries = connectOptions.getUseBinarySimpleQueries();
   }
 
   @Override
@@ -73,7 +76,7 @@ public class PgSocketConnection extends SocketConnectionBase {
 
   @Override
   public void init() {
-    codec = new PgCodec(useLayer7Proxy);
+    codec = new PgCodec(this, useLayer7Proxy, connectOptions.getZeroCopyByteaThreshold());
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
@@ -165,11 +168,41 @@ public class PgSocketConnection extends SocketConnectionBase {
         QueryCommandBase.NULL_COLLECTOR,
         QueryResultHandler.NOOP_HANDLER);
       super.doSchedule(cmd2, (res, err) -> handler.complete(tx.result, err));
+    } else if (useBinarySimpleQueries && cmd instanceof SimpleQueryCommand && isSingleStatement(((SimpleQueryCommand<?>) cmd).sql())) {
+      // Run through the extended protocol to get rows in binary format
+      ExtendedQueryCommand<?> cmd2 = toExtendedQuery((SimpleQueryCommand<?>) cmd);
+      super.doSchedule((CommandBase) cmd2, handler);
     } else {
       super.doSchedule(cmd, handler);
     }
   }
 
+  private static <T> ExtendedQueryCommand<T> toExtendedQuery(SimpleQueryCommand<T> cmd) {
+    return ExtendedQueryCommand.createQuery(
+      cmd.sql(),
+      null,
+      null,
+      ArrayTuple.EMPTY,
+      cmd.autoCommit(),
+      cmd.collector(),
+      cmd.resultHandler());
+  }
+
+  /**
+   * Conservative check that {@code sql} holds a single statement: any semicolon that is not trailing
+   * keeps the query on the simple query protocol.
+   */
+  static boolean isSingleStatement(String sql) {
+    int end = sql.length();
+    while (end > 0 && Character.isWhitespace(sql.charAt(end - 1))) {
+      end--;
+    }
+    if (end > 0 && sql.charAt(end - 1) == ';') {
+      end--;
+    }
+    return end > 0 && sql.lastIndexOf(';', end - 1) == -1;
+  }
+
   @Override
   public boolean isIndeterminatePreparedStatementError(Throwable error) {
     if (error instanceof PgException) {
@@ -1036,6 +1036,12 @@ public class DataTypeCodec {
   }
 
   private static LocalDate textDecodeDATE(int index, int len, ByteBuf buff) {
+    if (len == 10) {
+      LocalDate date = textDecodeIsoDate(index, buff);
+      if (date != null) {
+        return date;
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1048,6 +1054,115 @@ public class DataTypeCodec {
     }
   }
 
+  /**
+   * Decode {@code count} ASCII digits starting at {@code index}.
+   *
+   * @return the decoded value or {@code -1} when a byte is not a digit
+   */
+  private static int textDecodeDigits(int index, int count, ByteBuf buff) {
+    int value = 0;
+    for (int i = index, to = index + count;i < to;i++) {
+      int digit = buff.getByte(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Decode a date in the ISO {@code yyyy-MM-dd} layout without intermediate string.
+   *
+   * @return the date or {@code null} when the value does not use this layout (BC dates, infinity, other date styles...)
+   */
+  private static LocalDate textDecodeIsoDate(int index, ByteBuf buff) {
+    if (buff.getByte(index + 4) != '-' || buff.getByte(index + 7) != '-') {
+      return null;
+    }
+    int year = textDecodeDigits(index, 4, buff);
+    int month = textDecodeDigits(index + 5, 2, buff);
+    int day = textDecodeDigits(index + 8, 2, buff);
+    if (year < 0 || month < 0 || day < 0) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  /**
+   * Decode a time in the ISO {@code HH:mm:ss[.SSSSSS]} layout without intermediate string.
+   *
+   * @return the nano of day or {@code -1} when the value does not use this layout
+   */
+  private static long textDecodeIsoNanoOfDay(int index, int len, ByteBuf buff) {
+    if (len < 8 || len == 9 || len > 18 || buff.getByte(index + 2) != ':' || buff.getByte(index + 5) != ':') {
+      return -1;
+    }
+    int hour = textDecodeDigits(index, 2, buff);
+    int minute = textDecodeDigits(index + 3, 2, buff);
+    int second = textDecodeDigits(index + 6, 2, buff);
+    if (hour < 0 || hour > 23 || minute < 0 || second < 0) {
+      return -1;
+    }
+    long nanos = 0;
+    if (len > 8) {
+      if (buff.getByte(index + 8) != '.') {
+        return -1;
+      }
+      int digits = len - 9;
+      int fraction = textDecodeDigits(index + 9, digits, buff);
+      if (fraction < 0) {
+        return -1;
+      }
+      nanos = fraction;
+      for (int i = digits;i < 9;i++) {
+        nanos *= 10;
+      }
+    }
+    return (hour * 3600L + minute * 60L + second) * 1_000_000_000L + nanos;
+  }
+
+  /**
+   * @return the index of the offset sign between {@code from} and {@code to} or {@code -1} when there is none
+   */
+  private static int textDecodeOffsetIndex(int from, int to, ByteBuf buff) {
+    for (int i = from;i < to;i++) {
+      byte b = buff.getByte(i);
+      if (b == '+' || b == '-') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Decode a zone offset in the {@code +HH[:mm[:ss]]} layout without intermediate string.
+   *
+   * @return the offset or {@code null} when the value does not use this layout
+   */
+  private static ZoneOffset textDecodeIsoOffset(int index, int len, ByteBuf buff) {
+    if (len != 3 && len != 6 && len != 9) {
+      return null;
+    }
+    int sign = buff.getByte(index) == '-' ? -1 : 1;
+    int seconds = 0;
+    for (int i = index + 1, to = index + len;i < to;i += 3) {
+      if (i > index + 1 && buff.getByte(i - 1) != ':') {
+        return null;
+      }
+      int part = textDecodeDigits(i, 2, buff);
+      if (part < 0) {
+        return null;
+      }
+      seconds = seconds * 60 + part;
+    }
+    // scale hours or hours:minutes to seconds
+    for (int i = len;i < 9;i += 3) {
+      seconds *= 60;
+    }
+    return ZoneOffset.ofTotalSeconds(sign * seconds);
+  }
+
   private static void binaryEncodeTIME(LocalTime value, ByteBuf buff) {
     buff.writeLong(value.getLong(ChronoField.MICRO_OF_DAY));
   }
@@ -1058,6 +1173,10 @@ public class DataTypeCodec {
   }
 
   private static LocalTime textDecodeTIME(int index, int len, ByteBuf buff) {
+    long nanoOfDay = textDecodeIsoNanoOfDay(index, len, buff);
+    if (nanoOfDay >= 0) {
+      return LocalTime.ofNanoOfDay(nanoOfDay);
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return LocalTime.parse(cs);
   }
@@ -1076,6 +1195,14 @@ public class DataTypeCodec {
   }
 
   private static OffsetTime textDecodeTIMETZ(int index, int len, ByteBuf buff) {
+    int offsetIdx = textDecodeOffsetIndex(index + 8, index + len, buff);
+    if (offsetIdx != -1) {
+      long nanoOfDay = textDecodeIsoNanoOfDay(index, offsetIdx - index, buff);
+      ZoneOffset offset = textDecodeIsoOffset(offsetIdx, index + len - offsetIdx, buff);
+      if (nanoOfDay >= 0 && offset != null) {
+        return OffsetTime.of(LocalTime.ofNanoOfDay(nanoOfDay), offset);
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return OffsetTime.parse(cs, TIMETZ_FORMAT);
   }
@@ -1107,6 +1234,13 @@ public class DataTypeCodec {
   }
 
   private static LocalDateTime textDecodeTIMESTAMP(int index, int len, ByteBuf buff) {
+    if (len >= 19 && buff.getByte(index + 10) == ' ') {
+      LocalDate date = textDecodeIsoDate(index, buff);
+      long nanoOfDay = textDecodeIsoNanoOfDay(index + 11, len - 11, buff);
+      if (date != null && nanoOfDay >= 0) {
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(nanoOfDay));
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1151,6 +1285,17 @@ public class DataTypeCodec {
   }
 
   private static OffsetDateTime textDecodeTIMESTAMPTZ(int index, int len, ByteBuf buff) {
+    if (len >= 22 && buff.getByte(index + 10) == ' ') {
+      int offsetIdx = textDecodeOffsetIndex(index + 19, index + len, buff);
+      if (offsetIdx != -1) {
+        LocalDate date = textDecodeIsoDate(index, buff);
+        long nanoOfDay = textDecodeIsoNanoOfDay(index + 11, offsetIdx - index - 11, buff);
+        ZoneOffset offset = textDecodeIsoOffset(offsetIdx, index + len - offsetIdx, buff);
+        if (date != null && nanoOfDay >= 0 && offset != null) {
+          return OffsetDateTime.of(date, LocalTime.ofNanoOfDay(nanoOfDay), offset);
+        }
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -30,12 +30,12 @@ class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends Qu
 
   ExtendedQueryCommandCodec(C cmd) {
     super(cmd);
-    rowDecoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc());
   }
 
   @Override
   void encode(PgEncoder encoder) {
     this.encoder = encoder;
+    rowDecoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc(), decoder.zeroCopyByteaThreshold);
     if (cmd.isSuspended()) {
       encoder.writeExecute(cmd.cursorId(), cmd.fetch());
       encoder.writeSync();
@@ -62,11 +62,31 @@ class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends Qu
         }
         encoder.writeBind(ps.bind, cmd.cursorId(), cmd.params());
         encoder.writeExecute(cmd.cursorId(), cmd.fetch());
+        if (cmd.isChained() && cmd.fetch() == 0) {
+          // The next query shares the implicit transaction, the encoder writes the Sync after it
+          encoder.deferSync(this);
+          return;
+        }
       }
       encoder.writeSync();
     }
   }
 
+  @Override
+  public void handleCommandComplete(int updated) {
+    super.handleCommandComplete(updated);
+    if (!synced) {
+      // No ReadyForQuery follows
+      decoder.fireCommandResponse(failure != null ? CommandResponse.failure(failure) : CommandResponse.success(result));
+    }
+  }
+
+  @Override
+  void handleEmptyQueryResponse() {
+    // An empty query ends with EmptyQueryResponse instead of CommandComplete
+    handleCommandComplete(0);
+  }
+
   @Override
   void handleParseComplete() {
     // Response to Parse
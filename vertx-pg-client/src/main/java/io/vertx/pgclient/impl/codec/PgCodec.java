@@ -19,6 +19,7 @@ package io.vertx.pgclient.impl.codec;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.CombinedChannelDuplexHandler;
 import io.vertx.sqlclient.ClosedConnectionException;
+import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.internal.command.CommandBase;
 import io.vertx.sqlclient.internal.command.CommandResponse;
 
@@ -33,8 +34,8 @@ public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder>
   private ChannelHandlerContext chctx;
   private Throwable failure;
 
-  public PgCodec(boolean useLayer7Proxy) {
-    decoder = new PgDecoder(this);
+  public PgCodec(SocketConnectionBase connection, boolean useLayer7Proxy, int zeroCopyByteaThreshold) {
+    decoder = new PgDecoder(this, connection, zeroCopyByteaThreshold);
     encoder = new PgEncoder(useLayer7Proxy, this);
     init(decoder, encoder);
   }
@@ -33,6 +33,8 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
   PgException failure;
   R result;
   final C cmd;
+  // Whether a Sync follows the messages of the command, the command then completes on ReadyForQuery
+  boolean synced = true;
 
   PgCommandCodec(C cmd) {
     this.cmd = cmd;
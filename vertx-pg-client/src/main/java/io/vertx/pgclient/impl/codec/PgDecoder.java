@@ -23,8 +23,14 @@ import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.util.ByteProcessor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.pgclient.PgException;
 import io.vertx.pgclient.impl.util.Util;
+import io.vertx.sqlclient.ClosedConnectionException;
 import io.vertx.sqlclient.impl.Notification;
+import io.vertx.sqlclient.impl.SocketConnectionBase;
+import io.vertx.sqlclient.internal.ColumnStream;
 import io.vertx.sqlclient.internal.command.CommandBase;
 import io.vertx.sqlclient.internal.command.CommandResponse;
 
@@ -38,12 +44,22 @@ import io.vertx.sqlclient.internal.command.CommandResponse;
 class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private final PgCodec codec;
+  final int zeroCopyByteaThreshold;
+  private final SocketConnectionBase connection;
   private ChannelHandlerContext chctx;
   private ByteBufAllocator alloc;
   private ByteBuf in;
 
-  PgDecoder(PgCodec codec) {
+  // Last column of the data row being streamed
+  private ColumnStream columnStream;
+  private int columnStreamRemaining;
+  // Whether decoding waits for the application to consume a streamed column
+  private boolean streamPaused;
+
+  PgDecoder(PgCodec codec, SocketConnectionBase connection, int zeroCopyByteaThreshold) {
     this.codec = codec;
+    this.connection = connection;
+    this.zeroCopyByteaThreshold = zeroCopyByteaThreshold;
   }
 
   void fireCommandResponse(CommandResponse<?> commandResponse) {
@@ -64,6 +80,11 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
 
   @Override
   public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    if (columnStream != null) {
+      ColumnStream stream = columnStream;
+      columnStream = null;
+      stream.fail(ClosedConnectionException.INSTANCE);
+    }
     if (in != null) {
       ByteBuf buff = this.in;
       this.in = null;
@@ -87,17 +108,33 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
       }
       composite.addComponent(true, buff);
     }
-    while (true) {
+    decode(ctx);
+  }
+
+  private void decode(ChannelHandlerContext ctx) {
+    while (in != null) {
+      if (streamPaused || (columnStream != null && !decodeColumnStream())) {
+        break;
+      }
       int available = in.readableBytes();
       if (available < 5) {
         break;
       }
       int beginIdx = in.readerIndex();
       int length = in.getInt(beginIdx + 1);
+      byte id = in.getByte(beginIdx);
+      if (id == PgProtocolConstants.MESSAGE_TYPE_DATA_ROW && streamsLastColumn()) {
+        int prefixEndIdx = dataRowPrefixEnd(in, beginIdx + 5);
+        if (prefixEndIdx == -1) {
+          break;
+        } else if (prefixEndIdx > 0) {
+          decodeStreamedDataRow(beginIdx, prefixEndIdx);
+          continue;
+        }
+      }
       if (length + 1 > available) {
         break;
       }
-      byte id = in.getByte(beginIdx);
       int endIdx = beginIdx + length + 1;
       final int writerIndex = in.writerIndex();
       try {
@@ -209,6 +246,113 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     cmd.rowDecoder.handleRow(len, in);
   }
 
+  /**
+   * Scan the columns of a data row preceding its last column value.
+   *
+   * @return the index of the last column value, {@code -1} when more bytes are needed or {@code -2} when the last
+   *         column cannot be streamed
+   */
+  private static int dataRowPrefixEnd(ByteBuf in, int idx) {
+    int to = in.writerIndex();
+    if (idx + 2 > to) {
+      return -1;
+    }
+    int len = in.getUnsignedShort(idx);
+    if (len == 0) {
+      return -2;
+    }
+    idx += 2;
+    for (int c = 0;c < len;c++) {
+      if (idx + 4 > to) {
+        return -1;
+      }
+      int length = in.getInt(idx);
+      idx += 4;
+      if (c == len - 1) {
+        return length == -1 ? -2 : idx;
+      } else if (length > 0) {
+        idx += length;
+      }
+    }
+    return -2;
+  }
+
+  /**
+   * @return whether the current command streams the last column of its data rows
+   */
+  private boolean streamsLastColumn() {
+    PgCommandCodec<?, ?> cmdCodec = codec.peek();
+    if (cmdCodec instanceof QueryCommandBaseCodec) {
+      RowResultDecoder<?, ?> rowDecoder = ((QueryCommandBaseCodec<?, ?>) cmdCodec).rowDecoder;
+      return rowDecoder != null && rowDecoder.streamsLastColumn();
+    }
+    return false;
+  }
+
+  /**
+   * Decode the leading columns of a data row and deliver its last column as a stream.
+   */
+  private void decodeStreamedDataRow(int beginIdx, int prefixEndIdx) {
+    PgCommandCodec<?, ?> cmdCodec = codec.peek();
+    QueryCommandBaseCodec<?, ?> cmd = (QueryCommandBaseCodec<?, ?>) cmdCodec;
+    ColumnStream stream = new ColumnStream((ContextInternal) connection.context());
+    stream.drainHandler(v -> {
+      if (streamPaused) {
+        streamPaused = false;
+        connection.resume();
+        decode(chctx);
+      }
+    });
+    int writerIndex = in.writerIndex();
+    try {
+      in.setIndex(beginIdx + 5, prefixEndIdx);
+      int len = in.readUnsignedShort();
+      cmd.rowDecoder.streamedColumn = stream;
+      cmd.rowDecoder.handleRow(len, in);
+    } finally {
+      cmd.rowDecoder.streamedColumn = null;
+      in.setIndex(prefixEndIdx, writerIndex);
+    }
+    if (!stream.hasHandler()) {
+      // Not consumed by the collector
+      stream.release();
+    }
+    columnStream = stream;
+    columnStreamRemaining = in.getInt(prefixEndIdx - 4);
+  }
+
+  /**
+   * Deliver the available bytes of the streamed column, decoding stops when the application does not keep up
+   * with the stream and resumes when the stream is drained.
+   *
+   * @return whether decoding can continue
+   */
+  private boolean decodeColumnStream() {
+    int amount = Math.min(columnStreamRemaining, in.readableBytes());
+    boolean writable = true;
+    if (amount > 0) {
+      columnStreamRemaining -= amount;
+      if (columnStream.isReleased()) {
+        in.skipBytes(amount);
+      } else {
+        byte[] chunk = new byte[amount];
+        in.readBytes(chunk);
+        writable = columnStream.write(Buffer.buffer(chunk));
+      }
+    }
+    if (columnStreamRemaining == 0) {
+      ColumnStream stream = columnStream;
+      columnStream = null;
+      stream.end();
+    }
+    if (!writable) {
+      streamPaused = true;
+      connection.pause();
+      return false;
+    }
+    return columnStream == null;
+  }
+
   private void decodeRowDescription(ByteBuf in) {
     PgColumnDesc[] columns = new PgColumnDesc[in.readUnsignedShort()];
     for (int c = 0; c < columns.length; ++c) {
@@ -256,6 +400,9 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
         PgCommandCodec<?, ?> cmd = codec.peek();
         if (cmd != null) {
           cmd.handleErrorResponse(response);
+          if (!cmd.synced) {
+            skipUntilSync(cmd.failure);
+          }
         }
         break;
       // Unsolicited errors
@@ -270,6 +417,20 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     }
   }
 
+  /**
+   * The server discards the messages until the next Sync after an error, fail the commands which will not receive
+   * a response, the command followed by the Sync fails on ReadyForQuery.
+   */
+  private void skipUntilSync(PgException failure) {
+    PgCommandCodec<?, ?> cmd;
+    while ((cmd = codec.peek()) != null && !cmd.synced) {
+      fireCommandResponse(CommandResponse.failure(failure));
+    }
+    if (cmd != null) {
+      cmd.failure = failure;
+    }
+  }
+
   private void decodeNotice(ByteBuf in) {
     NoticeResponse response = new NoticeResponse();
     decodeErrorOrNotice(response, in);
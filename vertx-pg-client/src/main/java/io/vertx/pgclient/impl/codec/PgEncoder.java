@@ -59,6 +59,8 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private ByteBuf out;
   private final HexSequence psSeq = new HexSequence(); // used for generating named prepared statement name
   boolean closeSent;
+  // The last query written without Sync
+  private PgCommandCodec<?, ?> unsynced;
 
   PgEncoder(boolean useLayer7Proxy, PgCodec codec) {
     this.useLayer7Proxy = useLayer7Proxy;
@@ -86,6 +88,9 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
 
   void write(CommandBase<?> cmd) {
     PgCommandCodec<?, ?> cmdCodec = wrap(cmd);
+    if (unsynced != null && !(cmdCodec instanceof ExtendedQueryCommandCodec)) {
+      syncDeferred();
+    }
     if (codec.add(cmdCodec)) {
       cmdCodec.encode(this);
     }
@@ -148,6 +153,9 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   }
 
   void flush() {
+    if (unsynced != null) {
+      syncDeferred();
+    }
     if (out != null) {
       ByteBuf buff = out;
       out = null;
@@ -184,6 +192,23 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     ensureBuffer();
     out.writeByte(SYNC);
     out.writeInt(4);
+    // The Sync ends the implicit transaction of the queries written without Sync
+    unsynced = null;
+  }
+
+  /**
+   * Omit the Sync of the query of the {@code cmdCodec}, so it shares an implicit transaction with the next query. The
+   * Sync is written by the next command or before the encoder is flushed.
+   */
+  void deferSync(PgCommandCodec<?, ?> cmdCodec) {
+    cmdCodec.synced = false;
+    unsynced = cmdCodec;
+  }
+
+  private void syncDeferred() {
+    PgCommandCodec<?, ?> last = unsynced;
+    writeSync();
+    last.synced = true;
   }
 
   /**
@@ -18,9 +18,13 @@
 package io.vertx.pgclient.impl.codec;
 
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.StreamingCollector;
 import io.vertx.pgclient.impl.RowImpl;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.sqlclient.impl.RowDecoder;
+import io.vertx.sqlclient.internal.ColumnStream;
 import io.vertx.sqlclient.internal.RowInternal;
 
 import java.util.stream.Collector;
@@ -28,10 +32,31 @@ import java.util.stream.Collector;
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   final PgRowDesc desc;
+  private final int zeroCopyByteaThreshold;
+  private final boolean streamsLastColumn;
+  ColumnStream streamedColumn;
 
-  RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc) {
+  RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc, int zeroCopyByteaThreshold) {
     super(collector);
     this.desc = desc;
+    this.zeroCopyByteaThreshold = zeroCopyByteaThreshold;
+    this.streamsLastColumn = collector instanceof StreamingCollector && isBinaryBytea(desc.columns);
+  }
+
+  private static boolean isBinaryBytea(PgColumnDesc[] columns) {
+    if (columns.length == 0) {
+      return false;
+    }
+    PgColumnDesc last = columns[columns.length - 1];
+    return last.dataFormat == DataFormat.BINARY && last.dataType == DataType.BYTEA;
+  }
+
+  /**
+   * @return whether the last column of the rows is streamed, only binary {@code bytea} values collected with a
+   *         {@link StreamingCollector} are streamed
+   */
+  boolean streamsLastColumn() {
+    return streamsLastColumn;
   }
 
   @Override
@@ -44,9 +69,18 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
       Object decoded = null;
-      if (length != -1) {
+      if (c == len - 1 && streamedColumn != null) {
+        // The value bytes are delivered by the decoder as they are received
+        ((RowImpl) row).addStream(streamedColumn);
+        decoded = streamedColumn;
+      } else if (length != -1) {
         PgColumnDesc columnDesc = desc.columns[c];
-        if (columnDesc.dataFormat == DataFormat.BINARY) {
+        if (columnDesc.dataFormat == DataFormat.BINARY && columnDesc.dataType == DataType.BYTEA && zeroCopyByteaThreshold >= 0 && length >= zeroCopyByteaThreshold) {
+          // Slice the network buffer instead of copying, the slice is released with the row
+          ByteBuf slice = retainedValue(in, in.readerIndex(), length);
+          ((RowImpl) row).addRetainedBuffer(slice);
+          decoded = BufferInternal.buffer(slice);
+        } else if (columnDesc.dataFormat == DataFormat.BINARY) {
           decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, in.readerIndex(), length, in);
         } else {
           decoded = DataTypeCodec.decodeText(columnDesc.dataType, in.readerIndex(), length, in);
@@ -57,4 +91,24 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     }
     return true;
   }
+
+  /**
+   * Retain the bytes of a value without retaining the whole cumulation buffer: when the buffer is a composite, the
+   * value is sliced from the component holding it or copied when it spans several components.
+   */
+  private static ByteBuf retainedValue(ByteBuf in, int index, int length) {
+    if (in instanceof CompositeByteBuf) {
+      if (length > 0) {
+        CompositeByteBuf composite = (CompositeByteBuf) in;
+        int componentIndex = composite.toComponentIndex(index);
+        int offset = composite.toByteIndex(componentIndex);
+        ByteBuf component = composite.component(componentIndex);
+        if (index + length <= offset + component.readableBytes()) {
+          return component.retainedSlice(component.readerIndex() + index - offset, length);
+        }
+      }
+      return in.copy(index, length);
+    }
+    return in.retainedSlice(index, length);
+  }
 }
@@ -11,13 +11,19 @@
 
 package io.vertx.tests.pgclient;
 
+import io.vertx.core.Future;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
 import io.vertx.pgclient.PgBuilder;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.spi.metrics.SqlPoolMetrics;
 import io.vertx.tests.pgclient.junit.ContainerPgRule;
-import io.vertx.sqlclient.ClientBuilder;
-import io.vertx.sqlclient.Pool;
-import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.tests.sqlclient.tck.MetricsTestBase;
 import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class PgMetricsTest extends MetricsTestBase {
 
@@ -44,4 +50,41 @@ public class PgMetricsTest extends MetricsTestBase {
     }
     return sb.toString();
   }
+
+  @Test
+  public void testStatementAffinity(TestContext ctx) {
+    AtomicInteger hits = new AtomicInteger();
+    AtomicInteger misses = new AtomicInteger();
+    poolMetrics = new SqlPoolMetrics<Object, Object>() {
+      @Override
+      public void statementAffinity(boolean hit) {
+        (hit ? hits : misses).incrementAndGet();
+      }
+    };
+    Pool pool = poolBuilder()
+      .with(new PoolOptions().setMaxSize(2).setMinIdle(2).setWarmUp(true).setStatementAffinity(true))
+      .connectingTo(new PgConnectOptions(rule.options()).setCachePreparedStatements(true))
+      .using(vertx)
+      .build();
+    // Wait until the connections are opened
+    Async async = ctx.async();
+    vertx.setPeriodic(10, id -> {
+      if (pool.size() == 2) {
+        vertx.cancelTimer(id);
+        async.complete();
+      }
+    });
+    async.awaitSuccess(20_000);
+    Future<RowSet<Row>> fut = Future.succeededFuture();
+    for (int i = 0; i < 10; i++) {
+      int val = i;
+      fut = fut.compose(v -> pool.preparedQuery("SELECT $1::INT4").execute(Tuple.of(val)));
+    }
+    fut.onComplete(ctx.asyncAssertSuccess(v -> {
+      // Only the first execution prepares the statement
+      ctx.assertEquals(1, misses.get());
+      ctx.assertEquals(9, hits.get());
+      pool.close();
+    }));
+  }
 }
@@ -17,15 +17,19 @@
 
 package io.vertx.tests.pgclient;
 
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 
 /**
@@ -68,6 +72,75 @@ public class PgPipeliningTest extends PgTestBase {
     });
   }
 
+  @Test
+  public void testPipeline(TestContext ctx) {
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .pipeline()
+        .add("SELECT $1::INT4", Tuple.of(1))
+        .add("SELECT $1::VARCHAR", Tuple.of("two"))
+        .add("SELECT 3")
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(results -> {
+          ctx.assertEquals(3, results.size());
+          ctx.assertEquals(1, results.get(0).iterator().next().getInteger(0));
+          ctx.assertEquals("two", results.get(1).iterator().next().getString(0));
+          ctx.assertEquals(3, results.get(2).iterator().next().getInteger(0));
+          conn.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testPipelineEmptyQuery(TestContext ctx) {
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .pipeline()
+        .add("SELECT 1")
+        .add("")
+        .add("SELECT 3")
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(results -> {
+          ctx.assertEquals(3, results.size());
+          ctx.assertEquals(1, results.get(0).iterator().next().getInteger(0));
+          ctx.assertEquals(0, results.get(1).size());
+          ctx.assertEquals(3, results.get(2).iterator().next().getInteger(0));
+          conn.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testPipelineImplicitTransaction(TestContext ctx) {
+    PgConnectOptions options = new PgConnectOptions(this.options).setCachePreparedStatements(true);
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .query("CREATE TEMP TABLE pipeline_test (id INT4)")
+        .execute()
+        // The first execution prepares the statements
+        .compose(v -> pipeline(conn, 1))
+        .compose(v -> pipeline(conn, 0))
+        .onComplete(ctx.asyncAssertFailure(err -> {
+          // The insert of the failed pipeline is rolled back
+          conn
+            .query("SELECT COUNT(*) FROM pipeline_test")
+            .execute()
+            .onComplete(ctx.asyncAssertSuccess(rows -> {
+              ctx.assertEquals(1L, rows.iterator().next().getLong(0));
+              conn.close();
+            }));
+        }));
+    }));
+  }
+
+  private Future<List<RowSet<Row>>> pipeline(PgConnection conn, int divisor) {
+    return conn
+      .pipeline()
+      .add("INSERT INTO pipeline_test (id) VALUES ($1)", Tuple.of(divisor))
+      .add("SELECT 1 / $1::INT4", Tuple.of(divisor))
+      .execute();
+  }
+
   public void repeat(TestContext ctx, BiConsumer<PgConnection, Async> operation) {
     int times = 128;
     Async async = ctx.async(times);
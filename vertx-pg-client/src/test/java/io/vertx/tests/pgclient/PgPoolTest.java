@@ -18,6 +18,7 @@
 package io.vertx.tests.pgclient;
 
 import io.netty.channel.EventLoop;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.VertxOptions;
 import io.vertx.ext.unit.Async;
@@ -25,17 +26,22 @@ import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.Repeat;
 import io.vertx.ext.unit.junit.RepeatRule;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.pgclient.PgBuilder;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
 import io.vertx.pgclient.impl.PgSocketConnection;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.internal.SqlConnectionInternal;
+import io.vertx.sqlclient.internal.pool.RoutingPool;
+import io.vertx.sqlclient.spi.DatabaseEndpoint;
+import io.vertx.sqlclient.spi.LoadBalancer;
 import io.vertx.tests.sqlclient.ProxyServer;
 import org.junit.Rule;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -304,6 +310,31 @@ public class PgPoolTest extends PgPoolTestBase {
     ctx.assertEquals(2, eventLoops.size());
   }
 
+  @Test
+  public void testShardedPool(TestContext ctx) {
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    List<EventLoop> eventLoops = new ArrayList<>();
+    vertxInternal.nettyEventLoopGroup().forEach(executor -> eventLoops.add((EventLoop) executor));
+    Pool pool = PgBuilder.pool(b -> b.with(new PoolOptions().setMaxSize(eventLoops.size()).setSharded(true)).connectingTo(options).using(vertx));
+    Async async = ctx.async(eventLoops.size());
+    try {
+      for (EventLoop eventLoop : eventLoops) {
+        ContextInternal context = vertxInternal.contextBuilder().withEventLoop(eventLoop).build();
+        context.runOnContext(v -> pool
+          .getConnection()
+          .onComplete(ctx.asyncAssertSuccess(conn -> {
+            // The connection is bound to the event loop of the request
+            PgSocketConnection c = (PgSocketConnection) ((SqlConnectionInternal) conn).unwrap().unwrap();
+            ctx.assertEquals(eventLoop, ((ContextInternal) c.context()).nettyEventLoop());
+            async.countDown();
+          })));
+      }
+      async.await();
+    } finally {
+      pool.close();
+    }
+  }
+
   @Test
   public void testPipelining(TestContext ctx) {
     AtomicLong latency = new AtomicLong(0L);
@@ -472,6 +503,396 @@ public class PgPoolTest extends PgPoolTestBase {
       .onComplete(ctx.asyncAssertSuccess());
   }
 
+  @Test
+  public void testWarmUp(TestContext ctx) {
+    Pool pool = createPool(options, new PoolOptions().setMaxSize(4).setMinIdle(3).setWarmUp(true).setPoolCleanerPeriod(0));
+    waitUntilPoolSizeIs(ctx, pool, 3);
+    Async async = ctx.async();
+    vertx.setTimer(100, id -> {
+      ctx.assertEquals(3, pool.size());
+      async.complete();
+    });
+  }
+
+  @Test
+  public void testMinIdleKeepsConnections(TestContext ctx) {
+    int maxSize = 4;
+    Pool pool = createPool(options, new PoolOptions()
+      .setMaxSize(maxSize)
+      .setMinIdle(2)
+      .setIdleTimeout(50)
+      .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(10));
+    List<SqlConnection> connections = Collections.synchronizedList(new ArrayList<>());
+    Async async = ctx.async(maxSize);
+    for (int i = 0; i < maxSize; i++) {
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+        connections.add(conn);
+        async.countDown();
+      }));
+    }
+    async.awaitSuccess(20_000);
+    connections.forEach(SqlClient::close);
+    waitUntilPoolSizeIs(ctx, pool, 2);
+    Async check = ctx.async();
+    vertx.setTimer(200, id -> {
+      ctx.assertEquals(2, pool.size());
+      check.complete();
+    });
+  }
+
+  @Test
+  public void testMinIdleOpensConnectionsWhenBusy(TestContext ctx) {
+    Pool pool = createPool(options, new PoolOptions()
+      .setMaxSize(4)
+      .setMinIdle(2)
+      .setWarmUp(true)
+      .setPoolCleanerPeriod(10));
+    waitUntilPoolSizeIs(ctx, pool, 2);
+    // Use the idle connections, the pool opens new ones to keep 2 idle connections
+    List<SqlConnection> connections = Collections.synchronizedList(new ArrayList<>());
+    Async async = ctx.async(2);
+    for (int i = 0; i < 2; i++) {
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+        connections.add(conn);
+        async.countDown();
+      }));
+    }
+    async.awaitSuccess(20_000);
+    waitUntilPoolSizeIs(ctx, pool, 4);
+    Async check = ctx.async();
+    vertx.setTimer(100, id -> {
+      ctx.assertEquals(4, pool.size());
+      connections.forEach(SqlClient::close);
+      check.complete();
+    });
+  }
+
+  @Test
+  public void testWarmUpStatements(TestContext ctx) {
+    String sql = "SELECT id, message FROM immutable WHERE id = $1";
+    options.setCachePreparedStatements(true);
+    Pool pool = createPool(options, new PoolOptions()
+      .setMaxSize(1)
+      .addWarmUpStatement(sql)
+      .addWarmUpStatement("SELECT * FROM does_not_exist"));
+    pool
+      .withConnection(conn -> conn
+        .query("SELECT statement FROM pg_prepared_statements")
+        .execute())
+      .onComplete(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(1, rows.size());
+        ctx.assertEquals(sql, rows.iterator().next().getString(0));
+      }));
+  }
+
+  @Test
+  public void testMaxLifetimeReplacement(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    AtomicInteger open = new AtomicInteger();
+    AtomicInteger opened = new AtomicInteger();
+    AtomicInteger maxOpen = new AtomicInteger();
+    proxy.proxyHandler(conn -> {
+      opened.incrementAndGet();
+      maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+      conn.clientCloseHandler(v -> open.decrementAndGet());
+      conn.connect();
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    options.setPort(8080);
+    options.setHost("localhost");
+    Pool pool = createPool(options, new PoolOptions()
+      .setMaxSize(4)
+      .setMaxLifetime(200)
+      .setMaxLifetimeJitter(50)
+      .setMaxLifetimeUnit(TimeUnit.MILLISECONDS)
+      .setMaxConcurrentReplacements(1)
+      .setPoolCleanerPeriod(10));
+    // Open 2 connections, the pool does not maintain a minimum number of idle connections
+    List<SqlConnection> connections = Collections.synchronizedList(new ArrayList<>());
+    Async acquired = ctx.async(2);
+    for (int i = 0; i < 2; i++) {
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+        connections.add(conn);
+        acquired.countDown();
+      }));
+    }
+    acquired.awaitSuccess(20_000);
+    connections.forEach(SqlClient::close);
+
+    Async async = ctx.async();
+    vertx.setPeriodic(5, id -> {
+      // Expired connections remain in the pool until their replacement is opened
+      ctx.assertTrue(pool.size() >= 2, "Was expecting at least 2 pooled connections: " + pool.size());
+      ctx.assertTrue(open.get() >= 2, "Was expecting at least 2 open connections: " + open.get());
+      if (opened.get() >= 8) {
+        vertx.cancelTimer(id);
+        async.complete();
+      }
+    });
+    async.awaitSuccess(20_000);
+    // A single connection is replaced at a time
+    ctx.assertTrue(maxOpen.get() <= 3, "Was expecting at most 3 open connections: " + maxOpen.get());
+  }
+
+  @Test
+  public void testDeadlineExpiresInWaitQueue(TestContext ctx) {
+    Pool pool = createPool(options, new PoolOptions().setMaxSize(1));
+    pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+      pool.withOptions(new RequestOptions().setTimeout(100))
+        .query("SELECT 1")
+        .execute()
+        .onComplete(ctx.asyncAssertFailure(err -> {
+          ctx.assertEquals("Deadline exceeded", err.getMessage());
+          conn.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testLoadShedding(TestContext ctx) {
+    Pool pool = createPool(options, new PoolOptions().setMaxSize(1).setLoadSheddingLatency(10_000));
+    // The initial limit is twice the pool size
+    pool.query("SELECT pg_sleep(0.2)").execute().onComplete(ctx.asyncAssertSuccess());
+    pool.query("SELECT pg_sleep(0.2)").execute().onComplete(ctx.asyncAssertSuccess());
+    pool.query("SELECT 1").execute().onComplete(ctx.asyncAssertFailure(err -> {
+      ctx.assertEquals("Pool overloaded", err.getMessage());
+    }));
+  }
+
+  @Test
+  public void testLanes(TestContext ctx) {
+    Pool pool = createPool(options, new PoolOptions().setMaxSize(1).addLane("batch", 1).addLane("checkout", 10));
+    Pool batch = pool.withOptions(new RequestOptions().setLane("batch"));
+    Pool checkout = pool.withOptions(new RequestOptions().setLane("checkout"));
+    List<String> completions = Collections.synchronizedList(new ArrayList<>());
+    Async async = ctx.async(4);
+    pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+      for (int i = 0; i < 3; i++) {
+        batch.query("SELECT 1").execute().onComplete(ctx.asyncAssertSuccess(res -> {
+          completions.add("batch");
+          async.countDown();
+        }));
+      }
+      checkout.query("SELECT 1").execute().onComplete(ctx.asyncAssertSuccess(res -> {
+        completions.add("checkout");
+        async.countDown();
+      }));
+      // Wait until the requests are queued
+      vertx.setTimer(100, id -> conn.close());
+    }));
+    async.awaitSuccess(20_000);
+    // The checkout request does not wait for all the batch requests
+    ctx.assertTrue(completions.indexOf("checkout") <= 1, "Unexpected completion order: " + completions);
+  }
+
+  @Test
+  public void testLoadBalancerEjectsFailedDatabase(TestContext ctx) {
+    PgConnectOptions unreachable = new PgConnectOptions(options).setPort(4);
+    List<Integer> candidates = Collections.synchronizedList(new ArrayList<>());
+    LoadBalancer roundRobin = LoadBalancer.roundRobin();
+    Pool pool = PgBuilder.pool(b -> b
+      .with(new PoolOptions().setMaxSize(1))
+      .connectingTo(Arrays.asList(unreachable, options), endpoints -> {
+        candidates.add(endpoints.size());
+        return roundRobin.select(endpoints);
+      })
+      .using(vertx));
+    pool.getConnection().onComplete(ctx.asyncAssertFailure(err1 -> {
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn -> {
+        // The unreachable database is ejected after the failed attempt
+        ctx.assertEquals(Arrays.asList(2, 1), candidates);
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testLoadBalancerTracksLeases(TestContext ctx) {
+    List<DatabaseEndpoint> databases = new ArrayList<>();
+    LoadBalancer leastOutstandingRequests = LoadBalancer.leastOutstandingRequests();
+    Pool pool = PgBuilder.pool(b -> b
+      .with(new PoolOptions().setMaxSize(2))
+      .connectingTo(Arrays.asList(options, new PgConnectOptions(options)), endpoints -> {
+        if (databases.isEmpty()) {
+          databases.addAll(endpoints);
+        }
+        return leastOutstandingRequests.select(endpoints);
+      })
+      .using(vertx));
+    pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn1 -> {
+      ctx.assertEquals(1, databases.get(0).outstandingRequests());
+      pool.getConnection().onComplete(ctx.asyncAssertSuccess(conn2 -> {
+        // The second connection is opened to the database without lease
+        ctx.assertEquals(1, databases.get(0).outstandingRequests());
+        ctx.assertEquals(1, databases.get(1).outstandingRequests());
+        ctx.assertEquals(1, databases.get(1).connections());
+        conn1.close().onComplete(ctx.asyncAssertSuccess(v -> {
+          ctx.assertEquals(0, databases.get(0).outstandingRequests());
+          ctx.assertEquals(1, databases.get(0).connections());
+          conn2.close();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testLoadBalancerSelectsPooledConnection(TestContext ctx) {
+    List<DatabaseEndpoint> databases = new ArrayList<>();
+    AtomicReference<DatabaseEndpoint> preferred = new AtomicReference<>();
+    LoadBalancer leastOutstandingRequests = LoadBalancer.leastOutstandingRequests();
+    Pool pool = PgBuilder.pool(b -> b
+      .with(new PoolOptions().setMaxSize(2))
+      .connectingTo(Arrays.asList(options, new PgConnectOptions(options)), endpoints -> {
+        if (databases.isEmpty()) {
+          databases.addAll(endpoints);
+        }
+        DatabaseEndpoint endpoint = preferred.get();
+        return endpoint != null && endpoints.contains(endpoint) ? endpoint : leastOutstandingRequests.select(endpoints);
+      })
+      .using(vertx));
+    // Open a connection to each database
+    pool.getConnection().compose(conn1 -> pool.getConnection().compose(conn2 -> conn1.close().compose(v -> conn2.close())))
+      .compose(v -> {
+        ctx.assertEquals(1, databases.get(0).connections());
+        ctx.assertEquals(1, databases.get(1).connections());
+        // The load balancer selects the database of the leased connection among the idle connections
+        preferred.set(databases.get(1));
+        return pool.getConnection();
+      })
+      .compose(conn -> {
+        ctx.assertEquals(0, databases.get(0).outstandingRequests());
+        ctx.assertEquals(1, databases.get(1).outstandingRequests());
+        return conn.close();
+      })
+      .compose(v -> {
+        preferred.set(databases.get(0));
+        return pool.getConnection();
+      })
+      .compose(conn -> {
+        ctx.assertEquals(1, databases.get(0).outstandingRequests());
+        ctx.assertEquals(0, databases.get(1).outstandingRequests());
+        return conn.close();
+      })
+      .onComplete(ctx.asyncAssertSuccess(v -> pool.close()));
+  }
+
+  @Test
+  public void testReadReplicaRouting(TestContext ctx) {
+    RoutingPool pool = (RoutingPool) PgBuilder.pool(b -> b
+      .with(new PoolOptions().setMaxSize(1))
+      .connectingTo(options)
+      .connectingToReplicas(Collections.singletonList(options))
+      .using(vertx));
+    Pool replica = pool.replicas().get(0);
+    pool.withOptions(new RequestOptions().setReadOnly(true))
+      .query("SELECT 1")
+      .execute()
+      .compose(v -> {
+        ctx.assertEquals(0, pool.primary().size());
+        ctx.assertEquals(1, replica.size());
+        // Not read-only
+        return pool.query("SELECT 1").execute();
+      })
+      .onComplete(ctx.asyncAssertSuccess(v -> {
+        ctx.assertEquals(1, pool.primary().size());
+        ctx.assertEquals(1, replica.size());
+        pool.close();
+      }));
+  }
+
+  @Test
+  public void testReadOnlyTransactionRouting(TestContext ctx) {
+    RoutingPool pool = (RoutingPool) PgBuilder.pool(b -> b
+      .with(new PoolOptions().setMaxSize(1))
+      .connectingTo(options)
+      .connectingToReplicas(Collections.singletonList(options))
+      .using(vertx));
+    Pool replica = pool.replicas().get(0);
+    pool.withOptions(new RequestOptions().setReadOnly(true))
+      .withTransaction(conn -> conn.query("WITH t AS (SELECT 1 AS v) SELECT v FROM t").execute())
+      .compose(v -> {
+        ctx.assertEquals(0, pool.primary().size());
+        ctx.assertEquals(1, replica.size());
+        return pool.withTransaction(conn -> conn.query("SELECT 1").execute());
+      })
+      .onComplete(ctx.asyncAssertSuccess(v -> {
+        ctx.assertEquals(1, pool.primary().size());
+        pool.close();
+      }));
+  }
+
+  @Test
+  public void testHedgedReads(TestContext ctx) {
+    // The first replica is slowed down by a proxy delaying the messages of the client
+    AtomicLong latency = new AtomicLong(0L);
+    Async cancelled = ctx.async();
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    proxy.proxyHandler(conn -> {
+      conn.clientHandler(buff -> {
+        long delay = latency.get();
+        if (delay == 0L) {
+          conn.serverSocket().write(buff);
+        } else {
+          // The cancel request of the losing execution
+          if (buff.length() == 16 && buff.getInt(4) == 80877102 && !cancelled.isCompleted()) {
+            cancelled.complete();
+          }
+          vertx.setTimer(delay, id -> {
+            conn.serverSocket().write(buff);
+          });
+        }
+      });
+      conn.connect();
+    });
+    Async latch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> latch.complete()));
+    latch.awaitSuccess(20_000);
+    PgConnectOptions slow = new PgConnectOptions(options).setHost("localhost").setPort(8080);
+
+    RoutingPool pool = (RoutingPool) PgBuilder.pool(b -> b
+      .with(new PoolOptions().setMaxSize(2).setHedgingPercentile(90))
+      .connectingTo(options)
+      .connectingToReplicas(Arrays.asList(slow, options))
+      .using(vertx));
+    Pool readOnly = pool.withOptions(new RequestOptions().setReadOnly(true));
+    // Learn the latency of the queries
+    Future<RowSet<Row>> fut = Future.succeededFuture();
+    for (int i = 0; i < 128; i++) {
+      fut = fut.compose(v -> readOnly.query("SELECT 1").execute());
+    }
+    Async async = ctx.async();
+    fut.onComplete(ctx.asyncAssertSuccess(v1 -> {
+      long hedged = pool.hedgedQueries();
+      latency.set(2000);
+      long start = System.currentTimeMillis();
+      // The replicas are used in turn, one of the queries is first executed on the slow replica
+      Future.all(readOnly.query("SELECT 1").execute(), readOnly.query("SELECT 1").execute()).onComplete(ctx.asyncAssertSuccess(v2 -> {
+        long elapsed = System.currentTimeMillis() - start;
+        ctx.assertTrue(elapsed < 2000, "Was expecting hedged latency " + elapsed + " < 2000");
+        ctx.assertTrue(pool.hedgedQueries() > hedged);
+        async.complete();
+      }));
+    }));
+    async.awaitSuccess(20_000);
+    cancelled.awaitSuccess(20_000);
+    pool.close();
+  }
+
+  private void waitUntilPoolSizeIs(TestContext ctx, Pool pool, int expected) {
+    Async async = ctx.async();
+    vertx.setPeriodic(10, id -> {
+      if (pool.size() == expected) {
+        vertx.cancelTimer(id);
+        async.complete();
+      }
+    });
+    async.awaitSuccess(20_000);
+  }
+
   @Test
   public void testPoolConnectTimeout(TestContext ctx) {
     Async async = ctx.async(2);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.pgclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.pgclient.impl.codec.DataType;
+import io.vertx.pgclient.impl.codec.DataTypeCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of text format column decoding, per data type.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3, jvmArgs = {"-Xms8g", "-Xmx8g", "-Xmn7g"})
+public class TextDecodeBenchmarks {
+
+  private ByteBuf int2;
+  private ByteBuf int4;
+  private ByteBuf int8;
+  private ByteBuf date;
+  private ByteBuf time;
+  private ByteBuf timetz;
+  private ByteBuf timestamp;
+  private ByteBuf timestamptz;
+
+  @Setup
+  public void setup() {
+    int2 = buffer("-12345");
+    int4 = buffer("1234567890");
+    int8 = buffer("-1234567890123456789");
+    date = buffer("2017-05-14");
+    time = buffer("17:55:04.905120");
+    timetz = buffer("17:55:04.90512+03");
+    timestamp = buffer("2017-05-14 19:35:58.237666");
+    timestamptz = buffer("2017-05-15 02:59:59.237666+00");
+  }
+
+  private static ByteBuf buffer(String value) {
+    return Unpooled.unreleasableBuffer(Unpooled.directBuffer().writeBytes(value.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static Object decode(DataType type, ByteBuf buff) {
+    return DataTypeCodec.decodeText(type, buff.readerIndex(), buff.readableBytes(), buff);
+  }
+
+  @Benchmark
+  public Object decodeINT2() {
+    return decode(DataType.INT2, int2);
+  }
+
+  @Benchmark
+  public Object decodeINT4() {
+    return decode(DataType.INT4, int4);
+  }
+
+  @Benchmark
+  public Object decodeINT8() {
+    return decode(DataType.INT8, int8);
+  }
+
+  @Benchmark
+  public Object decodeDATE() {
+    return decode(DataType.DATE, date);
+  }
+
+  @Benchmark
+  public Object decodeTIME() {
+    return decode(DataType.TIME, time);
+  }
+
+  @Benchmark
+  public Object decodeTIMETZ() {
+    return decode(DataType.TIMETZ, timetz);
+  }
+
+  @Benchmark
+  public Object decodeTIMESTAMP() {
+    return decode(DataType.TIMESTAMP, timestamp);
+  }
+
+  @Benchmark
+  public Object decodeTIMESTAMPTZ() {
+    return decode(DataType.TIMESTAMPTZ, timestamptz);
+  }
+}
@@ -3,17 +3,27 @@ package io.vertx.tests.pgclient.data;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.util.ResourceLeakDetector;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.pgclient.PgConnection;
 import io.vertx.tests.sqlclient.ColumnChecker;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.StreamingCollector;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
 
 public class BinaryDataTypesExtendedCodecTest extends ExtendedQueryDataTypeCodecTestBase {
   @Test
@@ -42,6 +52,153 @@ public class BinaryDataTypesExtendedCodecTest extends ExtendedQueryDataTypeCodec
     }));
   }
 
+  @Test
+  public void testZeroCopyBytea(TestContext ctx) {
+    Random r = new Random();
+    int len = 2048;
+    byte[] bytes = new byte[len];
+    r.nextBytes(bytes);
+    options.setZeroCopyByteaThreshold(1024);
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT $1::BYTEA \"Bytea\"")
+        .execute(Tuple.of(Buffer.buffer(bytes)))
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          Row row = result.iterator().next();
+          Buffer buffer = row.getBuffer(0);
+          assertEquals(Buffer.buffer(bytes), buffer);
+          ByteBuf byteBuf = ((BufferInternal) buffer).getByteBuf();
+          int refCnt = byteBuf.refCnt();
+          row.release();
+          assertEquals(refCnt - 1, byteBuf.refCnt());
+          async.complete();
+        }));
+    }));
+  }
+
+  @Test
+  public void testZeroCopyByteaReleasesNetworkBuffers(TestContext ctx) {
+    ResourceLeakDetector.Level level = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    options.setZeroCopyByteaThreshold(1024);
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT decode(repeat('ab', 4096), 'hex') \"Bytea\" FROM generate_series(1, 64)")
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          try {
+            assertEquals(64, result.size());
+            List<ByteBuf> values = new ArrayList<>();
+            for (Row row : result) {
+              ByteBuf value = ((BufferInternal) row.getBuffer(0)).getByteBuf();
+              assertEquals(4096, value.readableBytes());
+              // The value must not keep the cumulation of the decoder alive
+              for (ByteBuf buf = value;buf != null;buf = buf.unwrap()) {
+                assertFalse(buf instanceof CompositeByteBuf);
+              }
+              values.add(value);
+            }
+            for (Row row : result) {
+              row.release();
+            }
+            for (ByteBuf value : values) {
+              assertEquals(0, value.refCnt());
+            }
+          } finally {
+            ResourceLeakDetector.setLevel(level);
+          }
+          conn.close();
+          async.complete();
+        }));
+    }));
+  }
+
+  @Test
+  public void testStreamedBytea(TestContext ctx) {
+    Random r = new Random();
+    int len = 1024 * 1024;
+    byte[] bytes = new byte[len];
+    r.nextBytes(bytes);
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      Buffer received = Buffer.buffer();
+      Promise<Void> ended = Promise.promise();
+      conn.preparedQuery("SELECT 1 \"Id\", $1::BYTEA \"Bytea\"")
+        .collecting(StreamingCollector.of(Collector.<Row, Void>of(() -> null, (v, row) -> {
+          ctx.assertEquals(1, row.getInteger("Id"));
+          row.getStream("Bytea")
+            .handler(received::appendBuffer)
+            .endHandler(ended::complete);
+        }, (v1, v2) -> null)))
+        .execute(Tuple.of(Buffer.buffer(bytes)))
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(1, result.size());
+          ended.future().onComplete(ctx.asyncAssertSuccess(v -> {
+            ctx.assertEquals(Buffer.buffer(bytes), received);
+            conn.close().onComplete(ctx.asyncAssertSuccess(v2 -> async.complete()));
+          }));
+        }));
+    }));
+  }
+
+  @Test
+  public void testStreamedByteaBackPressure(TestContext ctx) {
+    Random r = new Random();
+    int len = 4 * 1024 * 1024;
+    byte[] bytes = new byte[len];
+    r.nextBytes(bytes);
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      Buffer received = Buffer.buffer();
+      Promise<Void> ended = Promise.promise();
+      AtomicInteger demand = new AtomicInteger();
+      AtomicInteger chunks = new AtomicInteger();
+      conn.preparedQuery("SELECT $1::BYTEA \"Bytea\"")
+        .collecting(StreamingCollector.of(Collector.<Row, Void>of(() -> null, (v, row) -> {
+          ReadStream<Buffer> stream = row.getStream("Bytea");
+          // Consume one chunk at a time, the connection stops reading meanwhile
+          stream.pause();
+          stream.handler(chunk -> {
+            // No chunk must be delivered while the stream is paused
+            ctx.assertTrue(demand.getAndDecrement() > 0);
+            chunks.incrementAndGet();
+            received.appendBuffer(chunk);
+            vertx.setTimer(1, id -> {
+              demand.incrementAndGet();
+              stream.fetch(1);
+            });
+          });
+          stream.endHandler(ended::complete);
+          demand.incrementAndGet();
+          stream.fetch(1);
+        }, (v1, v2) -> null)))
+        .execute(Tuple.of(Buffer.buffer(bytes)))
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          ended.future().onComplete(ctx.asyncAssertSuccess(v -> {
+            ctx.assertTrue(chunks.get() > 1);
+            ctx.assertEquals(Buffer.buffer(bytes), received);
+            conn.close().onComplete(ctx.asyncAssertSuccess(v2 -> async.complete()));
+          }));
+        }));
+    }));
+  }
+
+  @Test
+  public void testStreamingCollectorOnlyStreamsBytea(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT 1 \"Id\", 'content' \"Text\"")
+        .collecting(StreamingCollector.of(Collector.<Row, Void>of(() -> null, (v, row) -> {
+          ctx.assertEquals("content", row.getString("Text"));
+        }, (v1, v2) -> null)))
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(1, result.size());
+          conn.close().onComplete(ctx.asyncAssertSuccess(v -> async.complete()));
+        }));
+    }));
+  }
+
   @Test
   public void testBufferArray(TestContext ctx) {
     Random r = new Random();
@@ -7,6 +7,12 @@ import io.vertx.pgclient.impl.codec.DataTypeCodec;
 import org.junit.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 
@@ -25,6 +31,38 @@ public class DataTypeCodecTest {
     assertTextArray("{foo,\"bar\\\\\"}", "foo", "bar\\");
   }
 
+  @Test
+  public void testDecodeTextTemporal() {
+    assertText(DataType.DATE, "1981-05-30", LocalDate.of(1981, 5, 30));
+    assertText(DataType.DATE, "infinity", LocalDate.MAX);
+    assertText(DataType.DATE, "-infinity", LocalDate.MIN);
+    assertText(DataType.TIME, "17:55:04", LocalTime.of(17, 55, 4));
+    assertText(DataType.TIME, "17:55:04.9", LocalTime.of(17, 55, 4, 900_000_000));
+    assertText(DataType.TIME, "17:55:04.905120", LocalTime.of(17, 55, 4, 905_120_000));
+    assertText(DataType.TIMETZ, "17:55:04.90512+03", OffsetTime.of(17, 55, 4, 905_120_000, ZoneOffset.ofHours(3)));
+    assertText(DataType.TIMETZ, "17:55:04-05:30", OffsetTime.of(17, 55, 4, 0, ZoneOffset.ofHoursMinutes(-5, -30)));
+    assertText(DataType.TIMESTAMP, "2017-05-14 19:35:58.237666", LocalDateTime.of(2017, 5, 14, 19, 35, 58, 237_666_000));
+    assertText(DataType.TIMESTAMP, "2017-05-14 19:35:58", LocalDateTime.of(2017, 5, 14, 19, 35, 58));
+    assertText(DataType.TIMESTAMP, "infinity", LocalDateTime.MAX);
+    assertText(DataType.TIMESTAMPTZ, "2017-05-15 02:59:59.237666+00", OffsetDateTime.of(2017, 5, 15, 2, 59, 59, 237_666_000, ZoneOffset.UTC));
+    assertText(DataType.TIMESTAMPTZ, "2017-05-15 02:59:59-07", OffsetDateTime.of(2017, 5, 15, 2, 59, 59, 0, ZoneOffset.ofHours(-7)));
+    assertText(DataType.TIMESTAMPTZ, "1890-01-01 00:00:00+00:09:21", OffsetDateTime.of(1890, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHoursMinutesSeconds(0, 9, 21)));
+    assertText(DataType.TIMESTAMPTZ, "-infinity", OffsetDateTime.MIN);
+  }
+
+  @Test
+  public void testDecodeTextInteger() {
+    assertText(DataType.INT2, "-32768", (short) -32768);
+    assertText(DataType.INT4, "2147483647", 2147483647);
+    assertText(DataType.INT8, "-9223372036854775807", -9223372036854775807L);
+  }
+
+  private void assertText(DataType type, String data, Object expected) {
+    // Decode from a non zero index to check offsets are honoured
+    ByteBuf buff = Unpooled.copiedBuffer("##" + data, StandardCharsets.UTF_8);
+    assertEquals(expected, DataTypeCodec.decodeText(type, 2, buff.readableBytes() - 2, buff));
+  }
+
   private void assertTextArray(String data, String... expected) {
     ByteBuf buff = Unpooled.copiedBuffer(data, StandardCharsets.UTF_8);
     List<String> res = Arrays.asList((String[]) DataTypeCodec.decodeText(DataType.TEXT_ARRAY, 0, buff.readableBytes(), buff));
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.pgclient.data;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.tests.sqlclient.ProxyServer;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the simple query date/time tests with binary result formats.
+ */
+public class DateTimeTypesBinarySimpleCodecTest extends DateTimeTypesSimpleCodecTest {
+
+  @Override
+  public void setup() throws Exception {
+    super.setup();
+    options.setUseBinarySimpleQueries(true);
+  }
+
+  @Test
+  public void testMultipleStatements(TestContext ctx) {
+    PgConnection.connect(vertx, options).onComplete(ctx.asyncAssertSuccess(conn -> {
+      conn
+        .query("SELECT '1981-05-30'::DATE \"d\"; SELECT '2017-05-14'::DATE \"d\"")
+        .execute()
+        .onComplete(ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(LocalDate.parse("1981-05-30"), result.iterator().next().getLocalDate("d"));
+          RowSet<Row> next = result.next();
+          ctx.assertNotNull(next);
+          ctx.assertEquals(LocalDate.parse("2017-05-14"), next.iterator().next().getLocalDate("d"));
+          conn.close();
+        }));
+    }));
+  }
+
+  @Test
+  public void testBinaryDataRow(TestContext ctx) {
+    // Backend messages received after the connection is established
+    AtomicReference<Buffer> received = new AtomicReference<>();
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    proxy.proxyHandler(conn -> {
+      conn.serverHandler(buff -> {
+        synchronized (received) {
+          if (received.get() != null) {
+            received.get().appendBuffer(buff);
+          }
+        }
+        conn.clientSocket().write(buff);
+      });
+      conn.connect();
+    });
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(v -> {
+      PgConnectOptions proxyOptions = new PgConnectOptions(options).setPort(8080).setHost("localhost");
+      PgConnection.connect(vertx, proxyOptions).onComplete(ctx.asyncAssertSuccess(conn -> {
+        synchronized (received) {
+          received.set(Buffer.buffer());
+        }
+        conn
+          .query("SELECT '1981-05-30'::DATE \"d\"")
+          .execute()
+          .onComplete(ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals(LocalDate.parse("1981-05-30"), result.iterator().next().getLocalDate("d"));
+            synchronized (received) {
+              // A binary date is a 4 bytes integer, the text format would be 10 characters long
+              ctx.assertEquals(4, firstDataRowValueLength(received.get()));
+            }
+            conn.close();
+          }));
+      }));
+    }));
+  }
+
+  private static int firstDataRowValueLength(Buffer messages) {
+    int idx = 0;
+    while (idx + 5 <= messages.length()) {
+      byte type = messages.getByte(idx);
+      int length = messages.getInt(idx + 1);
+      if (type == 'D') {
+        // Int16 column count followed by the Int32 length of the first value
+        return messages.getInt(idx + 7);
+      }
+      idx += 1 + length;
+    }
+    return -1;
+  }
+}
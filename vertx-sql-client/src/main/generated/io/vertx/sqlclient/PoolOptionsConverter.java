@@ -44,6 +44,16 @@ public class PoolOptionsConverter {
             obj.setMaxLifetime(((Number)member.getValue()).intValue());
           }
           break;
+        case "maxLifetimeJitter":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxLifetimeJitter(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxConcurrentReplacements":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConcurrentReplacements(((Number)member.getValue()).intValue());
+          }
+          break;
         case "poolCleanerPeriod":
           if (member.getValue() instanceof Number) {
             obj.setPoolCleanerPeriod(((Number)member.getValue()).intValue());
@@ -74,6 +84,61 @@ public class PoolOptionsConverter {
             obj.setEventLoopSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "minIdle":
+          if (member.getValue() instanceof Number) {
+            obj.setMinIdle(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "warmUp":
+          if (member.getValue() instanceof Boolean) {
+            obj.setWarmUp((Boolean)member.getValue());
+          }
+          break;
+        case "warmUpStatements":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setWarmUpStatements(list);
+          }
+          break;
+        case "loadSheddingLatency":
+          if (member.getValue() instanceof Number) {
+            obj.setLoadSheddingLatency(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "lanes":
+          if (member.getValue() instanceof JsonObject) {
+            java.util.Map<String, java.lang.Integer> map = new java.util.LinkedHashMap<>();
+            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+              if (entry.getValue() instanceof Number)
+                map.put(entry.getKey(), ((Number)entry.getValue()).intValue());
+            });
+            obj.setLanes(map);
+          }
+          break;
+        case "sharded":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSharded((Boolean)member.getValue());
+          }
+          break;
+        case "statementAffinity":
+          if (member.getValue() instanceof Boolean) {
+            obj.setStatementAffinity((Boolean)member.getValue());
+          }
+          break;
+        case "readYourWritesWindow":
+          if (member.getValue() instanceof Number) {
+            obj.setReadYourWritesWindow(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "hedgingPercentile":
+          if (member.getValue() instanceof Number) {
+            obj.setHedgingPercentile(((Number)member.getValue()).doubleValue());
+          }
+          break;
       }
     }
   }
@@ -93,6 +158,8 @@ public class PoolOptionsConverter {
       json.put("maxLifetimeUnit", obj.getMaxLifetimeUnit().name());
     }
     json.put("maxLifetime", obj.getMaxLifetime());
+    json.put("maxLifetimeJitter", obj.getMaxLifetimeJitter());
+    json.put("maxConcurrentReplacements", obj.getMaxConcurrentReplacements());
     json.put("poolCleanerPeriod", obj.getPoolCleanerPeriod());
     if (obj.getConnectionTimeoutUnit() != null) {
       json.put("connectionTimeoutUnit", obj.getConnectionTimeoutUnit().name());
@@ -103,5 +170,22 @@ public class PoolOptionsConverter {
       json.put("name", obj.getName());
     }
     json.put("eventLoopSize", obj.getEventLoopSize());
+    json.put("minIdle", obj.getMinIdle());
+    json.put("warmUp", obj.isWarmUp());
+    if (obj.getWarmUpStatements() != null) {
+      JsonArray array = new JsonArray();
+      obj.getWarmUpStatements().forEach(item -> array.add(item));
+      json.put("warmUpStatements", array);
+    }
+    json.put("loadSheddingLatency", obj.getLoadSheddingLatency());
+    if (obj.getLanes() != null) {
+      JsonObject map = new JsonObject();
+      obj.getLanes().forEach((key, value) -> map.put(key, value));
+      json.put("lanes", map);
+    }
+    json.put("sharded", obj.isSharded());
+    json.put("statementAffinity", obj.isStatementAffinity());
+    json.put("readYourWritesWindow", obj.getReadYourWritesWindow());
+    json.put("hedgingPercentile", obj.getHedgingPercentile());
   }
 }
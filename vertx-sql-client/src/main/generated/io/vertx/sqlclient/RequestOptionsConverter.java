@@ -0,0 +1,55 @@
+package io.vertx.sqlclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.sqlclient.RequestOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.sqlclient.RequestOptions} original class using Vert.x codegen.
+ */
+public class RequestOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, RequestOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "timeout":
+          if (member.getValue() instanceof Number) {
+            obj.setTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "timeoutUnit":
+          if (member.getValue() instanceof String) {
+            obj.setTimeoutUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "lane":
+          if (member.getValue() instanceof String) {
+            obj.setLane((String)member.getValue());
+          }
+          break;
+        case "readOnly":
+          if (member.getValue() instanceof Boolean) {
+            obj.setReadOnly((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(RequestOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(RequestOptions obj, java.util.Map<String, Object> json) {
+    json.put("timeout", obj.getTimeout());
+    if (obj.getTimeoutUnit() != null) {
+      json.put("timeoutUnit", obj.getTimeoutUnit().name());
+    }
+    if (obj.getLane() != null) {
+      json.put("lane", obj.getLane());
+    }
+    json.put("readOnly", obj.isReadOnly());
+  }
+}
@@ -19,6 +19,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.sqlclient.impl.ClientBuilderBase;
 import io.vertx.sqlclient.spi.Driver;
+import io.vertx.sqlclient.spi.LoadBalancer;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -113,6 +114,35 @@ public interface ClientBuilder<C> {
   @Fluent
   ClientBuilder<C> connectingTo(List<SqlConnectOptions> databases);
 
+  /**
+   * Configure the {@code databases} the client should connect to. When the client needs to connect to a database,
+   * the {@code loadBalancer} selects it from the list of {@code databases}.
+   * <p>
+   * A database is ejected for a while after a failed connection attempt, the load balancer then selects
+   * it again only when all the databases are ejected.
+   *
+   * @param databases the list of database coordinates
+   * @param loadBalancer the load balancer
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  ClientBuilder<C> connectingTo(List<SqlConnectOptions> databases, LoadBalancer loadBalancer);
+
+  /**
+   * Configure the {@code replicas} of the database, the pool then uses a pool per replica in addition to the pool
+   * of the primary database.
+   * <p>
+   * The {@link RequestOptions#setReadOnly(boolean) read-only} queries which only read, and the connections and the transactions acquired in
+   * read-only mode use a replica, the other requests use the primary database.
+   *
+   * @param replicas the list of replica coordinates
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  ClientBuilder<C> connectingToReplicas(List<SqlConnectOptions> replicas);
+
   /**
    * Sets the vertx instance to use.
    * @param vertx the vertx instance
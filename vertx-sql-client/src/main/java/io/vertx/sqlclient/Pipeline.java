@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+
+import java.util.List;
+
+/**
+ * A group of prepared queries sent together on a single connection.
+ * <p>
+ * The queries are written at once, so independent queries cost a single round-trip instead of one per query.
+ * <p>
+ * With PostgreSQL, the queries of statements already prepared are written with a single {@code Sync} and share an
+ * implicit transaction: when a query fails, the following queries are not executed and the changes of the previous
+ * queries are rolled back. The other drivers execute each query on its own, a failed query does not prevent the
+ * following queries and does not roll back the previous queries.
+ */
+@VertxGen
+public interface Pipeline {
+
+  /**
+   * Add a prepared query without arguments to the pipeline.
+   *
+   * @param sql the query SQL
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  Pipeline add(String sql);
+
+  /**
+   * Add a prepared query to the pipeline.
+   *
+   * @param sql the query SQL
+   * @param arguments the query arguments
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  Pipeline add(String sql, Tuple arguments);
+
+  /**
+   * Execute the queries of the pipeline.
+   *
+   * @return a future notified with the results of the queries, in the order they were added, or failed with the
+   *         failure of the first query that failed
+   */
+  Future<List<RowSet<Row>>> execute();
+
+}
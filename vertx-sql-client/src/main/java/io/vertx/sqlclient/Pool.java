@@ -29,6 +29,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.sqlclient.internal.pool.PoolImpl;
+import io.vertx.sqlclient.internal.pool.RequestOptionsPool;
 import io.vertx.sqlclient.impl.Utils;
 import io.vertx.sqlclient.spi.Driver;
 
@@ -188,6 +189,23 @@ public interface Pool extends SqlClient {
     return getConnection().flatMap(conn -> function.apply(conn).onComplete(ar -> conn.close()));
   }
 
+  /**
+   * Create a pool executing the requests of this pool with the given {@code options}, e.g. a deadline, a lane or the
+   * read-only mode.
+   *
+   * <p> The returned pool shares the connections of this pool, closing it closes this pool. The options apply to the
+   * queries, the connections and the transactions of the returned pool, they replace the options of this pool when it
+   * was itself returned by this method.
+   *
+   * <p> The default implementation requires the requests of the returned pool to be executed on a Vert.x context.
+   *
+   * @param options the options of the requests
+   * @return the pool
+   */
+  default Pool withOptions(RequestOptions options) {
+    return new RequestOptionsPool(this, options);
+  }
+
   /**
    * @return the current pool size approximation
    */
@@ -21,6 +21,10 @@ import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -93,18 +97,84 @@ public class PoolOptions {
    */
   public static final int DEFAULT_EVENT_LOOP_SIZE = 0;
 
+  /**
+   * Default maximum pooled connection lifetime jitter = 0 (no jitter)
+   */
+  public static final int DEFAULT_MAXIMUM_LIFETIME_JITTER = 0;
+
+  /**
+   * Default maximum number of concurrent connection replacements = 0 (no maximum)
+   */
+  public static final int DEFAULT_MAX_CONCURRENT_REPLACEMENTS = 0;
+
+  /**
+   * Default minimum number of idle connections = 0
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
+  /**
+   * Default pool warm up = {@code false}
+   */
+  public static final boolean DEFAULT_WARM_UP = false;
+
+  /**
+   * Default load shedding latency = 0 (no load shedding)
+   */
+  public static final int DEFAULT_LOAD_SHEDDING_LATENCY = 0;
+
+  /**
+   * Default weight of a lane = 1
+   */
+  public static final int DEFAULT_LANE_WEIGHT = 1;
+
+  /**
+   * The name of the lane of the requests without lane = {@code default}
+   */
+  public static final String DEFAULT_LANE = "default";
+
+  /**
+   * Default sharded pool = {@code false}
+   */
+  public static final boolean DEFAULT_SHARDED = false;
+
+  /**
+   * Default statement affinity = {@code false}
+   */
+  public static final boolean DEFAULT_STATEMENT_AFFINITY = false;
+
+  /**
+   * Default read your writes window = 0 (no stickiness)
+   */
+  public static final int DEFAULT_READ_YOUR_WRITES_WINDOW = 0;
+
+  /**
+   * Default hedging percentile = 0 (no hedging)
+   */
+  public static final double DEFAULT_HEDGING_PERCENTILE = 0D;
+
   private int maxSize = DEFAULT_MAX_SIZE;
   private int maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
   private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
   private TimeUnit idleTimeoutUnit = DEFAULT_IDLE_TIMEOUT_TIME_UNIT;
   private int maxLifetime = DEFAULT_MAXIMUM_LIFETIME;
   private TimeUnit maxLifetimeUnit = DEFAULT_MAXIMUM_LIFETIME_TIME_UNIT;
+  private int maxLifetimeJitter = DEFAULT_MAXIMUM_LIFETIME_JITTER;
+  private int maxConcurrentReplacements = DEFAULT_MAX_CONCURRENT_REPLACEMENTS;
   private int poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
   private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
   private TimeUnit connectionTimeoutUnit = DEFAULT_CONNECTION_TIMEOUT_TIME_UNIT;
   private boolean shared = DEFAULT_SHARED_POOL;
   private String name = DEFAULT_NAME;
   private int eventLoopSize = DEFAULT_EVENT_LOOP_SIZE;
+  private int minIdle = DEFAULT_MIN_IDLE;
+  private boolean warmUp = DEFAULT_WARM_UP;
+  private List<String> warmUpStatements = new ArrayList<>();
+  private int loadSheddingLatency = DEFAULT_LOAD_SHEDDING_LATENCY;
+  private Map<String, Integer> lanes = new LinkedHashMap<>();
+  private boolean sharded = DEFAULT_SHARDED;
+  private boolean statementAffinity = DEFAULT_STATEMENT_AFFINITY;
+  private int readYourWritesWindow = DEFAULT_READ_YOUR_WRITES_WINDOW;
+  private double hedgingPercentile = DEFAULT_HEDGING_PERCENTILE;
 
   public PoolOptions() {
   }
@@ -118,9 +188,25 @@ public class PoolOptions {
     maxWaitQueueSize = other.maxWaitQueueSize;
     idleTimeout = other.idleTimeout;
     idleTimeoutUnit = other.idleTimeoutUnit;
+    maxLifetime = other.maxLifetime;
+    maxLifetimeUnit = other.maxLifetimeUnit;
+    poolCleanerPeriod = other.poolCleanerPeriod;
+    connectionTimeout = other.connectionTimeout;
+    connectionTimeoutUnit = other.connectionTimeoutUnit;
     shared= other.shared;
     name = other.name;
     eventLoopSize = other.eventLoopSize;
+    maxLifetimeJitter = other.maxLifetimeJitter;
+    maxConcurrentReplacements = other.maxConcurrentReplacements;
+    minIdle = other.minIdle;
+    warmUp = other.warmUp;
+    warmUpStatements = new ArrayList<>(other.warmUpStatements);
+    loadSheddingLatency = other.loadSheddingLatency;
+    lanes = new LinkedHashMap<>(other.lanes);
+    sharded = other.sharded;
+    statementAffinity = other.statementAffinity;
+    readYourWritesWindow = other.readYourWritesWindow;
+    hedgingPercentile = other.hedgingPercentile;
   }
 
   /**
@@ -241,6 +327,56 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return pooled connection max lifetime jitter
+   */
+  public int getMaxLifetimeJitter() {
+    return maxLifetimeJitter;
+  }
+
+  /**
+   * Establish a max lifetime jitter for pooled connections, in the {@link #getMaxLifetimeUnit() max lifetime unit}.
+   *
+   * <p> The lifetime of each connection is shortened by a random amount up to this value, so that connections
+   * created together, e.g. when the pool is warmed up, do not all expire at the same time. A value of zero
+   * disables the jitter.
+   *
+   * @param maxLifetimeJitter the pool connection max lifetime jitter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetimeJitter(int maxLifetimeJitter) {
+    if (maxLifetimeJitter < 0) {
+      throw new IllegalArgumentException("maxLifetimeJitter must be >= 0");
+    }
+    this.maxLifetimeJitter = maxLifetimeJitter;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of connections reaching their max lifetime that are replaced at the same time
+   */
+  public int getMaxConcurrentReplacements() {
+    return maxConcurrentReplacements;
+  }
+
+  /**
+   * Set the maximum number of connections reaching their max lifetime that are replaced at the same time, the other
+   * expired connections remain in the pool until a later run of the pool cleaner. A value of zero means no limit.
+   *
+   * <p> An expired connection remains in service until its replacement is opened, then it is removed from the pool
+   * and closed, so the pool does not shrink during the replacement.
+   *
+   * @param maxConcurrentReplacements the maximum number of concurrent replacements
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxConcurrentReplacements(int maxConcurrentReplacements) {
+    if (maxConcurrentReplacements < 0) {
+      throw new IllegalArgumentException("maxConcurrentReplacements must be >= 0");
+    }
+    this.maxConcurrentReplacements = maxConcurrentReplacements;
+    return this;
+  }
+
   /**
    * @return the connection pool cleaner period in ms.
    */
@@ -365,6 +501,261 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return the minimum number of idle connections the pool maintains
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of idle connections the pool maintains, the default value is {@code 0}.
+   *
+   * <p> The pool cleaner opens new connections when fewer connections are idle, within the {@link #setMaxSize(int)
+   * maximum size}, and does not close idle connections below this number, connections reaching their max lifetime
+   * are replaced.
+   *
+   * @param minIdle the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    if (minIdle < 0) {
+      throw new IllegalArgumentException("minIdle must be >= 0");
+    }
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  /**
+   * @return whether the pool opens its minimum number of connections when it is created
+   */
+  public boolean isWarmUp() {
+    return warmUp;
+  }
+
+  /**
+   * Set to {@code true} to open the {@link #setMinIdle(int) minimum number of connections} concurrently when
+   * the pool is created, instead of on the first requests.
+   *
+   * @param warmUp {@code true} to warm up the pool
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setWarmUp(boolean warmUp) {
+    this.warmUp = warmUp;
+    return this;
+  }
+
+  /**
+   * @return the SQL statements prepared on each new connection
+   */
+  public List<String> getWarmUpStatements() {
+    return warmUpStatements;
+  }
+
+  /**
+   * Set the SQL statements to prepare on each new connection before it is used.
+   *
+   * <p> The statements are stored in the prepared statement cache of the connection, which must be enabled with
+   * {@link SqlConnectOptions#setCachePreparedStatements(boolean)}, otherwise they are ignored. A statement which
+   * fails to prepare is ignored.
+   *
+   * @param warmUpStatements the SQL statements
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setWarmUpStatements(List<String> warmUpStatements) {
+    this.warmUpStatements = Objects.requireNonNull(warmUpStatements, "warmUpStatements cannot be null");
+    return this;
+  }
+
+  /**
+   * Add a SQL statement to prepare on each new connection before it is used.
+   *
+   * @param sql the SQL statement
+   * @return a reference to this, so the API can be used fluently
+   * @see #setWarmUpStatements(List)
+   */
+  public PoolOptions addWarmUpStatement(String sql) {
+    warmUpStatements.add(Objects.requireNonNull(sql, "sql cannot be null"));
+    return this;
+  }
+
+  /**
+   * @return the target latency of the requests executed by the pool in ms, see {@link #setLoadSheddingLatency(int)}
+   */
+  public int getLoadSheddingLatency() {
+    return loadSheddingLatency;
+  }
+
+  /**
+   * Set the target latency of the requests executed by the pool in milli seconds, a value of zero disables
+   * load shedding.
+   *
+   * <p> The pool limits the number of requests it executes or queues at the same time, this limit decreases when the
+   * latency of the requests exceeds the target or when requests miss their {@link RequestOptions#setTimeout(long) deadline}, and increases otherwise.
+   * Requests beyond the limit fail immediately instead of waiting for a connection. The limit is never lower than
+   * the {@link #setMaxSize(int) maximum pool size}.
+   *
+   * @param loadSheddingLatency the target latency in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setLoadSheddingLatency(int loadSheddingLatency) {
+    if (loadSheddingLatency < 0) {
+      throw new IllegalArgumentException("loadSheddingLatency must be >= 0");
+    }
+    this.loadSheddingLatency = loadSheddingLatency;
+    return this;
+  }
+
+  /**
+   * @return the weights of the lanes of the pool
+   */
+  public Map<String, Integer> getLanes() {
+    return lanes;
+  }
+
+  /**
+   * Set the weights of the lanes of the pool, see {@link #addLane(String, int)}.
+   *
+   * @param lanes the weights of the lanes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setLanes(Map<String, Integer> lanes) {
+    Objects.requireNonNull(lanes, "lanes cannot be null");
+    lanes.values().forEach(PoolOptions::checkLaneWeight);
+    this.lanes = lanes;
+    return this;
+  }
+
+  /**
+   * Add a lane to the pool.
+   *
+   * <p> When the pool has lanes, the requests waiting for a connection queue in the lane selected with
+   * {@link RequestOptions#setLane(String)}, and a released connection is given to the lanes in proportion to their weight,
+   * so a burst of requests in a lane does not starve the other lanes. The requests without lane use the {@link #DEFAULT_LANE}
+   * which has a weight of {@link #DEFAULT_LANE_WEIGHT} unless it is configured. A lane with a large weight is
+   * almost always served first.
+   *
+   * <p> Lanes are ignored by pipelined pools.
+   *
+   * @param name the name of the lane
+   * @param weight the weight of the lane
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions addLane(String name, int weight) {
+    Objects.requireNonNull(name, "name cannot be null");
+    checkLaneWeight(weight);
+    lanes.put(name, weight);
+    return this;
+  }
+
+  /**
+   * @return whether the pool is split in sub pools bound to an event loop
+   */
+  public boolean isSharded() {
+    return sharded;
+  }
+
+  /**
+   * Set to {@code true} to split the pool in sub pools bound to an event loop.
+   *
+   * <p> Each event loop owns a sub pool, the connections of a sub pool are bound to its event loop and the
+   * {@link #setMaxSize(int) maximum size}, the {@link #setMinIdle(int) minimum number of idle connections} and the
+   * {@link #setMaxWaitQueueSize(int) maximum wait queue size} are divided between the sub pools. A request uses the sub
+   * pool of its event loop, so the connection handles the request without switching threads, unless this sub pool is
+   * busy: the request then uses the least loaded sub pool.
+   *
+   * <p> The pool uses distinct Vert.x event loops, all of them or the {@link #setEventLoopSize(int) configured number of
+   * event loops}, and never more sub pools than its maximum size.
+   *
+   * @param sharded {@code true} to shard the pool
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setSharded(boolean sharded) {
+    this.sharded = sharded;
+    return this;
+  }
+
+  /**
+   * @return whether prepared queries prefer a connection which has cached their statement
+   */
+  public boolean isStatementAffinity() {
+    return statementAffinity;
+  }
+
+  /**
+   * Set to {@code true} to execute a prepared query on an available connection which holds its statement in its
+   * prepared statement cache, when there is one, instead of the first available connection.
+   *
+   * <p> This reduces the number of statements prepared when the queries use more statements than the
+   * {@link SqlConnectOptions#setPreparedStatementCacheMaxSize(int) size of the cache} of a connection, the prepared
+   * statement cache must be {@link SqlConnectOptions#setCachePreparedStatements(boolean) enabled}.
+   *
+   * @param statementAffinity {@code true} to route prepared queries to the connections caching their statement
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setStatementAffinity(boolean statementAffinity) {
+    this.statementAffinity = statementAffinity;
+    return this;
+  }
+
+  /**
+   * @return the read your writes window in ms, see {@link #setReadYourWritesWindow(int)}
+   */
+  public int getReadYourWritesWindow() {
+    return readYourWritesWindow;
+  }
+
+  /**
+   * Set the duration in milli seconds during which the {@link RequestOptions#setReadOnly(boolean) read-only} requests of a context are
+   * executed by the primary database after this context executed a write, a value of zero disables it.
+   *
+   * <p> This only applies to a pool {@link ClientBuilder#connectingToReplicas(List) connecting to replicas}, it
+   * lets a request read its own writes when the replicas lag behind the primary database.
+   *
+   * @param readYourWritesWindow the window in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setReadYourWritesWindow(int readYourWritesWindow) {
+    if (readYourWritesWindow < 0) {
+      throw new IllegalArgumentException("readYourWritesWindow must be >= 0");
+    }
+    this.readYourWritesWindow = readYourWritesWindow;
+    return this;
+  }
+
+  /**
+   * @return the percentile of the latency after which a read-only query is hedged, see {@link #setHedgingPercentile(double)}
+   */
+  public double getHedgingPercentile() {
+    return hedgingPercentile;
+  }
+
+  /**
+   * Set the percentile of the latency of the read-only queries after which a query is hedged, a value of zero
+   * disables hedging.
+   *
+   * <p> This only applies to a pool {@link ClientBuilder#connectingToReplicas(List) connecting to several replicas}.
+   * When a {@link RequestOptions#setReadOnly(boolean) read-only} query has not completed after this percentile of the latency of the recent
+   * read-only queries, the pool executes it again on another replica and uses the first result. The pool cancels
+   * the other execution when the driver supports it. E.g. a value of {@code 95} executes about 5% of the queries twice.
+   *
+   * @param hedgingPercentile the percentile, between 0 and 100
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setHedgingPercentile(double hedgingPercentile) {
+    if (hedgingPercentile < 0D || hedgingPercentile >= 100D) {
+      throw new IllegalArgumentException("hedgingPercentile must be >= 0 and < 100");
+    }
+    this.hedgingPercentile = hedgingPercentile;
+    return this;
+  }
+
+  private static void checkLaneWeight(Integer weight) {
+    if (weight == null || weight < 1) {
+      throw new IllegalArgumentException("Lane weight must be > 0");
+    }
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The options of the requests executed by a pool obtained with {@link Pool#withOptions(RequestOptions)}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class RequestOptions {
+
+  /**
+   * Default request timeout = 0 (no deadline)
+   */
+  public static final long DEFAULT_TIMEOUT = 0L;
+
+  /**
+   * Default request timeout time unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_TIMEOUT_TIME_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * Default read-only mode = {@code false}
+   */
+  public static final boolean DEFAULT_READ_ONLY = false;
+
+  private long timeout = DEFAULT_TIMEOUT;
+  private TimeUnit timeoutUnit = DEFAULT_TIMEOUT_TIME_UNIT;
+  private String lane;
+  private boolean readOnly = DEFAULT_READ_ONLY;
+
+  public RequestOptions() {
+  }
+
+  public RequestOptions(JsonObject json) {
+    RequestOptionsConverter.fromJson(json, this);
+  }
+
+  public RequestOptions(RequestOptions other) {
+    timeout = other.timeout;
+    timeoutUnit = other.timeoutUnit;
+    lane = other.lane;
+    readOnly = other.readOnly;
+  }
+
+  /**
+   * @return the time after which the requests are not executed, in the {@link #getTimeoutUnit() timeout unit}
+   */
+  public long getTimeout() {
+    return timeout;
+  }
+
+  /**
+   * Set the time after which the requests are not executed, in the {@link #getTimeoutUnit() timeout unit}, a value
+   * of zero means no deadline.
+   *
+   * <p> The deadline of a request starts when it is executed, the pool fails the request with {@code Deadline exceeded}
+   * instead of acquiring a connection once the deadline has expired, and stops waiting for a connection when the
+   * deadline expires. A connection acquired from the pool never waits beyond the deadline. When an enclosing request
+   * already has a deadline, the earliest deadline is used.
+   *
+   * @param timeout the timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setTimeout(long timeout) {
+    if (timeout < 0) {
+      throw new IllegalArgumentException("timeout must be >= 0");
+    }
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * @return the time unit of the {@link #getTimeout() timeout}
+   */
+  public TimeUnit getTimeoutUnit() {
+    return timeoutUnit;
+  }
+
+  /**
+   * Set the time unit of the {@link #setTimeout(long) timeout}.
+   *
+   * @param timeoutUnit the time unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setTimeoutUnit(TimeUnit timeoutUnit) {
+    this.timeoutUnit = Objects.requireNonNull(timeoutUnit, "timeoutUnit cannot be null");
+    return this;
+  }
+
+  /**
+   * @return the lane in which the requests wait for a connection
+   */
+  public String getLane() {
+    return lane;
+  }
+
+  /**
+   * Set the {@link PoolOptions#addLane(String, int) lane} in which the requests wait for a connection, including the
+   * connections acquired by {@link Pool#withConnection} or {@link Pool#withTransaction}. The requests of an unknown lane
+   * or without lane use the {@link PoolOptions#DEFAULT_LANE}.
+   *
+   * @param lane the name of the lane
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setLane(String lane) {
+    this.lane = lane;
+    return this;
+  }
+
+  /**
+   * @return whether the requests are read-only
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Set the read-only mode of the requests, the queries which only read and the connections and the transactions
+   * acquired in read-only mode of a pool {@link ClientBuilder#connectingToReplicas(java.util.List) connecting to replicas}
+   * use a replica.
+   *
+   * @param readOnly the read-only mode
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setReadOnly(boolean readOnly) {
+    this.readOnly = readOnly;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    RequestOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
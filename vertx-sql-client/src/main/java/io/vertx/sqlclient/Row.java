@@ -21,6 +21,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.sqlclient.impl.Utils;
 
@@ -351,6 +352,34 @@ public interface Row extends Tuple {
     return getBuffer(pos);
   }
 
+  /**
+   * Get a streamed value for the given {@code column}, this is only available when the driver streams large column
+   * values as they are received from the network, e.g. when rows are collected with a {@link StreamingCollector}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  default ReadStream<Buffer> getStream(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getStream(pos);
+  }
+
+  /**
+   * Get a streamed value at {@code pos}, this is only available when the driver streams large column
+   * values as they are received from the network, e.g. when rows are collected with a {@link StreamingCollector}.
+   *
+   * @param pos the column
+   * @return the value
+   */
+  @SuppressWarnings("unchecked")
+  default ReadStream<Buffer> getStream(int pos) {
+    return (ReadStream<Buffer>) getValue(pos);
+  }
+
   /**
    * Get {@link java.util.UUID} value for the given {@code column}.
    *
@@ -753,6 +782,10 @@ public interface Row extends Tuple {
   /**
    * Signal the row can be recycled, this is only effective when dealing with a row in a collector
    * query and the row has already been processed and transformed.
+   * <p>
+   * When the driver returns values as slices of the network buffers (e.g. PostgreSQL zero copy {@code bytea}),
+   * this releases the slices and such values must not be used afterwards. Streamed values that have not been
+   * fully consumed are discarded.
    */
   default void release() {
   }
@@ -51,6 +51,16 @@ public interface SqlClient {
    */
   PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options);
 
+  /**
+   * Create a pipeline of queries, the {@link Pipeline#execute} method must be called to execute the queries.
+   *
+   * @return the pipeline
+   * @throws UnsupportedOperationException when the client does not support pipelines
+   */
+  default Pipeline pipeline() {
+    throw new UnsupportedOperationException("Pipelining is not supported by " + getClass().getName());
+  }
+
   /**
    * Close the client and release the associated resources.
    *
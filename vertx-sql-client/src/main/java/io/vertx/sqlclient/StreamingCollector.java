@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A row collector asking the driver to stream large column values.
+ * <p>
+ * When a query collects rows with this collector, drivers supporting it deliver the binary large object value of the
+ * last column of each row as a stream of the bytes received from the database, obtained with {@link Row#getStream(int)}.
+ * Such a value cannot be read with {@link Row#getBuffer(int)}.
+ * <p>
+ * The stream must be consumed from the collector accumulator, a stream without handler once the accumulator returns
+ * is discarded.
+ */
+public final class StreamingCollector<A, R> implements Collector<Row, A, R> {
+
+  /**
+   * Wrap a collector so that the driver streams large column values.
+   *
+   * @param collector the collector of the rows
+   * @return the streaming collector
+   */
+  public static <A, R> StreamingCollector<A, R> of(Collector<Row, A, R> collector) {
+    return new StreamingCollector<>(collector);
+  }
+
+  private final Collector<Row, A, R> collector;
+
+  private StreamingCollector(Collector<Row, A, R> collector) {
+    this.collector = collector;
+  }
+
+  @Override
+  public Supplier<A> supplier() {
+    return collector.supplier();
+  }
+
+  @Override
+  public BiConsumer<A, Row> accumulator() {
+    return collector.accumulator();
+  }
+
+  @Override
+  public BinaryOperator<A> combiner() {
+    return collector.combiner();
+  }
+
+  @Override
+  public Function<A, R> finisher() {
+    return collector.finisher();
+  }
+
+  @Override
+  public Set<Characteristics> characteristics() {
+    return collector.characteristics();
+  }
+}
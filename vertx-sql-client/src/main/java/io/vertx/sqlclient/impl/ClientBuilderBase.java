@@ -21,8 +21,11 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.internal.pool.RoutingPool;
 import io.vertx.sqlclient.spi.Driver;
+import io.vertx.sqlclient.spi.LoadBalancer;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -32,6 +35,7 @@ public abstract class ClientBuilderBase<C> implements ClientBuilder<C> {
   private PoolOptions poolOptions;
   private NetClientOptions transportOptions;
   private Supplier<Future<SqlConnectOptions>> database;
+  private List<SqlConnectOptions> replicas;
   private Handler<SqlConnection> connectHandler;
   private Vertx vertx;
 
@@ -69,7 +73,18 @@ public abstract class ClientBuilderBase<C> implements ClientBuilder<C> {
 
   @Override
   public ClientBuilder<C> connectingTo(List<SqlConnectOptions> databases) {
-    return connectingTo(Utils.roundRobinSupplier(databases));
+    return connectingTo(databases, LoadBalancer.roundRobin());
+  }
+
+  @Override
+  public ClientBuilder<C> connectingTo(List<SqlConnectOptions> databases, LoadBalancer loadBalancer) {
+    return connectingTo(new LoadBalancedDatabases(new ArrayList<>(databases), loadBalancer));
+  }
+
+  @Override
+  public ClientBuilder<C> connectingToReplicas(List<SqlConnectOptions> replicas) {
+    this.replicas = new ArrayList<>(replicas);
+    return this;
   }
 
   @Override
@@ -94,10 +109,33 @@ public abstract class ClientBuilderBase<C> implements ClientBuilder<C> {
     if (transportOptions == null) {
       transportOptions = new NetClientOptions();
     }
+    if (replicas != null && !replicas.isEmpty()) {
+      return createRouting(poolOptions, transportOptions);
+    }
     C c = create(vertx, database, poolOptions, transportOptions, connectHandler);
     return c;
   }
 
+  private C createRouting(PoolOptions poolOptions, NetClientOptions transportOptions) {
+    Vertx vertx = this.vertx;
+    boolean ownsVertx = vertx == null;
+    if (ownsVertx) {
+      // Share a single Vert.x instance between the pools
+      vertx = Vertx.vertx();
+    }
+    C primary = create(vertx, database, poolOptions, transportOptions, connectHandler);
+    if (!(primary instanceof Pool)) {
+      throw new IllegalStateException("Replicas require a pool");
+    }
+    List<Pool> pools = new ArrayList<>(replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      // Distinct names, so shared pools and metrics do not mix the replicas
+      PoolOptions replicaOptions = new PoolOptions(poolOptions).setName(poolOptions.getName() + "-replica-" + i);
+      pools.add((Pool) create(vertx, SingletonSupplier.wrap(replicas.get(i)), replicaOptions, transportOptions, connectHandler));
+    }
+    return (C) new RoutingPool(vertx, ownsVertx, (Pool) primary, pools, poolOptions);
+  }
+
   protected abstract C create(Vertx vertx, Supplier<Future<SqlConnectOptions>> databases, PoolOptions poolOptions, NetClientOptions transportOptions, Handler<SqlConnection> connectHandler);
 
 }
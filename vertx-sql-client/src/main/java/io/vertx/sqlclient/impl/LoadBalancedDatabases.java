@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.spi.DatabaseEndpoint;
+import io.vertx.sqlclient.spi.LoadBalancer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The databases of a client, a {@link LoadBalancer} selects the database of each new connection, and the database of
+ * the pooled connection leased for a request when the available connections are connected to several databases.
+ * <p>
+ * The pool reports the connections it opens, the connections it leases and the queries it executes to the
+ * {@link Endpoint} of their database. A database is ejected after a failed connection attempt, for a duration which
+ * doubles with each consecutive failure, so the load balancer does not select it again until the ejection ends.
+ */
+public class LoadBalancedDatabases implements Supplier<Future<SqlConnectOptions>> {
+
+  private static final long INITIAL_EJECTION_MS = 1_000L;
+  private static final long MAX_EJECTION_MS = 30_000L;
+  private static final double LATENCY_WEIGHT = 0.2D;
+
+  private final List<Endpoint> endpoints;
+  private final LoadBalancer loadBalancer;
+
+  public LoadBalancedDatabases(List<SqlConnectOptions> databases, LoadBalancer loadBalancer) {
+    if (databases.isEmpty()) {
+      throw new IllegalArgumentException("Databases cannot be empty");
+    }
+    List<Endpoint> endpoints = new ArrayList<>(databases.size());
+    for (SqlConnectOptions database : databases) {
+      endpoints.add(new Endpoint(database));
+    }
+    this.endpoints = endpoints;
+    this.loadBalancer = loadBalancer;
+  }
+
+  /**
+   * @return the databases
+   */
+  public List<DatabaseEndpoint> endpoints() {
+    return new ArrayList<>(endpoints);
+  }
+
+  @Override
+  public Future<SqlConnectOptions> get() {
+    return Future.succeededFuture(select().options);
+  }
+
+  /**
+   * Select the database of a new connection among the databases which are not ejected.
+   */
+  public Endpoint select() {
+    long now = System.currentTimeMillis();
+    List<DatabaseEndpoint> available = new ArrayList<>(endpoints.size());
+    for (Endpoint endpoint : endpoints) {
+      if (!endpoint.isEjected(now)) {
+        available.add(endpoint);
+      }
+    }
+    if (available.isEmpty()) {
+      // Better try an ejected database than fail
+      available.addAll(endpoints);
+    }
+    return (Endpoint) loadBalancer.select(available);
+  }
+
+  /**
+   * Select the database of a pooled connection among the databases of the available connections.
+   *
+   * @param candidates the databases of the available connections, never empty
+   */
+  public Endpoint select(List<Endpoint> candidates) {
+    return (Endpoint) loadBalancer.select(new ArrayList<>(candidates));
+  }
+
+  /**
+   * A database with the statistics of the pool connections to this database.
+   */
+  public static final class Endpoint implements DatabaseEndpoint {
+
+    private final SqlConnectOptions options;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    private volatile long latency;
+    private int failures;
+    private long ejectedUntil;
+
+    private Endpoint(SqlConnectOptions options) {
+      this.options = options;
+    }
+
+    @Override
+    public SqlConnectOptions options() {
+      return options;
+    }
+
+    @Override
+    public int connections() {
+      return connections.get();
+    }
+
+    @Override
+    public int outstandingRequests() {
+      return outstandingRequests.get();
+    }
+
+    @Override
+    public long latency() {
+      return latency;
+    }
+
+    @Override
+    public synchronized int failures() {
+      return failures;
+    }
+
+    @Override
+    public boolean isEjected() {
+      return isEjected(System.currentTimeMillis());
+    }
+
+    synchronized boolean isEjected(long now) {
+      return now < ejectedUntil;
+    }
+
+    /**
+     * Called when a connection to the database is opened.
+     */
+    public synchronized void connected() {
+      connections.incrementAndGet();
+      failures = 0;
+      ejectedUntil = 0L;
+    }
+
+    /**
+     * Called when a connection to the database cannot be opened, the database is ejected.
+     */
+    public synchronized void connectFailed() {
+      failures++;
+      long ejection = INITIAL_EJECTION_MS << Math.min(failures - 1, 15);
+      ejectedUntil = System.currentTimeMillis() + Math.min(ejection, MAX_EJECTION_MS);
+    }
+
+    /**
+     * Called when a connection to the database is closed.
+     */
+    public void disconnected() {
+      connections.decrementAndGet();
+    }
+
+    /**
+     * Called when the pool leases a connection to the database.
+     */
+    public void leased() {
+      outstandingRequests.incrementAndGet();
+    }
+
+    /**
+     * Called when a lease of a connection to the database ends.
+     */
+    public void released() {
+      outstandingRequests.decrementAndGet();
+    }
+
+    /**
+     * Called when a query completes on a connection to the database.
+     *
+     * @param duration the duration of the query in nanoseconds
+     */
+    public synchronized void queryEnded(long duration) {
+      long current = latency;
+      latency = current == 0L ? duration : (long) (current + (duration - current) * LATENCY_WEIGHT);
+    }
+  }
+}
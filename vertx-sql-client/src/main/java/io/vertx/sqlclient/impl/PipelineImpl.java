@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Pipeline;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class PipelineImpl implements Pipeline {
+
+  private final SqlClientInternal client;
+  private final List<String> sqls = new ArrayList<>();
+  private final List<Tuple> arguments = new ArrayList<>();
+
+  public PipelineImpl(SqlClientInternal client) {
+    this.client = client;
+  }
+
+  @Override
+  public Pipeline add(String sql) {
+    return add(sql, Tuple.tuple());
+  }
+
+  @Override
+  public Pipeline add(String sql, Tuple arguments) {
+    sqls.add(Objects.requireNonNull(sql, "sql cannot be null"));
+    this.arguments.add(Objects.requireNonNull(arguments, "arguments cannot be null"));
+    return this;
+  }
+
+  @Override
+  public Future<List<RowSet<Row>>> execute() {
+    if (sqls.isEmpty()) {
+      return Future.succeededFuture(Collections.emptyList());
+    }
+    // Schedule the queries as a single command, a pool executes it on a single connection
+    return client.executePipeline(new ArrayList<>(sqls), new ArrayList<>(arguments));
+  }
+}
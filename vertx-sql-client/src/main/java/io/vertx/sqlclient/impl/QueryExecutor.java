@@ -93,9 +93,16 @@ public class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>
   }
 
   public void executeExtendedQuery(CommandScheduler scheduler, String sql, PrepareOptions options, boolean autoCommit, Tuple arguments, PromiseInternal<L> promise) {
+    executeExtendedQuery(scheduler, sql, options, autoCommit, arguments, false, promise);
+  }
+
+  /**
+   * @param chained whether the query is followed by another query of the same pipeline
+   */
+  public void executeExtendedQuery(CommandScheduler scheduler, String sql, PrepareOptions options, boolean autoCommit, Tuple arguments, boolean chained, PromiseInternal<L> promise) {
     ContextInternal context = (ContextInternal) promise.context();
     QueryResultBuilder handler = this.createHandler(promise);
-    ExtendedQueryCommand cmd = createExtendedQueryCommand(sql, options, autoCommit, arguments, handler);
+    ExtendedQueryCommand cmd = createExtendedQueryCommand(sql, options, autoCommit, arguments, chained, handler);
     scheduler.schedule(context, cmd).onComplete(handler);
   }
 
@@ -103,6 +110,7 @@ public class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>
                                                              PrepareOptions options,
                                                              boolean autoCommit,
                                                              Tuple tuple,
+                                                             boolean chained,
                                                              QueryResultBuilder<T, R, L> handler) {
     return ExtendedQueryCommand.createQuery(
       sql,
@@ -110,6 +118,7 @@ public class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>
       null,
       tuple,
       autoCommit,
+      chained,
       collector,
       handler);
   }
@@ -1,10 +1,14 @@
 package io.vertx.sqlclient.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.internal.ArrayTuple;
+import io.vertx.sqlclient.internal.ColumnStream;
 import io.vertx.sqlclient.internal.RowInternal;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Base class for rows.
@@ -12,6 +16,8 @@ import java.util.Collection;
 public abstract class RowBase extends ArrayTuple implements RowInternal {
 
   private boolean released;
+  private List<ByteBuf> retainedBuffers;
+  private List<ColumnStream> streams;
 
   public RowBase(int len) {
     super(len);
@@ -25,9 +31,47 @@ public abstract class RowBase extends ArrayTuple implements RowInternal {
     super(tuple);
   }
 
+  /**
+   * Attach a buffer retained by one of the values of this row, the buffer is released along with the row.
+   *
+   * @param buffer the retained buffer
+   */
+  public void addRetainedBuffer(ByteBuf buffer) {
+    if (retainedBuffers == null) {
+      retainedBuffers = new ArrayList<>(1);
+    }
+    retainedBuffers.add(buffer);
+  }
+
+  /**
+   * Attach a stream of one of the values of this row, the stream is released along with the row.
+   *
+   * @param stream the stream
+   */
+  public void addStream(ColumnStream stream) {
+    if (streams == null) {
+      streams = new ArrayList<>(1);
+    }
+    streams.add(stream);
+  }
+
   @Override
   public void release() {
     released = true;
+    List<ByteBuf> buffers = retainedBuffers;
+    if (buffers != null) {
+      retainedBuffers = null;
+      for (ByteBuf buffer : buffers) {
+        buffer.release();
+      }
+    }
+    List<ColumnStream> s = streams;
+    if (s != null) {
+      streams = null;
+      for (ColumnStream stream : s) {
+        stream.release();
+      }
+    }
   }
 
   @Override
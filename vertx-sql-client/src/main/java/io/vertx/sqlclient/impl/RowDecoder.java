@@ -63,6 +63,7 @@ public abstract class RowDecoder<C, R> {
           accumulator = collector.accumulator();
         } catch (Exception e) {
           failure = e;
+          r.release();
           return;
         }
       }
@@ -70,12 +71,16 @@ public abstract class RowDecoder<C, R> {
         accumulator.accept(container, r);
       } catch (Exception e) {
         failure = e;
+        r.release();
         return;
       }
       if (r.tryRecycle()) {
         row = r;
       }
       size++;
+    } else if (decoded) {
+      // The row is dropped
+      r.release();
     }
   }
 
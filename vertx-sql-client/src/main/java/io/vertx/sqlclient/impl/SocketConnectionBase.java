@@ -356,6 +356,41 @@ public abstract class SocketConnectionBase implements Connection {
     }
   }
 
+  /**
+   * Prepare a statement and store it in the prepared statement cache, so that its first execution does not
+   * prepare it. Nothing is done when the statement can not be cached.
+   */
+  public Future<Void> prepareAndCache(ContextInternal context, String sql) {
+    Promise<Void> promise = context.promise();
+    this.context.emit(v -> doPrepareAndCache(sql, promise));
+    return promise.future();
+  }
+
+  /**
+   * @return whether the prepared statement cache holds the statement, this can be called from any thread
+   */
+  public boolean hasCachedStatement(String sql) {
+    return psCache != null && psCache.contains(sql);
+  }
+
+  private void doPrepareAndCache(String sql, Promise<Void> promise) {
+    if (psCache == null || psCache.isFull() || psCache.get(sql) != null || !preparedStatementCacheSqlFilter.test(sql)) {
+      promise.complete();
+      return;
+    }
+    doSchedule(new PrepareStatementCommand(sql, null, true), (ps, err) -> {
+      if (err != null) {
+        promise.fail(err);
+      } else if (psCache.isFull() || psCache.get(sql) != null) {
+        // Cached meanwhile by an execution
+        doSchedule(new CloseStatementCommand(ps), (res, err2) -> promise.complete());
+      } else {
+        cacheStatement(ps);
+        promise.complete();
+      }
+    });
+  }
+
   private void handleClosed(Void v) {
     handleClose(null);
   }
@@ -401,6 +436,21 @@ public abstract class SocketConnectionBase implements Connection {
     return pipeliningLimit > 1;
   }
 
+  /**
+   * Stop reading from the network, drivers use it to apply back-pressure when the application does not keep up
+   * with a value streamed as it is received.
+   */
+  public void pause() {
+    socket.pause();
+  }
+
+  /**
+   * Resume reading from the network after {@link #pause()}.
+   */
+  public void resume() {
+    socket.resume();
+  }
+
   public void suspendPipeline() {
     this.paused = true;
   }
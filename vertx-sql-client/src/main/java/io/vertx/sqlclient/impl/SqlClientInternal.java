@@ -1,9 +1,16 @@
 package io.vertx.sqlclient.impl;
 
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.spi.Driver;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface SqlClientInternal extends SqlClient {
 
   /**
@@ -20,4 +27,28 @@ public interface SqlClientInternal extends SqlClient {
    */
   void group(Handler<SqlClient> block);
 
+  /**
+   * Execute the prepared queries of a {@link io.vertx.sqlclient.Pipeline} as a group, every query but the last is
+   * {@link io.vertx.sqlclient.internal.command.ExtendedQueryCommand#isChained() chained} to the next query.
+   * <p>
+   * The default implementation executes the queries one after another.
+   *
+   * @param sqls the queries SQL
+   * @param arguments the queries arguments
+   * @return the results of the queries
+   */
+  default Future<List<RowSet<Row>>> executePipeline(List<String> sqls, List<Tuple> arguments) {
+    List<RowSet<Row>> results = new ArrayList<>(sqls.size());
+    Future<List<RowSet<Row>>> future = Future.succeededFuture(results);
+    for (int i = 0; i < sqls.size(); i++) {
+      String sql = sqls.get(i);
+      Tuple tuple = arguments.get(i);
+      future = future.compose(v -> preparedQuery(sql).execute(tuple).map(rows -> {
+        results.add(rows);
+        return results;
+      }));
+    }
+    return future;
+  }
+
 }
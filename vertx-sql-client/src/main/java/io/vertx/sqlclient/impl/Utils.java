@@ -11,7 +11,6 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import static io.vertx.sqlclient.Tuple.JSON_NULL;
@@ -54,18 +53,6 @@ public final class Utils {
     return value.toString();
   }
 
-  public static <T> Supplier<Future<T>> roundRobinSupplier(List<T> factories) {
-    return new Supplier<Future<T>>() {
-      final AtomicLong idx = new AtomicLong();
-      @Override
-      public Future<T> get() {
-        long val = idx.getAndIncrement();
-        T f = factories.get((int)val % factories.size());
-        return Future.succeededFuture(f);
-      }
-    };
-  }
-
   public static <T> Supplier<Future<T>> singletonSupplier(T factory) {
     return () -> Future.succeededFuture(factory);
   }
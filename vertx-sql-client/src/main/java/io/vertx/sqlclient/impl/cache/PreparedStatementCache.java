@@ -17,6 +17,8 @@ import java.util.List;
 
 /**
  * Cache which manages the lifecycle of all cached prepared statements .
+ * <p>
+ * The cache is used by the connection, {@link #contains(String)} can also be called by the pool from other threads.
  */
 public class PreparedStatementCache {
 
@@ -28,7 +30,7 @@ public class PreparedStatementCache {
     this.cache = new LruCache<>(cacheCapacity);
   }
 
-  public PreparedStatement get(String sql) {
+  public synchronized PreparedStatement get(String sql) {
     return cache.get(sql);
   }
 
@@ -38,7 +40,7 @@ public class PreparedStatementCache {
    * @param preparedStatement the prepared statement to cache
    * @return the list of prepared statement to evict and close
    */
-  public List<PreparedStatement> put(PreparedStatement preparedStatement) {
+  public synchronized List<PreparedStatement> put(PreparedStatement preparedStatement) {
     return cache.cache(preparedStatement.sql(), preparedStatement);
   }
 
@@ -47,22 +49,33 @@ public class PreparedStatementCache {
    *
    * @param sql the identified sql of the cached statement
    */
-  public void remove(String sql) {
+  public synchronized void remove(String sql) {
     this.cache.remove(sql);
   }
 
-  public PreparedStatement evict() {
+  public synchronized PreparedStatement evict() {
     return cache.evict();
   }
 
-  public boolean isFull() {
+  /**
+   * Check whether the cache holds a statement, unlike {@link #get(String)} this can be called from any thread and does
+   * not change the order of the statements.
+   *
+   * @param sql the sql of the statement
+   * @return whether the cache holds the statement
+   */
+  public synchronized boolean contains(String sql) {
+    return cache.containsKey(sql);
+  }
+
+  public synchronized boolean isFull() {
     return cache.size() == capacity;
   }
 
   /**
    * @return the cache size
    */
-  public int size() {
+  public synchronized int size() {
     return cache.size();
   }
 
@@ -71,7 +84,7 @@ public class PreparedStatementCache {
    * <p>
    * This method must be called only when the cached prepared statements have been released (e.g. with a connection reset).
    */
-  public void clear() {
+  public synchronized void clear() {
     cache.clear();
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+/**
+ * Limits the number of requests a pool executes or queues at the same time, the limit adapts to the latency of the
+ * requests with an additive increase / multiplicative decrease algorithm.
+ * <p>
+ * The limit decreases when a request exceeds the target latency or is dropped, e.g. when it misses its deadline, and
+ * increases when a request completes in time while the pool is busy enough for the limit to matter.
+ */
+class ConcurrencyLimiter {
+
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final long targetLatency;
+  private final int minLimit;
+  private final int maxLimit;
+  private double limit;
+  private int inflight;
+
+  /**
+   * @param targetLatency the target latency in nanoseconds
+   * @param minLimit the minimum limit
+   * @param maxLimit the maximum limit
+   */
+  ConcurrencyLimiter(long targetLatency, int minLimit, int maxLimit) {
+    this.targetLatency = targetLatency;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = Math.min(maxLimit, 2L * minLimit);
+  }
+
+  /**
+   * @return whether the request can be executed, when {@code true} the request must be {@link #release released}
+   */
+  synchronized boolean tryAcquire() {
+    if (inflight >= (int) limit) {
+      return false;
+    }
+    inflight++;
+    return true;
+  }
+
+  /**
+   * Release a request.
+   *
+   * @param latency the latency of the request in nanoseconds
+   * @param dropped whether the request was dropped
+   */
+  synchronized void release(long latency, boolean dropped) {
+    inflight--;
+    if (dropped || latency > targetLatency) {
+      limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    } else if (inflight * 2 >= limit) {
+      // Additive increase of one request per round trip of the limit
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.sqlclient.PoolOptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Gives the connections of a pool to requests waiting in weighted lanes.
+ * <p>
+ * A request takes a permit before acquiring a connection from the pool and releases it when it recycles the connection,
+ * there are as many permits as connections, so the requests wait for a connection in their lane rather than in the wait
+ * queue of the pool. A released permit is given to the first request of the lane with the lowest pass, the pass of a lane
+ * increases by the inverse of its weight each time it is served (stride scheduling), so the lanes are served in proportion
+ * to their weight.
+ */
+class LaneScheduler {
+
+  private static final Object NO_METRICS = new Object();
+
+  private static final class Lane {
+
+    private final int weight;
+    private final PoolMetrics metrics;
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private double pass;
+
+    private Lane(int weight, PoolMetrics metrics) {
+      this.weight = weight;
+      this.metrics = metrics;
+    }
+  }
+
+  private static final class Waiter {
+
+    private final Lane lane;
+    private final Promise<Void> promise;
+    private final Object metric;
+    private long timerID = -1L;
+
+    private Waiter(Lane lane, Promise<Void> promise, Object metric) {
+      this.lane = lane;
+      this.promise = promise;
+      this.metric = metric;
+    }
+  }
+
+  private final VertxInternal vertx;
+  private final Map<String, Lane> lanes;
+  private final Lane defaultLane;
+  private final int maxWaitQueueSize;
+  private int permits;
+  private int waiting;
+  private double virtualTime;
+  private boolean closed;
+
+  /**
+   * @param weights the weights of the lanes
+   * @param laneMetrics the factory of the metrics of a lane, might be {@code null}
+   * @param permits the number of permits
+   * @param maxWaitQueueSize the maximum number of waiting requests, a negative value means unbounded
+   */
+  LaneScheduler(VertxInternal vertx, Map<String, Integer> weights, Function<String, PoolMetrics> laneMetrics, int permits, int maxWaitQueueSize) {
+    Map<String, Lane> lanes = new LinkedHashMap<>();
+    for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+      lanes.put(weight.getKey(), new Lane(weight.getValue(), laneMetrics != null ? laneMetrics.apply(weight.getKey()) : null));
+    }
+    Lane defaultLane = lanes.get(PoolOptions.DEFAULT_LANE);
+    if (defaultLane == null) {
+      defaultLane = new Lane(1, laneMetrics != null ? laneMetrics.apply(PoolOptions.DEFAULT_LANE) : null);
+      lanes.put(PoolOptions.DEFAULT_LANE, defaultLane);
+    }
+    this.vertx = vertx;
+    this.lanes = lanes;
+    this.defaultLane = defaultLane;
+    this.permits = permits;
+    this.maxWaitQueueSize = maxWaitQueueSize;
+  }
+
+  /**
+   * Take a permit.
+   *
+   * @param name the lane name, the default lane is used when it is {@code null} or unknown
+   * @param timeout the maximum time to wait for a permit in ms, {@code 0} to wait forever
+   * @param timeoutFailure the failure when the timeout expires
+   * @return a future completed when the permit is taken, the permit must then be {@link #release() released}
+   */
+  Future<Void> acquire(ContextInternal context, String name, long timeout, Throwable timeoutFailure) {
+    Lane lane = name == null ? defaultLane : lanes.getOrDefault(name, defaultLane);
+    Waiter waiter;
+    synchronized (this) {
+      if (closed) {
+        return context.failedFuture("Pool closed");
+      }
+      if (permits > 0) {
+        permits--;
+        return context.succeededFuture();
+      }
+      if (maxWaitQueueSize >= 0 && waiting >= maxWaitQueueSize) {
+        return context.failedFuture("Connection pool reached max wait queue size of " + maxWaitQueueSize);
+      }
+      if (lane.waiters.isEmpty()) {
+        // An idle lane does not accumulate credit
+        lane.pass = Math.max(lane.pass, virtualTime);
+      }
+      waiter = new Waiter(lane, context.promise(), enqueueMetric(lane));
+      lane.waiters.add(waiter);
+      waiting++;
+      if (timeout > 0L) {
+        waiter.timerID = context.setTimer(timeout, id -> expire(waiter, timeoutFailure));
+      }
+    }
+    return waiter.promise.future();
+  }
+
+  private void expire(Waiter waiter, Throwable failure) {
+    synchronized (this) {
+      if (!waiter.lane.waiters.remove(waiter)) {
+        return;
+      }
+      waiting--;
+    }
+    dequeueMetric(waiter);
+    waiter.promise.fail(failure);
+  }
+
+  /**
+   * Release a permit, the permit is given to the next waiting request.
+   */
+  void release() {
+    Waiter next;
+    synchronized (this) {
+      Lane selected = null;
+      for (Lane lane : lanes.values()) {
+        if (!lane.waiters.isEmpty() && (selected == null || lane.pass < selected.pass)) {
+          selected = lane;
+        }
+      }
+      if (selected == null) {
+        permits++;
+        return;
+      }
+      next = selected.waiters.poll();
+      waiting--;
+      virtualTime = selected.pass;
+      selected.pass += 1.0 / selected.weight;
+    }
+    if (next.timerID != -1L) {
+      vertx.cancelTimer(next.timerID);
+    }
+    dequeueMetric(next);
+    next.promise.complete();
+  }
+
+  /**
+   * Fail the waiting requests.
+   */
+  void close() {
+    List<Waiter> waiters = new ArrayList<>();
+    synchronized (this) {
+      closed = true;
+      for (Lane lane : lanes.values()) {
+        waiters.addAll(lane.waiters);
+        lane.waiters.clear();
+      }
+      waiting = 0;
+    }
+    for (Waiter waiter : waiters) {
+      if (waiter.timerID != -1L) {
+        vertx.cancelTimer(waiter.timerID);
+      }
+      dequeueMetric(waiter);
+      waiter.promise.fail("Pool closed");
+    }
+  }
+
+  private static Object enqueueMetric(Lane lane) {
+    if (lane.metrics != null) {
+      try {
+        return lane.metrics.enqueue();
+      } catch (Exception e) {
+        //
+      }
+    }
+    return NO_METRICS;
+  }
+
+  private static void dequeueMetric(Waiter waiter) {
+    if (waiter.lane.metrics != null && waiter.metric != NO_METRICS) {
+      try {
+        waiter.lane.metrics.dequeue(waiter.metric);
+      } catch (Exception e) {
+        //
+      }
+    }
+  }
+}
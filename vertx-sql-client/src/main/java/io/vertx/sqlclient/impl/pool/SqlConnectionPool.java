@@ -22,17 +22,34 @@ import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.core.internal.pool.*;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.impl.LoadBalancedDatabases;
+import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.internal.Connection;
 import io.vertx.sqlclient.internal.SqlConnectionBase;
 import io.vertx.sqlclient.internal.command.CommandBase;
+import io.vertx.sqlclient.internal.command.ExtendedQueryCommand;
 import io.vertx.sqlclient.internal.command.QueryCommandBase;
+import io.vertx.sqlclient.internal.pool.RequestContext;
 import io.vertx.sqlclient.impl.tracing.QueryReporter;
 import io.vertx.sqlclient.spi.ConnectionFactory;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
+import io.vertx.sqlclient.spi.metrics.SqlPoolMetrics;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -44,9 +61,21 @@ import java.util.stream.Collectors;
  */
 public class SqlConnectionPool {
 
+  private static final Logger log = LoggerFactory.getLogger(SqlConnectionPool.class);
   private static final Object NO_METRICS = new Object();
 
-  private final Function<Context, Future<SqlConnection>> connectionProvider;
+  /**
+   * The failure of the requests whose deadline expired before they acquire a connection.
+   */
+  public static final VertxException DEADLINE_EXCEEDED = VertxException.noStackTrace("Deadline exceeded");
+
+  /**
+   * The failure of the requests shed by the pool.
+   */
+  public static final VertxException POOL_OVERLOADED = VertxException.noStackTrace("Pool overloaded");
+
+  private final Supplier<? extends Future<? extends SqlConnectOptions>> databases;
+  private final ConnectionFactory factory;
   private final VertxInternal vertx;
   private final PoolMetrics metrics;
   private final ConnectionPool<PooledConnection> pool;
@@ -57,19 +86,33 @@ public class SqlConnectionPool {
   private final long idleTimeout;
   private final long maxLifetime;
   private final int maxSize;
-
-  public SqlConnectionPool(Function<Context, Future<SqlConnection>> connectionProvider,
+  private final int minIdle;
+  private final List<String> warmUpStatements;
+  private final long maxLifetimeJitter;
+  private final int maxConcurrentReplacements;
+  private final AtomicBoolean filling = new AtomicBoolean();
+  private final AtomicInteger replacing = new AtomicInteger();
+  private final AtomicInteger busy = new AtomicInteger();
+  private final AtomicInteger load = new AtomicInteger();
+  private final ConcurrencyLimiter limiter;
+  private final LaneScheduler lanes;
+  private final boolean statementAffinity;
+
+  /**
+   * @param options the options of the pool, the sizes of a shard are its share of the sizes of the sharded pool
+   */
+  public <C extends SqlConnectOptions> SqlConnectionPool(Supplier<Future<C>> databases,
+                           ConnectionFactory<C> factory,
                            PoolMetrics metrics,
+                           Function<String, PoolMetrics> laneMetrics,
                            Handler<PooledConnection> hook,
                            Function<Connection, Future<Void>> afterAcquire,
                            Function<Connection, Future<Void>> beforeRecycle,
                            VertxInternal vertx,
-                           long idleTimeout,
-                           long maxLifetime,
-                           int maxSize,
                            boolean pipelined,
-                           int maxWaitQueueSize,
-                           int eventLoopSize) {
+                           PoolOptions options) {
+    int maxSize = options.getMaxSize();
+    int maxWaitQueueSize = options.getMaxWaitQueueSize();
     if (maxSize < 1) {
       throw new IllegalArgumentException("Pool max size must be > 0");
     }
@@ -80,14 +123,29 @@ public class SqlConnectionPool {
     this.metrics = metrics;
     this.vertx = vertx;
     this.pipelined = pipelined;
-    this.idleTimeout = idleTimeout;
-    this.maxLifetime = maxLifetime;
+    this.idleTimeout = TimeUnit.MILLISECONDS.convert(options.getIdleTimeout(), options.getIdleTimeoutUnit());
+    this.maxLifetime = TimeUnit.MILLISECONDS.convert(options.getMaxLifetime(), options.getMaxLifetimeUnit());
     this.maxSize = maxSize;
+    this.minIdle = Math.min(options.getMinIdle(), maxSize);
+    this.warmUpStatements = new ArrayList<>(options.getWarmUpStatements());
+    this.maxLifetimeJitter = Math.min(TimeUnit.MILLISECONDS.convert(options.getMaxLifetimeJitter(), options.getMaxLifetimeUnit()), maxLifetime);
+    this.maxConcurrentReplacements = options.getMaxConcurrentReplacements();
+    if (options.getLoadSheddingLatency() > 0) {
+      int maxLimit = maxWaitQueueSize >= 0 ? maxSize + maxWaitQueueSize : Integer.MAX_VALUE;
+      this.limiter = new ConcurrencyLimiter(TimeUnit.MILLISECONDS.toNanos(options.getLoadSheddingLatency()), maxSize, maxLimit);
+    } else {
+      this.limiter = null;
+    }
+    // Pipelined connections are shared by concurrent requests, lanes would limit them to a single request
+    Map<String, Integer> lanes = options.getLanes();
+    this.lanes = !pipelined && !lanes.isEmpty() ? new LaneScheduler(vertx, new LinkedHashMap<>(lanes), laneMetrics, maxSize, maxWaitQueueSize) : null;
     this.hook = hook;
-    this.connectionProvider = connectionProvider;
+    this.databases = databases;
+    this.factory = factory;
     this.afterAcquire = afterAcquire;
     this.beforeRecycle = beforeRecycle;
 
+    int eventLoopSize = options.getEventLoopSize();
     if (eventLoopSize > 0) {
       EventLoop[] loops = new EventLoop[eventLoopSize];
       for (int i = 0; i < eventLoopSize; i++) {
@@ -108,38 +166,160 @@ public class SqlConnectionPool {
     } else {
       pool.contextProvider(ctx -> ctx.owner().contextBuilder().withEventLoop(ctx.nettyEventLoop()).build());
     }
+
+    this.statementAffinity = options.isStatementAffinity();
+    pool.connectionSelector(this::selectConnection);
   }
 
   private final PoolConnector<PooledConnection> connector = new PoolConnector<>() {
     @Override
     public Future<ConnectResult<PooledConnection>> connect(ContextInternal context, Listener listener) {
-      Future<SqlConnection> future = connectionProvider.apply(context);
+      LoadBalancedDatabases.Endpoint endpoint;
+      Future<SqlConnection> future;
+      if (databases instanceof LoadBalancedDatabases) {
+        // The pool selects the database so that it reports the load of the connection to this database
+        endpoint = ((LoadBalancedDatabases) databases).select();
+        future = factory.connect(context, endpoint.options());
+        future = future.andThen(ar -> {
+          if (ar.succeeded()) {
+            endpoint.connected();
+          } else {
+            endpoint.connectFailed();
+          }
+          databaseMetric(endpoint);
+        });
+      } else {
+        endpoint = null;
+        future = factory.connect(context, databases.get());
+      }
       return future.compose(res -> {
         SqlConnectionBase connBase = (SqlConnectionBase) res;
         Connection conn = connBase.unwrap();
         if (conn.isValid()) {
-          PooledConnection pooled = new PooledConnection(connBase.factory(), conn, listener);
+          PooledConnection pooled = new PooledConnection(connBase.factory(), conn, listener, endpoint);
           conn.init(pooled);
-          if (hook != null) {
-            Promise<ConnectResult<PooledConnection>> p = Promise.promise();
-            pooled.poolCallback = p;
-            hook.handle(pooled);
-            return p.future();
-          } else {
-            return Future.succeededFuture(new ConnectResult<>(pooled, pipelined ? conn.pipeliningLimit() : 1, 0));
-          }
+          return prepareStatements(context, conn).compose(v -> {
+            if (hook != null) {
+              Promise<ConnectResult<PooledConnection>> p = Promise.promise();
+              pooled.poolCallback = p;
+              hook.handle(pooled);
+              return p.future();
+            } else {
+              return Future.succeededFuture(new ConnectResult<>(pooled, pipelined ? conn.pipeliningLimit() : 1, 0));
+            }
+          });
         } else {
+          if (endpoint != null) {
+            endpoint.disconnected();
+            databaseMetric(endpoint);
+          }
           return Future.failedFuture(NetSocketInternal.CLOSED_EXCEPTION);
         }
       });
     }
 
+    private Future<Void> prepareStatements(ContextInternal context, Connection conn) {
+      if (warmUpStatements.isEmpty() || !(conn instanceof SocketConnectionBase)) {
+        return Future.succeededFuture();
+      }
+      SocketConnectionBase socketConn = (SocketConnectionBase) conn;
+      List<Future<Void>> futures = new ArrayList<>(warmUpStatements.size());
+      for (String sql : warmUpStatements) {
+        futures.add(socketConn.prepareAndCache(context, sql).recover(err -> {
+          log.warn("Could not prepare warm up statement: " + sql, err);
+          return Future.succeededFuture();
+        }));
+      }
+      return Future.join(futures).mapEmpty();
+    }
+
     @Override
     public boolean isValid(PooledConnection connection) {
       return true;
     }
   };
 
+  /**
+   * Select an available connection for a waiter, a connection which caches the statement of the waiter is preferred.
+   * When the available connections are connected to several databases, the load balancer selects the database among
+   * them, according to the load and the latency of the databases. Then a connection on the event loop of the waiter
+   * is preferred. No connection is selected for a waiter opening a connection, so the pool opens a new one.
+   */
+  private PoolConnection<PooledConnection> selectConnection(PoolWaiter<PooledConnection> waiter, List<PoolConnection<PooledConnection>> connections) {
+    if (RequestContext.OPEN_CONNECTION.get(waiter.context()) != null) {
+      return null;
+    }
+    String sql = RequestContext.STATEMENT.get(waiter.context());
+    List<LoadBalancedDatabases.Endpoint> endpoints = databases instanceof LoadBalancedDatabases ? new ArrayList<>(2) : null;
+    for (int i = 0; i < connections.size(); i++) {
+      PoolConnection<PooledConnection> connection = connections.get(i);
+      if (connection.available() > 0) {
+        if (sql != null && connection.get().hasCachedStatement(sql)) {
+          statementAffinityMetric(true);
+          return connection;
+        }
+        LoadBalancedDatabases.Endpoint endpoint = connection.get().endpoint;
+        if (endpoints != null && endpoint != null && !endpoints.contains(endpoint)) {
+          endpoints.add(endpoint);
+        }
+      }
+    }
+    LoadBalancedDatabases.Endpoint endpoint = null;
+    if (endpoints != null && endpoints.size() > 1) {
+      endpoint = ((LoadBalancedDatabases) databases).select(endpoints);
+    }
+    EventLoop eventLoop = waiter.context().nettyEventLoop();
+    PoolConnection<PooledConnection> selected = null;
+    for (int i = 0; i < connections.size(); i++) {
+      PoolConnection<PooledConnection> connection = connections.get(i);
+      if (connection.available() > 0 && (endpoint == null || connection.get().endpoint == endpoint)) {
+        if (selected == null || (selected.context().nettyEventLoop() != eventLoop && connection.context().nettyEventLoop() == eventLoop)) {
+          selected = connection;
+        }
+      }
+    }
+    if (selected != null && sql != null) {
+      statementAffinityMetric(false);
+    }
+    return selected;
+  }
+
+  /**
+   * The context acquiring a connection for a command, the statement of the command is stored in the local data of the
+   * context for the connection selector.
+   */
+  private ContextInternal acquireContext(ContextInternal context, CommandBase<?> cmd) {
+    if (statementAffinity && cmd instanceof ExtendedQueryCommand) {
+      String sql = ((ExtendedQueryCommand<?>) cmd).sql();
+      if (sql != null) {
+        ContextInternal duplicate = context.duplicate();
+        RequestContext.STATEMENT.put(duplicate, sql);
+        return duplicate;
+      }
+    }
+    return context;
+  }
+
+  private void statementAffinityMetric(boolean hit) {
+    if (metrics instanceof SqlPoolMetrics) {
+      try {
+        ((SqlPoolMetrics<?, ?>) metrics).statementAffinity(hit);
+      } catch (Exception e) {
+        //
+      }
+    }
+  }
+
+  private void databaseMetric(LoadBalancedDatabases.Endpoint endpoint) {
+    if (metrics instanceof SqlPoolMetrics) {
+      try {
+        ((SqlPoolMetrics<?, ?>) metrics).database(endpoint);
+      } catch (Exception e) {
+        //
+      }
+    }
+  }
+
   public int available() {
     return maxSize - pool.size();
   }
@@ -148,18 +328,149 @@ public class SqlConnectionPool {
     return pool.size();
   }
 
+  public int maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return the number of connections not used by a request, including the connections being opened
+   */
+  public int idle() {
+    return Math.max(0, pool.size() - busy.get());
+  }
+
+  /**
+   * @return the number of requests executing or waiting for a connection, including the acquired connections
+   */
+  public int load() {
+    return load.get();
+  }
+
+  /**
+   * Bind the connections of the pool to an event loop.
+   */
+  public void eventLoop(EventLoop loop) {
+    pool.contextProvider(ctx -> vertx.contextBuilder().withEventLoop(loop).build());
+  }
+
   public void evict() {
     long now = System.currentTimeMillis();
-    pool.evict(conn -> conn.shouldEvict(now)).onComplete(ar -> {
+    int[] remaining = { idle() };
+    List<PooledConnection> expired = new ArrayList<>();
+    pool.evict(conn -> {
+      // Idle connections are kept to maintain the minimum number of idle connections
+      if (conn.hasIdleExpired(now) && remaining[0] > minIdle) {
+        remaining[0]--;
+        return true;
+      }
+      if (conn.hasLifetimeExpired(now)) {
+        if (conn.replaced) {
+          // The replacement is already opened
+          remaining[0]--;
+          return true;
+        }
+        // Expired connections beyond the limit are replaced by a later run
+        if (!conn.replacing && (maxConcurrentReplacements <= 0 || replacing.get() + expired.size() < maxConcurrentReplacements)) {
+          conn.replacing = true;
+          expired.add(conn);
+        }
+      }
+      return false;
+    }).onComplete(ar -> {
       if (ar.succeeded()) {
-        List<PooledConnection> res = ar.result();
-        for (PooledConnection conn : res) {
+        for (PooledConnection conn : ar.result()) {
           conn.close(Promise.promise());
         }
       }
+      ContextInternal context = vertx.getOrCreateContext();
+      for (PooledConnection conn : expired) {
+        replace(context, conn);
+      }
+      fill(context);
+    });
+  }
+
+  /**
+   * Make before break: the expired connection remains in service until its replacement is opened, then it is evicted
+   * and closed. When the pool is full the replacement is opened after the expired connection is evicted, when the
+   * expired connection is in use it is evicted by a later run of the pool cleaner.
+   */
+  private void replace(ContextInternal context, PooledConnection expired) {
+    replacing.incrementAndGet();
+    open(context).onComplete(ar -> {
+      pool.evict(conn -> conn == expired).onComplete(ar2 -> {
+        boolean evicted = ar2.succeeded() && !ar2.result().isEmpty();
+        Future<Lease<PooledConnection>> replacement;
+        if (evicted) {
+          expired.close(Promise.promise());
+          replacement = ar.succeeded() ? context.succeededFuture(ar.result()) : open(context);
+        } else {
+          expired.replaced = ar.succeeded();
+          replacement = ar.succeeded() ? context.succeededFuture(ar.result()) : context.failedFuture(ar.cause());
+        }
+        replacement.onComplete(ar3 -> {
+          if (ar3.succeeded()) {
+            ar3.result().recycle();
+          }
+          expired.replacing = false;
+          replacing.decrementAndGet();
+        });
+      });
     });
   }
 
+  /**
+   * Open connections concurrently until the pool has its minimum number of idle connections, connections are only
+   * opened when the pool has capacity, this never waits for a connection to be released.
+   *
+   * @return a future completed when the connections are opened
+   */
+  public Future<Void> fill(ContextInternal context) {
+    int missing = minIdle - idle();
+    if (missing <= 0 || !filling.compareAndSet(false, true)) {
+      return context.succeededFuture();
+    }
+    List<Future<Lease<PooledConnection>>> opened = new ArrayList<>(missing);
+    for (int i = 0; i < missing; i++) {
+      opened.add(open(context).andThen(ar -> {
+        if (ar.succeeded()) {
+          ar.result().recycle();
+        }
+      }));
+    }
+    return Future.join(opened).transform(ar -> {
+      filling.set(false);
+      return context.succeededFuture();
+    });
+  }
+
+  /**
+   * Open a new connection, idle connections are not handed out.
+   *
+   * @return the lease of the new connection, failed when the pool is full
+   */
+  private Future<Lease<PooledConnection>> open(ContextInternal context) {
+    ContextInternal duplicate = context.duplicate();
+    RequestContext.OPEN_CONNECTION.put(duplicate, Boolean.TRUE);
+    Promise<Lease<PooledConnection>> promise = context.promise();
+    pool.acquire(duplicate, new PoolWaiter.Listener<>() {
+      @Override
+      public void onEnqueue(PoolWaiter<PooledConnection> waiter) {
+        // The pool is full, give up instead of taking a connection from a waiting request
+        pool.cancel(waiter).onComplete(ar -> {
+          if (ar.succeeded() && ar.result()) {
+            promise.tryFail("Pool is full");
+          }
+        });
+      }
+
+      @Override
+      public void onConnect(PoolWaiter<PooledConnection> waiter) {
+      }
+    }, 0).onComplete(promise);
+    return promise.future();
+  }
+
   private Object enqueueMetric() {
     if (metrics != null) {
       try {
@@ -182,13 +493,112 @@ public class SqlConnectionPool {
   }
 
   public <R> Future<R> execute(ContextInternal context, CommandBase<R> cmd) {
+    return execute(context, cmd, 0L, null);
+  }
+
+  /**
+   * Execute a command with a deadline, the command fails without being executed when the deadline expires before
+   * a connection is acquired.
+   *
+   * @param deadline the deadline in ms since the epoch, {@code 0} for no deadline
+   * @param lane the lane in which the command waits for a connection, {@code null} for the default lane
+   */
+  public <R> Future<R> execute(ContextInternal context, CommandBase<R> cmd, long deadline, String lane) {
+    long remaining = 0L;
+    if (deadline > 0L) {
+      remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0L) {
+        return context.failedFuture(DEADLINE_EXCEEDED);
+      }
+    }
+    if (limiter == null) {
+      return executeInLane(context, cmd, deadline, remaining, lane);
+    }
+    if (!limiter.tryAcquire()) {
+      return context.failedFuture(POOL_OVERLOADED);
+    }
+    long start = System.nanoTime();
+    return executeInLane(context, cmd, deadline, remaining, lane)
+      .andThen(ar -> limiter.release(System.nanoTime() - start, ar.failed() && ar.cause() == DEADLINE_EXCEEDED));
+  }
+
+  private <R> Future<R> executeInLane(ContextInternal context, CommandBase<R> cmd, long deadline, long remaining, String lane) {
+    load.incrementAndGet();
+    Future<R> future;
+    if (lanes == null) {
+      future = doExecute(context, cmd, deadline, remaining);
+    } else {
+      future = lanes.acquire(context, lane, remaining, DEADLINE_EXCEEDED).compose(v -> {
+        long left = 0L;
+        if (deadline > 0L) {
+          left = deadline - System.currentTimeMillis();
+          if (left <= 0L) {
+            lanes.release();
+            return context.failedFuture(DEADLINE_EXCEEDED);
+          }
+        }
+        return doExecute(context, cmd, deadline, left)
+          .andThen(ar -> lanes.release());
+      });
+    }
+    return future.andThen(ar -> load.decrementAndGet());
+  }
+
+  private <R> Future<R> doExecute(ContextInternal context, CommandBase<R> cmd, long deadline, long remaining) {
     Promise<Lease<PooledConnection>> p = context.promise();
     Object metric = enqueueMetric();
-    pool.acquire(context, 0)
-      .onComplete(p);
+    if (remaining > 0L) {
+      class DeadlineRequest implements PoolWaiter.Listener<PooledConnection>, Completable<Lease<PooledConnection>> {
+
+        private long timerID = -1L;
+
+        @Override
+        public void complete(Lease<PooledConnection> lease, Throwable failure) {
+          if (timerID != -1L) {
+            vertx.cancelTimer(timerID);
+          }
+          if (failure == null) {
+            p.tryComplete(lease);
+          } else {
+            p.tryFail(failure);
+          }
+        }
+
+        @Override
+        public void onEnqueue(PoolWaiter<PooledConnection> waiter) {
+          if (timerID == -1L) {
+            timerID = context.setTimer(remaining, id -> {
+              // A cancelled waiter is never completed
+              pool.cancel(waiter).onComplete(ar -> {
+                if (ar.succeeded() && ar.result()) {
+                  dequeueMetric(metric);
+                  p.tryFail(DEADLINE_EXCEEDED);
+                }
+              });
+            });
+          }
+        }
+
+        @Override
+        public void onConnect(PoolWaiter<PooledConnection> waiter) {
+          onEnqueue(waiter);
+        }
+      }
+      DeadlineRequest request = new DeadlineRequest();
+      pool.acquire(acquireContext(context, cmd), request, 0)
+        .onComplete(request);
+    } else {
+      pool.acquire(acquireContext(context, cmd), 0)
+        .onComplete(p);
+    }
     return p.future().compose(lease -> {
       dequeueMetric(metric);
+      if (deadline > 0L && deadline <= System.currentTimeMillis()) {
+        lease.recycle();
+        return context.failedFuture(DEADLINE_EXCEEDED);
+      }
       PooledConnection pooled = lease.get();
+      pooled.leased();
       Connection conn = pooled.conn;
       Future<R> future;
       if (afterAcquire != null) {
@@ -200,12 +610,55 @@ public class SqlConnectionPool {
       }
       return future.andThen(ar -> {
         pooled.refresh();
+        pooled.released();
         lease.recycle();
       });
     });
   }
 
-  public void acquire(ContextInternal context, long timeout, Completable<PooledConnection> handler) {
+  /**
+   * Acquire a connection, the connection waits in the {@code lane} when the pool has lanes.
+   *
+   * @param lane the lane in which the request waits for a connection, {@code null} for the default lane
+   */
+  public void acquire(ContextInternal context, long timeout, String lane, Completable<PooledConnection> handler) {
+    // The load decreases when the connection is released
+    load.incrementAndGet();
+    acquireInLane(context, timeout, lane, (pooled, failure) -> {
+      if (failure != null) {
+        load.decrementAndGet();
+        handler.fail(failure);
+      } else {
+        handler.succeed(pooled);
+      }
+    });
+  }
+
+  private void acquireInLane(ContextInternal context, long timeout, String lane, Completable<PooledConnection> handler) {
+    if (lanes == null) {
+      doAcquire(context, timeout, handler);
+      return;
+    }
+    long start = System.currentTimeMillis();
+    lanes.acquire(context, lane, timeout, VertxException.noStackTrace("Timeout")).onComplete(ar -> {
+      if (ar.failed()) {
+        handler.fail(ar.cause());
+        return;
+      }
+      long remaining = timeout > 0L ? Math.max(1L, timeout - (System.currentTimeMillis() - start)) : 0L;
+      doAcquire(context, remaining, (pooled, failure) -> {
+        if (failure == null) {
+          pooled.permit = true;
+          handler.succeed(pooled);
+        } else {
+          lanes.release();
+          handler.fail(failure);
+        }
+      });
+    });
+  }
+
+  private void doAcquire(ContextInternal context, long timeout, Completable<PooledConnection> handler) {
     class PoolRequest implements PoolWaiter.Listener<PooledConnection>, Completable<Lease<PooledConnection>> {
 
       private final Object metric;
@@ -241,6 +694,7 @@ public class SqlConnectionPool {
       private void handle(Lease<PooledConnection> lease) {
         dequeueMetric(metric);
         PooledConnection pooled = lease.get();
+        pooled.leased();
         pooled.lease = lease;
         handler.succeed(pooled);
       }
@@ -274,6 +728,9 @@ public class SqlConnectionPool {
   }
 
   public Future<Void> close() {
+    if (lanes != null) {
+      lanes.close();
+    }
     Promise<Void> promise = vertx.promise();
     pool.close().onComplete(ar1 -> {
       if (ar1.succeeded()) {
@@ -299,17 +756,24 @@ public class SqlConnectionPool {
     private final ConnectionFactory factory;
     private final Connection conn;
     private final PoolConnector.Listener listener;
+    private final LoadBalancedDatabases.Endpoint endpoint;
+    private final AtomicInteger leases = new AtomicInteger();
     private Holder holder;
     private Promise<ConnectResult<PooledConnection>> poolCallback;
     private Lease<PooledConnection> lease;
+    private boolean permit;
+    private volatile boolean replacing;
+    private volatile boolean replaced;
+    private boolean closed;
     public long idleEvictionTimestamp;
     public long lifetimeEvictionTimestamp;
 
-    PooledConnection(ConnectionFactory factory, Connection conn, PoolConnector.Listener listener) {
+    PooledConnection(ConnectionFactory factory, Connection conn, PoolConnector.Listener listener, LoadBalancedDatabases.Endpoint endpoint) {
       this.factory = factory;
       this.conn = conn;
       this.listener = listener;
-      this.lifetimeEvictionTimestamp = maxLifetime > 0 ? System.currentTimeMillis() + maxLifetime : Long.MAX_VALUE;
+      this.endpoint = endpoint;
+      this.lifetimeEvictionTimestamp = maxLifetime > 0 ? System.currentTimeMillis() + maxLifetime - jitter() : Long.MAX_VALUE;
       refresh();
     }
 
@@ -382,6 +846,13 @@ public class SqlConnectionPool {
       if (queryReporter != null) {
         fut = fut.andThen(queryReporter::after);
       }
+      if (endpoint != null && cmd instanceof QueryCommandBase) {
+        long start = System.nanoTime();
+        fut = fut.andThen(ar -> {
+          endpoint.queryEnded(System.nanoTime() - start);
+          databaseMetric(endpoint);
+        });
+      }
       return fut;
     }
 
@@ -392,6 +863,30 @@ public class SqlConnectionPool {
       conn.close(this, promise);
     }
 
+    private void leased() {
+      if (leases.incrementAndGet() == 1) {
+        busy.incrementAndGet();
+      }
+      if (endpoint != null) {
+        endpoint.leased();
+        databaseMetric(endpoint);
+      }
+    }
+
+    private void released() {
+      if (leases.decrementAndGet() == 0) {
+        busy.decrementAndGet();
+      }
+      if (endpoint != null) {
+        endpoint.released();
+        databaseMetric(endpoint);
+      }
+    }
+
+    private long jitter() {
+      return maxLifetimeJitter > 0 ? ThreadLocalRandom.current().nextLong(maxLifetimeJitter + 1) : 0L;
+    }
+
     private void refresh() {
       this.idleEvictionTimestamp = idleTimeout > 0 ? System.currentTimeMillis() + idleTimeout : Long.MAX_VALUE;
     }
@@ -440,12 +935,23 @@ public class SqlConnectionPool {
       Lease<PooledConnection> l = this.lease;
       this.lease = null;
       refresh();
+      released();
       l.recycle();
+      if (permit) {
+        permit = false;
+        lanes.release();
+      }
+      load.decrementAndGet();
       promise.complete();
     }
 
     @Override
     public void handleClosed() {
+      if (endpoint != null && !closed) {
+        closed = true;
+        endpoint.disconnected();
+        databaseMetric(endpoint);
+      }
       if (holder != null) {
         holder.handleClosed();
       }
@@ -486,6 +992,10 @@ public class SqlConnectionPool {
       return conn;
     }
 
+    private boolean hasCachedStatement(String sql) {
+      return conn instanceof SocketConnectionBase && ((SocketConnectionBase) conn).hasCachedStatement(sql);
+    }
+
     private boolean hasIdleExpired(long now) {
       return idleEvictionTimestamp < now;
     }
@@ -494,9 +1004,5 @@ public class SqlConnectionPool {
       return lifetimeEvictionTimestamp < now;
     }
 
-    private boolean shouldEvict(long now) {
-      return hasIdleExpired(now) || hasLifetimeExpired(now);
-    }
-
   }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.impl.spi;
+
+import io.vertx.core.internal.VertxBootstrap;
+import io.vertx.core.spi.VertxServiceProvider;
+import io.vertx.sqlclient.internal.pool.RequestContext;
+
+/**
+ * Registers the {@link RequestContext} locals before Vert.x creates an instance.
+ */
+public class RequestContextProvider implements VertxServiceProvider {
+
+  @Override
+  public void init(VertxBootstrap bootstrap) {
+    RequestContext.register();
+  }
+}
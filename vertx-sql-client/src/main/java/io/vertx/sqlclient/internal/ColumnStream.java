@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.internal;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+
+/**
+ * A column value streamed by a driver as the bytes are received from the database.
+ * <p>
+ * Chunks are buffered in an {@link InboundBuffer} until the application consumes them, the driver stops producing
+ * when {@link #write(Buffer)} returns {@code false} and resumes when the {@link #drainHandler(Handler) drain handler}
+ * is called. Chunks are buffered until a handler is set.
+ * <p>
+ * This class must be used from the context it is created with.
+ */
+public class ColumnStream implements ReadStream<Buffer> {
+
+  private static final Object END = new Object();
+
+  private final InboundBuffer<Object> pending;
+  private Handler<Buffer> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> drainHandler;
+  private long demand = Long.MAX_VALUE;
+  private boolean flowing;
+  private boolean ended;
+  private boolean released;
+
+  public ColumnStream(ContextInternal context) {
+    pending = new InboundBuffer<>(context)
+      .pause()
+      .handler(this::handleEvent)
+      .drainHandler(v -> handleDrain());
+  }
+
+  /**
+   * Called by the driver when a chunk of the column is received.
+   *
+   * @return whether the driver can keep writing chunks, otherwise it shall wait for the drain handler
+   */
+  public boolean write(Buffer chunk) {
+    if (released || ended) {
+      return true;
+    }
+    return pending.write(chunk);
+  }
+
+  /**
+   * Set the handler called when the driver can write chunks again after {@link #write(Buffer)} returned {@code false}
+   * or after the stream is released.
+   */
+  public ColumnStream drainHandler(Handler<Void> handler) {
+    drainHandler = handler;
+    return this;
+  }
+
+  /**
+   * Called by the driver when the column has been fully received.
+   */
+  public void end() {
+    if (!released && !ended) {
+      ended = true;
+      pending.write(END);
+    }
+  }
+
+  /**
+   * Called by the driver when the column cannot be fully received.
+   */
+  public void fail(Throwable cause) {
+    if (!released && !ended) {
+      ended = true;
+      pending.clear();
+      pending.write(cause);
+    }
+  }
+
+  /**
+   * @return whether the application has set a handler
+   */
+  public boolean hasHandler() {
+    return handler != null;
+  }
+
+  /**
+   * @return whether the stream has been released
+   */
+  public boolean isReleased() {
+    return released;
+  }
+
+  /**
+   * Discard the content of the stream, called when the row is released or when the application does not consume the
+   * stream. The chunks the driver writes afterwards are ignored.
+   */
+  public void release() {
+    if (!released) {
+      released = true;
+      boolean full = !pending.isWritable();
+      pending.clear();
+      if (full) {
+        handleDrain();
+      }
+    }
+  }
+
+  @Override
+  public ColumnStream exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ColumnStream handler(Handler<Buffer> handler) {
+    this.handler = handler;
+    if (handler != null && !flowing) {
+      flowing = true;
+      pending.fetch(demand);
+    }
+    return this;
+  }
+
+  @Override
+  public ColumnStream pause() {
+    if (flowing) {
+      pending.pause();
+    } else {
+      demand = 0L;
+    }
+    return this;
+  }
+
+  @Override
+  public ColumnStream resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public ColumnStream fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException("Invalid fetch amount " + amount);
+    }
+    if (flowing) {
+      pending.fetch(amount);
+    } else {
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public ColumnStream endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+
+  private void handleEvent(Object event) {
+    if (event == END) {
+      Handler<Void> h = endHandler;
+      if (h != null) {
+        h.handle(null);
+      }
+    } else if (event instanceof Throwable) {
+      Handler<Throwable> h = exceptionHandler;
+      if (h != null) {
+        h.handle((Throwable) event);
+      }
+    } else {
+      Handler<Buffer> h = handler;
+      if (h != null) {
+        h.handle((Buffer) event);
+      }
+    }
+  }
+
+  private void handleDrain() {
+    Handler<Void> h = drainHandler;
+    if (h != null) {
+      h.handle(null);
+    }
+  }
+}
@@ -19,9 +19,11 @@ package io.vertx.sqlclient.internal;
 
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
+import io.vertx.sqlclient.Pipeline;
 import io.vertx.sqlclient.PrepareOptions;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.impl.PipelineImpl;
 import io.vertx.sqlclient.impl.QueryBase;
 import io.vertx.sqlclient.impl.QueryExecutor;
 import io.vertx.sqlclient.impl.RowSetImpl;
@@ -38,6 +40,7 @@ import io.vertx.core.Handler;
 import io.vertx.sqlclient.internal.command.CompositeCommand;
 import io.vertx.sqlclient.spi.Driver;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -170,6 +173,25 @@ public abstract class SqlClientBase implements SqlClientInternal, CommandSchedul
     schedule(context(), grouping.composite);
   }
 
+  @Override
+  public Pipeline pipeline() {
+    return new PipelineImpl(this);
+  }
+
+  @Override
+  public Future<List<RowSet<Row>>> executePipeline(List<String> sqls, List<Tuple> arguments) {
+    GroupingClient grouping = new GroupingClient();
+    List<Future<RowSet<Row>>> results = new ArrayList<>(sqls.size());
+    for (int i = 0; i < sqls.size(); i++) {
+      QueryExecutor<RowSet<Row>, RowSetImpl<Row>, RowSet<Row>> builder = new QueryExecutor<>(RowSetImpl.FACTORY, RowSetImpl.COLLECTOR);
+      PromiseInternal<RowSet<Row>> promise = promise();
+      builder.executeExtendedQuery(grouping, sqls.get(i), null, autoCommit(), arguments.get(i), i < sqls.size() - 1, promise);
+      results.add(promise.future());
+    }
+    schedule(context(), grouping.composite);
+    return Future.all(results).map(res -> res.<RowSet<Row>>list());
+  }
+
   private class GroupingClient extends SqlClientBase {
 
     private CompositeCommand composite = new CompositeCommand();
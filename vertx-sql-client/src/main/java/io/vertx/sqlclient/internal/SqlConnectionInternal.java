@@ -10,6 +10,7 @@
  */
 package io.vertx.sqlclient.internal;
 
+import io.vertx.core.Future;
 import io.vertx.sqlclient.SqlConnection;
 
 public interface SqlConnectionInternal extends SqlConnection {
@@ -19,4 +20,13 @@ public interface SqlConnectionInternal extends SqlConnection {
    */
   Connection unwrap();
 
+  /**
+   * Send a request to the server to cancel the request in progress on this connection.
+   *
+   * @return a future notified when the request is sent, failed when the driver does not support cancellation
+   */
+  default Future<Void> cancelRequest() {
+    return Future.failedFuture(new UnsupportedOperationException("Request cancellation is not supported"));
+  }
+
 }
@@ -40,7 +40,19 @@ public class ExtendedQueryCommand<R> extends QueryCommandBase<R> {
     boolean autoCommit,
     Collector<Row, ?, R> collector,
     QueryResultHandler<R> resultHandler) {
-    return new ExtendedQueryCommand<>(sql, options, ps, false, tuple, 0, null, false, autoCommit, collector, resultHandler);
+    return createQuery(sql, options, ps, tuple, autoCommit, false, collector, resultHandler);
+  }
+
+  public static <R> ExtendedQueryCommand<R> createQuery(
+    String sql,
+    PrepareOptions options,
+    PreparedStatement ps,
+    Tuple tuple,
+    boolean autoCommit,
+    boolean chained,
+    Collector<Row, ?, R> collector,
+    QueryResultHandler<R> resultHandler) {
+    return new ExtendedQueryCommand<>(sql, options, ps, false, tuple, 0, null, false, autoCommit, chained, collector, resultHandler);
   }
 
   public static <R> ExtendedQueryCommand<R> createQuery(
@@ -54,7 +66,7 @@ public class ExtendedQueryCommand<R> extends QueryCommandBase<R> {
     boolean autoCommit,
     Collector<Row, ?, R> collector,
     QueryResultHandler<R> resultHandler) {
-    return new ExtendedQueryCommand<>(sql, options, ps, false, tuple, fetch, cursorId, suspended, autoCommit, collector, resultHandler);
+    return new ExtendedQueryCommand<>(sql, options, ps, false, tuple, fetch, cursorId, suspended, autoCommit, false, collector, resultHandler);
   }
 
   public static <R> ExtendedQueryCommand<R> createBatch(
@@ -65,7 +77,7 @@ public class ExtendedQueryCommand<R> extends QueryCommandBase<R> {
     boolean autoCommit,
     Collector<Row, ?, R> collector,
     QueryResultHandler<R> resultHandler) {
-    return new ExtendedQueryCommand<>(sql, options, ps, true, tuples, 0, null, false, autoCommit, collector, resultHandler);
+    return new ExtendedQueryCommand<>(sql, options, ps, true, tuples, 0, null, false, autoCommit, false, collector, resultHandler);
   }
 
   protected final String sql;
@@ -76,6 +88,7 @@ public class ExtendedQueryCommand<R> extends QueryCommandBase<R> {
   protected final int fetch;
   protected final String cursorId;
   protected final boolean suspended;
+  protected final boolean chained;
 
   private ExtendedQueryCommand(String sql,
                                PrepareOptions options,
@@ -86,6 +99,7 @@ public class ExtendedQueryCommand<R> extends QueryCommandBase<R> {
                                String cursorId,
                                boolean suspended,
                                boolean autoCommit,
+                               boolean chained,
                                Collector<Row, ?, R> collector,
                                QueryResultHandler<R> resultHandler) {
     super(autoCommit, collector, resultHandler);
@@ -97,6 +111,7 @@ public class ExtendedQueryCommand<R> extends QueryCommandBase<R> {
     this.fetch = fetch;
     this.cursorId = cursorId;
     this.suspended = suspended;
+    this.chained = chained;
   }
 
   public PrepareOptions options() {
@@ -176,6 +191,14 @@ public class ExtendedQueryCommand<R> extends QueryCommandBase<R> {
     return suspended;
   }
 
+  /**
+   * @return whether the query is followed by another query of the same {@link io.vertx.sqlclient.Pipeline}, so the
+   * driver can execute both in the same implicit transaction, e.g. without a PostgreSQL {@code Sync} between them
+   */
+  public boolean isChained() {
+    return chained;
+  }
+
   @Override
   public String sql() {
     return sql;
@@ -23,9 +23,11 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.impl.PipelineImpl;
 import io.vertx.sqlclient.impl.SqlClientInternal;
 import io.vertx.sqlclient.spi.Driver;
 
+import java.util.List;
 import java.util.function.Function;
 
 public class CloseablePool implements Pool, SqlClientInternal {
@@ -47,7 +49,17 @@ public class CloseablePool implements Pool, SqlClientInternal {
 
   @Override
   public void group(Handler<SqlClient> block) {
+    ((SqlClientInternal) delegate).group(block);
+  }
+
+  @Override
+  public Pipeline pipeline() {
+    return new PipelineImpl(this);
+  }
 
+  @Override
+  public Future<List<RowSet<Row>>> executePipeline(List<String> sqls, List<Tuple> arguments) {
+    return ((SqlClientInternal) delegate).executePipeline(sqls, arguments);
   }
 
   @Override
@@ -71,6 +83,11 @@ public class CloseablePool implements Pool, SqlClientInternal {
     return delegate.withTransaction(txPropagation, function);
   }
 
+  @Override
+  public Pool withOptions(RequestOptions options) {
+    return new RequestOptionsPool(vertx, this, options);
+  }
+
   @Override
   public int size() {
     return delegate.size();
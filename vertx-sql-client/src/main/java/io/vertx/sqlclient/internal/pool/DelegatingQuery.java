@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.internal.pool;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.*;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * A query executed by a pool on the client of its choice, e.g. a replica.
+ * <p>
+ * The query is created for each client it executes on, this also applies to prepared queries which can be
+ * used as queries.
+ */
+class DelegatingQuery<T> implements PreparedQuery<T> {
+
+  /**
+   * Executes an action with the client of its choice.
+   */
+  interface Executor {
+    <T> Future<T> execute(Function<SqlClient, Future<T>> action);
+  }
+
+  private final Executor executor;
+  private final Function<SqlClient, Query<T>> factory;
+
+  DelegatingQuery(Executor executor, Function<SqlClient, Query<T>> factory) {
+    this.executor = executor;
+    this.factory = factory;
+  }
+
+  @Override
+  public Future<T> execute() {
+    return executor.execute(client -> factory.apply(client).execute());
+  }
+
+  @Override
+  public Future<T> execute(Tuple tuple) {
+    return executor.execute(client -> ((PreparedQuery<T>) factory.apply(client)).execute(tuple));
+  }
+
+  @Override
+  public Future<T> executeBatch(List<Tuple> batch) {
+    return executor.execute(client -> ((PreparedQuery<T>) factory.apply(client)).executeBatch(batch));
+  }
+
+  @Override
+  public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+    return new DelegatingQuery<>(executor, client -> factory.apply(client).collecting(collector));
+  }
+
+  @Override
+  public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+    return new DelegatingQuery<>(executor, client -> factory.apply(client).mapping(mapper));
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.internal.pool;
+
+import java.util.Arrays;
+
+/**
+ * Tracks a percentile of the latency of the recent requests.
+ * <p>
+ * The latencies are kept in a ring buffer, the percentile is computed again after a number of new samples, so the
+ * cost of sorting the samples is amortized over many requests.
+ */
+class LatencyPercentile {
+
+  private static final int SAMPLES = 1024;
+  private static final int MIN_SAMPLES = 64;
+  private static final int UPDATE_INTERVAL = 64;
+
+  private final double percentile;
+  private final long[] samples = new long[SAMPLES];
+  private int count;
+  private int next;
+  private int updates;
+  private volatile long value;
+
+  LatencyPercentile(double percentile) {
+    this.percentile = percentile;
+  }
+
+  /**
+   * @return the percentile of the latency in nanoseconds, {@code 0} until there are enough samples
+   */
+  long value() {
+    return value;
+  }
+
+  synchronized void record(long latency) {
+    samples[next] = latency;
+    next = (next + 1) % SAMPLES;
+    if (count < SAMPLES) {
+      count++;
+    }
+    if (++updates >= UPDATE_INTERVAL && count >= MIN_SAMPLES) {
+      updates = 0;
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      int idx = (int) Math.ceil(percentile / 100D * count) - 1;
+      value = sorted[Math.max(0, Math.min(idx, count - 1))];
+    }
+  }
+}
@@ -17,6 +17,8 @@
 
 package io.vertx.sqlclient.internal.pool;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.*;
 import io.vertx.core.internal.CloseFuture;
@@ -31,9 +33,16 @@ import io.vertx.sqlclient.internal.Connection;
 import io.vertx.sqlclient.internal.SqlClientBase;
 import io.vertx.sqlclient.internal.SqlConnectionInternal;
 import io.vertx.sqlclient.internal.command.CommandBase;
+import io.vertx.sqlclient.spi.ConnectionFactory;
 import io.vertx.sqlclient.spi.Driver;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
@@ -44,25 +53,29 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 public class PoolImpl extends SqlClientBase implements Pool, Closeable {
 
   private final VertxInternal vertx;
-  private final SqlConnectionPool pool;
+  private final SqlConnectionPool[] shards;
+  private final Map<EventLoop, SqlConnectionPool> shardsByEventLoop;
   private final CloseFuture closeFuture;
   private final long idleTimeout;
   private final long connectionTimeout;
   private final long maxLifetime;
   private final long cleanerPeriod;
+  private final int minIdle;
+  private final boolean warmUp;
   private final boolean pipelined;
   private final Handler<SqlConnection> connectionInitializer;
   private long timerID;
 
   public static final String PROPAGATABLE_CONNECTION = "propagatable_connection";
 
-  public PoolImpl(VertxInternal vertx,
+  public <C extends SqlConnectOptions> PoolImpl(VertxInternal vertx,
                   Driver driver,
                   boolean pipelined,
                   PoolOptions poolOptions,
                   Function<Connection, Future<Void>> afterAcquire,
                   Function<Connection, Future<Void>> beforeRecycle,
-                  Function<Context, Future<SqlConnection>> connectionProvider,
+                  Supplier<Future<C>> databases,
+                  ConnectionFactory<C> factory,
                   Handler<SqlConnection> connectionInitializer,
                   CloseFuture closeFuture) {
     super(driver);
@@ -81,14 +94,79 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
     this.connectionTimeout = MILLISECONDS.convert(poolOptions.getConnectionTimeout(), poolOptions.getConnectionTimeoutUnit());
     this.maxLifetime = MILLISECONDS.convert(poolOptions.getMaxLifetime(), poolOptions.getMaxLifetimeUnit());
     this.cleanerPeriod = poolOptions.getPoolCleanerPeriod();
+    this.minIdle = poolOptions.getMinIdle();
+    this.warmUp = poolOptions.isWarmUp();
     this.timerID = -1L;
     this.pipelined = pipelined;
     this.vertx = vertx;
-    this.pool = new SqlConnectionPool(connectionProvider, poolMetrics, hook, afterAcquire, beforeRecycle, vertx, idleTimeout, maxLifetime, poolOptions.getMaxSize(), pipelined, poolOptions.getMaxWaitQueueSize(), poolOptions.getEventLoopSize());
+
+    // The metrics of a lane are shared by the shards
+    Map<String, PoolMetrics> laneMetrics = new HashMap<>();
+    Function<String, PoolMetrics> laneMetricsProvider = poolMetrics != null ? lane -> laneMetrics.computeIfAbsent(lane,
+      name -> metrics.createPoolMetrics("sql", poolOptions.getName() + "/" + name, poolOptions.getMaxSize())) : null;
+
+    List<EventLoop> eventLoops = new ArrayList<>();
+    if (poolOptions.isSharded()) {
+      List<EventLoop> all = new ArrayList<>();
+      for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+        all.add((EventLoop) executor);
+      }
+      int count = poolOptions.getEventLoopSize() > 0 ? Math.min(poolOptions.getEventLoopSize(), all.size()) : all.size();
+      count = Math.max(1, Math.min(count, poolOptions.getMaxSize()));
+      // Distinct event loops, starting at the next event loop of the group so that pools are spread over the group
+      int start = Math.max(0, all.indexOf(vertx.nettyEventLoopGroup().next()));
+      for (int i = 0; i < count; i++) {
+        eventLoops.add(all.get((start + i) % all.size()));
+      }
+    }
+    int shardCount = Math.max(1, eventLoops.size());
+    int maxWaitQueueSize = poolOptions.getMaxWaitQueueSize();
+    this.shards = new SqlConnectionPool[shardCount];
+    this.shardsByEventLoop = new IdentityHashMap<>();
+    for (int i = 0; i < shardCount; i++) {
+      PoolOptions shardOptions = new PoolOptions(poolOptions)
+        .setMaxSize(share(poolOptions.getMaxSize(), shardCount, i))
+        .setMaxWaitQueueSize(maxWaitQueueSize < 0 ? maxWaitQueueSize : share(maxWaitQueueSize, shardCount, i))
+        .setMinIdle(share(minIdle, shardCount, i))
+        .setEventLoopSize(eventLoops.isEmpty() ? poolOptions.getEventLoopSize() : 0);
+      SqlConnectionPool shard = new SqlConnectionPool(databases, factory, poolMetrics, laneMetricsProvider, hook, afterAcquire, beforeRecycle, vertx, pipelined, shardOptions);
+      if (!eventLoops.isEmpty()) {
+        EventLoop eventLoop = eventLoops.get(i);
+        shard.eventLoop(eventLoop);
+        shardsByEventLoop.put(eventLoop, shard);
+      }
+      shards[i] = shard;
+    }
     this.closeFuture = closeFuture;
     this.connectionInitializer = connectionInitializer;
   }
 
+  // The share of the shard at the index
+  private static int share(int value, int shardCount, int index) {
+    return value / shardCount + (index < value % shardCount ? 1 : 0);
+  }
+
+  /**
+   * Select the shard of a request: the shard of the event loop of the context unless it is busy, otherwise
+   * the least loaded shard.
+   */
+  private SqlConnectionPool shard(ContextInternal context) {
+    if (shards.length == 1) {
+      return shards[0];
+    }
+    SqlConnectionPool local = shardsByEventLoop.get(context.nettyEventLoop());
+    if (local != null && local.load() < local.maxSize()) {
+      return local;
+    }
+    SqlConnectionPool selected = local;
+    for (SqlConnectionPool shard : shards) {
+      if (selected == null || (long) shard.load() * selected.maxSize() < (long) selected.load() * shard.maxSize()) {
+        selected = shard;
+      }
+    }
+    return selected;
+  }
+
   private void initializeConnection(SqlConnectionPool.PooledConnection conn) {
     if (connectionInitializer != null) {
       ContextInternal current = vertx.getContext();
@@ -100,7 +178,12 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
 
   public Pool init() {
     closeFuture.add(this);
-    if ((idleTimeout > 0 || maxLifetime > 0) && cleanerPeriod > 0) {
+    if (warmUp) {
+      for (SqlConnectionPool shard : shards) {
+        shard.fill(vertx.getOrCreateContext());
+      }
+    }
+    if ((idleTimeout > 0 || maxLifetime > 0 || minIdle > 0) && cleanerPeriod > 0) {
       synchronized (this) {
         timerID = vertx.setTimer(cleanerPeriod, id -> {
           runEviction();
@@ -120,7 +203,9 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
         runEviction();
       });
     }
-    pool.evict();
+    for (SqlConnectionPool shard : shards) {
+      shard.evict();
+    }
   }
 
   @Override
@@ -138,8 +223,18 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
     if (pipelined) {
       return current.failedFuture("Cannot acquire a connection on a pipelined pool");
     }
+    long timeout = connectionTimeout;
+    long deadline = RequestContext.deadline(current);
+    if (deadline > 0L) {
+      // Do not wait for a connection beyond the deadline
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0L) {
+        return current.failedFuture(SqlConnectionPool.DEADLINE_EXCEEDED);
+      }
+      timeout = timeout > 0L ? Math.min(timeout, remaining) : remaining;
+    }
     Promise<SqlConnectionPool.PooledConnection> promise = current.promise();
-    acquire(current, connectionTimeout, promise);
+    acquire(current, timeout, RequestContext.lane(current), promise);
     return promise.future().map(conn -> {
       SqlConnectionInternal wrapper = driver.wrapConnection(current, conn.factory(), conn);
       conn.init((Connection.Holder) wrapper);
@@ -172,11 +267,11 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
 
   @Override
   public <R> Future<R> schedule(ContextInternal context, CommandBase<R> cmd) {
-    return pool.execute(context, cmd);
+    return shard(context).execute(context, cmd, RequestContext.deadline(context), RequestContext.lane(context));
   }
 
-  private void acquire(ContextInternal context, long timeout, Completable<SqlConnectionPool.PooledConnection> completionHandler) {
-    pool.acquire(context, timeout, completionHandler);
+  private void acquire(ContextInternal context, long timeout, String lane, Completable<SqlConnectionPool.PooledConnection> completionHandler) {
+    shard(context).acquire(context, timeout, lane, completionHandler);
   }
 
   @Override
@@ -198,10 +293,26 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
         timerID = -1;
       }
     }
-    return pool.close();
+    if (shards.length == 1) {
+      return shards[0].close();
+    }
+    List<Future<Void>> futures = new ArrayList<>(shards.length);
+    for (SqlConnectionPool shard : shards) {
+      futures.add(shard.close());
+    }
+    return Future.join(futures).mapEmpty();
+  }
+
+  @Override
+  public Pool withOptions(RequestOptions options) {
+    return new RequestOptionsPool(vertx, this, options);
   }
 
   public int size() {
-    return pool.size();
+    int size = 0;
+    for (SqlConnectionPool shard : shards) {
+      size += shard.size();
+    }
+    return size;
   }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.internal.pool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.spi.context.storage.ContextLocal;
+import io.vertx.sqlclient.RequestOptions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The local data of the context of the requests executed by a pool.
+ * <p>
+ * Context locals must be registered before a Vert.x instance is created, the service provider loaded by Vert.x
+ * when it creates an instance calls {@link #register()}.
+ */
+public final class RequestContext {
+
+  /**
+   * The deadline of the requests in milliseconds since the epoch.
+   */
+  public static final ContextLocal<Long> DEADLINE = ContextLocal.registerLocal(Long.class);
+
+  /**
+   * The lane of the requests.
+   */
+  public static final ContextLocal<String> LANE = ContextLocal.registerLocal(String.class);
+
+  /**
+   * Whether the requests are read-only.
+   */
+  public static final ContextLocal<Boolean> READ_ONLY = ContextLocal.registerLocal(Boolean.class);
+
+  /**
+   * The time of the last write of the requests in milliseconds since the epoch.
+   */
+  public static final ContextLocal<AtomicLong> LAST_WRITE = ContextLocal.registerLocal(AtomicLong.class);
+
+  /**
+   * The statement of the command acquiring a connection.
+   */
+  public static final ContextLocal<String> STATEMENT = ContextLocal.registerLocal(String.class);
+
+  /**
+   * Whether a pool request opens a new connection instead of acquiring an idle connection.
+   */
+  public static final ContextLocal<Boolean> OPEN_CONNECTION = ContextLocal.registerLocal(Boolean.class);
+
+  private RequestContext() {
+  }
+
+  /**
+   * Register the context locals, they are registered when the class is initialized.
+   */
+  public static void register() {
+  }
+
+  /**
+   * @return the deadline of the {@code context} in milliseconds since the epoch, or {@code 0} when there is no deadline
+   */
+  public static long deadline(Context context) {
+    Long deadline = context == null ? null : DEADLINE.get(context);
+    return deadline != null ? deadline : 0L;
+  }
+
+  /**
+   * @return the lane of the {@code context}, or {@code null} when there is no lane
+   */
+  public static String lane(Context context) {
+    return context == null ? null : LANE.get(context);
+  }
+
+  /**
+   * @return whether the {@code context} is read-only
+   */
+  public static boolean isReadOnly(Context context) {
+    return context != null && Boolean.TRUE.equals(READ_ONLY.get(context));
+  }
+
+  /**
+   * Run the {@code action} on a duplicate of the {@code current} context carrying the request {@code options}, the
+   * request data of the current context is inherited, the earliest deadline is used.
+   *
+   * @return the result of the action, completed on the current context
+   */
+  public static <T> Future<T> run(ContextInternal current, RequestOptions options, Supplier<Future<T>> action) {
+    ContextInternal duplicate = current.duplicate();
+    long deadline = deadline(current);
+    if (options.getTimeout() > 0L) {
+      long timeout = System.currentTimeMillis() + options.getTimeoutUnit().toMillis(options.getTimeout());
+      if (deadline == 0L || timeout < deadline) {
+        deadline = timeout;
+      }
+    }
+    if (deadline > 0L) {
+      DEADLINE.put(duplicate, deadline);
+    }
+    String lane = options.getLane() != null ? options.getLane() : lane(current);
+    if (lane != null) {
+      LANE.put(duplicate, lane);
+    }
+    if (options.isReadOnly() || isReadOnly(current)) {
+      READ_ONLY.put(duplicate, Boolean.TRUE);
+    }
+    // The requests read the writes executed before
+    AtomicLong lastWrite = LAST_WRITE.get(current);
+    if (lastWrite != null) {
+      LAST_WRITE.put(duplicate, lastWrite);
+    }
+    Promise<T> promise = current.promise();
+    duplicate.dispatch(v -> {
+      Future<T> future;
+      try {
+        future = action.get();
+      } catch (Throwable t) {
+        promise.fail(t);
+        return;
+      }
+      future.onComplete(promise);
+    });
+    return promise.future();
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.internal.pool;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.impl.PipelineImpl;
+import io.vertx.sqlclient.impl.SqlClientInternal;
+import io.vertx.sqlclient.spi.Driver;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A pool executing the requests of another pool with {@link RequestOptions}, the options are carried by the context
+ * of the requests, see {@link RequestContext}.
+ */
+public class RequestOptionsPool implements Pool, SqlClientInternal {
+
+  private final VertxInternal vertx;
+  private final Pool delegate;
+  private final RequestOptions options;
+
+  public RequestOptionsPool(VertxInternal vertx, Pool delegate, RequestOptions options) {
+    this.vertx = vertx;
+    this.delegate = delegate;
+    this.options = new RequestOptions(options);
+  }
+
+  /**
+   * Create a pool without a Vert.x instance, the requests must be executed on a Vert.x context.
+   */
+  public RequestOptionsPool(Pool delegate, RequestOptions options) {
+    this(null, delegate, options);
+  }
+
+  private ContextInternal context() {
+    if (vertx != null) {
+      return vertx.getOrCreateContext();
+    }
+    ContextInternal current = (ContextInternal) Vertx.currentContext();
+    if (current == null) {
+      throw new IllegalStateException("Requests with options must be executed on a Vert.x context");
+    }
+    return current;
+  }
+
+  private <T> Future<T> run(Supplier<Future<T>> action) {
+    return RequestContext.run(context(), options, action);
+  }
+
+  private <T> Future<T> execute(Function<SqlClient, Future<T>> action) {
+    return run(() -> action.apply(delegate));
+  }
+
+  @Override
+  public Driver driver() {
+    return ((SqlClientInternal) delegate).driver();
+  }
+
+  @Override
+  public void group(Handler<SqlClient> block) {
+    ContextInternal current = context();
+    RequestContext.run(current, options, () -> {
+      ((SqlClientInternal) delegate).group(block);
+      return current.succeededFuture();
+    });
+  }
+
+  @Override
+  public Pipeline pipeline() {
+    return new PipelineImpl(this);
+  }
+
+  @Override
+  public Future<List<RowSet<Row>>> executePipeline(List<String> sqls, List<Tuple> arguments) {
+    return run(() -> ((SqlClientInternal) delegate).executePipeline(sqls, arguments));
+  }
+
+  @Override
+  public Future<SqlConnection> getConnection() {
+    return run(delegate::getConnection);
+  }
+
+  @Override
+  public Query<RowSet<Row>> query(String sql) {
+    return new DelegatingQuery<>(this::execute, client -> client.query(sql));
+  }
+
+  @Override
+  public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+    return new DelegatingQuery<>(this::execute, client -> client.preparedQuery(sql));
+  }
+
+  @Override
+  public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
+    return new DelegatingQuery<>(this::execute, client -> client.preparedQuery(sql, options));
+  }
+
+  @Override
+  public <T> Future<@Nullable T> withTransaction(Function<SqlConnection, Future<@Nullable T>> function) {
+    return run(() -> delegate.withTransaction(function));
+  }
+
+  @Override
+  public <T> Future<@Nullable T> withTransaction(TransactionPropagation txPropagation, Function<SqlConnection, Future<@Nullable T>> function) {
+    return run(() -> delegate.withTransaction(txPropagation, function));
+  }
+
+  @Override
+  public <T> Future<@Nullable T> withConnection(Function<SqlConnection, Future<@Nullable T>> function) {
+    return run(() -> delegate.withConnection(function));
+  }
+
+  @Override
+  public Pool withOptions(RequestOptions options) {
+    return new RequestOptionsPool(vertx, delegate, options);
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public Future<Void> close() {
+    return delegate.close();
+  }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.internal.pool;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.sqlclient.*;
+import io.vertx.sqlclient.impl.PipelineImpl;
+import io.vertx.sqlclient.impl.SqlClientInternal;
+import io.vertx.sqlclient.internal.SqlConnectionInternal;
+import io.vertx.sqlclient.spi.Driver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A pool routing the requests to a primary pool or to replica pools.
+ * <p>
+ * The {@link RequestOptions#setReadOnly(boolean) read-only} queries which only read, and the connections and the transactions acquired in
+ * read-only mode use a replica pool, the other requests use the primary pool. When the read your writes window is configured,
+ * the read-only requests of a context which executed a write during the window use the primary pool.
+ * <p>
+ * When hedging is configured, a read-only query which has not completed after a percentile of the latency of the
+ * recent read-only queries is executed again on another replica, the first result is used and the other execution is
+ * cancelled.
+ */
+public class RoutingPool implements Pool, SqlClientInternal {
+
+  private static final VertxException HEDGE_CANCELLED = VertxException.noStackTrace("Hedged query cancelled");
+
+  private final Vertx vertx;
+  private final boolean ownsVertx;
+  private final Pool primary;
+  private final List<Pool> replicas;
+  private final long readYourWritesWindow;
+  private final LatencyPercentile hedgingLatency;
+  private final AtomicInteger index = new AtomicInteger();
+  private final LongAdder hedgedQueries = new LongAdder();
+
+  public RoutingPool(Vertx vertx, boolean ownsVertx, Pool primary, List<Pool> replicas, PoolOptions options) {
+    if (replicas.isEmpty()) {
+      throw new IllegalArgumentException("Replicas cannot be empty");
+    }
+    this.vertx = vertx;
+    this.ownsVertx = ownsVertx;
+    this.primary = primary;
+    this.replicas = new ArrayList<>(replicas);
+    this.readYourWritesWindow = options.getReadYourWritesWindow();
+    // Hedging needs another replica
+    this.hedgingLatency = options.getHedgingPercentile() > 0D && replicas.size() > 1 ? new LatencyPercentile(options.getHedgingPercentile()) : null;
+  }
+
+  /**
+   * @return the primary pool
+   */
+  public Pool primary() {
+    return primary;
+  }
+
+  /**
+   * @return the replica pools
+   */
+  public List<Pool> replicas() {
+    return replicas;
+  }
+
+  /**
+   * @return the number of read-only queries executed on a second replica
+   */
+  public long hedgedQueries() {
+    return hedgedQueries.sum();
+  }
+
+  @Override
+  public Driver driver() {
+    return ((SqlClientInternal) primary).driver();
+  }
+
+  @Override
+  public void group(Handler<SqlClient> block) {
+    ((SqlClientInternal) route(null)).group(block);
+  }
+
+  @Override
+  public Pipeline pipeline() {
+    return new PipelineImpl(this);
+  }
+
+  @Override
+  public Future<List<RowSet<Row>>> executePipeline(List<String> sqls, List<Tuple> arguments) {
+    // The pipeline uses a replica when all its queries only read
+    String sql = sqls.get(0);
+    for (String s : sqls) {
+      if (!isRead(s)) {
+        sql = s;
+        break;
+      }
+    }
+    return ((SqlClientInternal) route(sql)).executePipeline(sqls, arguments);
+  }
+
+  @Override
+  public Future<SqlConnection> getConnection() {
+    return route(null).getConnection();
+  }
+
+  @Override
+  public Query<RowSet<Row>> query(String sql) {
+    if (hedgingLatency != null && isReplicaRead(sql)) {
+      return new DelegatingQuery<>(this::hedge, client -> client.query(sql));
+    }
+    return route(sql).query(sql);
+  }
+
+  @Override
+  public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+    if (hedgingLatency != null && isReplicaRead(sql)) {
+      return new DelegatingQuery<>(this::hedge, client -> client.preparedQuery(sql));
+    }
+    return route(sql).preparedQuery(sql);
+  }
+
+  @Override
+  public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
+    if (hedgingLatency != null && isReplicaRead(sql)) {
+      return new DelegatingQuery<>(this::hedge, client -> client.preparedQuery(sql, options));
+    }
+    return route(sql).preparedQuery(sql, options);
+  }
+
+  @Override
+  public <T> Future<@Nullable T> withTransaction(Function<SqlConnection, Future<@Nullable T>> function) {
+    return route(null).withTransaction(function);
+  }
+
+  @Override
+  public <T> Future<@Nullable T> withTransaction(TransactionPropagation txPropagation,
+                                                 Function<SqlConnection, Future<@Nullable T>> function) {
+    return route(null).withTransaction(txPropagation, function);
+  }
+
+  @Override
+  public Pool withOptions(RequestOptions options) {
+    return new RequestOptionsPool((VertxInternal) vertx, this, options);
+  }
+
+  @Override
+  public int size() {
+    int size = primary.size();
+    for (Pool replica : replicas) {
+      size += replica.size();
+    }
+    return size;
+  }
+
+  @Override
+  public Future<Void> close() {
+    List<Future<Void>> futures = new ArrayList<>(replicas.size() + 1);
+    futures.add(primary.close());
+    for (Pool replica : replicas) {
+      futures.add(replica.close());
+    }
+    Future<Void> future = Future.join(futures).mapEmpty();
+    if (ownsVertx) {
+      future = future.eventually(() -> vertx.close());
+    }
+    return future;
+  }
+
+  /**
+   * Select the pool of a request.
+   *
+   * @param sql the SQL of a query or {@code null} for a connection or a transaction
+   * @return the pool
+   */
+  private Pool route(String sql) {
+    if (isReplicaRead(sql)) {
+      return replicas.get(Math.floorMod(index.getAndIncrement(), replicas.size()));
+    }
+    if (sql == null || !isRead(sql)) {
+      written((ContextInternal) Vertx.currentContext());
+    }
+    return primary;
+  }
+
+  private boolean isReplicaRead(String sql) {
+    ContextInternal context = (ContextInternal) Vertx.currentContext();
+    return (sql == null || isRead(sql)) && RequestContext.isReadOnly(context) && !hasWrittenRecently(context);
+  }
+
+  /**
+   * Execute a read-only query on a replica, and on the next replica when it has not completed after the hedging delay.
+   */
+  <T> Future<T> hedge(Function<SqlClient, Future<T>> action) {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    int idx = index.getAndIncrement();
+    Hedge<T> hedge = new Hedge<>(context, action);
+    hedge.attempt(replicas.get(Math.floorMod(idx, replicas.size())));
+    long delay = hedgingLatency.value();
+    if (delay > 0L) {
+      hedge.schedule(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(delay)), replicas.get(Math.floorMod(idx + 1, replicas.size())));
+    }
+    return hedge.promise.future();
+  }
+
+  private class Hedge<T> {
+
+    private final ContextInternal context;
+    private final Function<SqlClient, Future<T>> action;
+    private final Promise<T> promise;
+    // The connections executing the query, mapped to their cancellation
+    private final Map<SqlConnectionInternal, Future<Void>> executing = new HashMap<>(4);
+    private long timerID = -1L;
+    private int pending;
+    private Throwable failure;
+    private boolean done;
+
+    Hedge(ContextInternal context, Function<SqlClient, Future<T>> action) {
+      this.context = context;
+      this.action = action;
+      this.promise = context.promise();
+    }
+
+    synchronized void schedule(long delay, Pool pool) {
+      if (!done) {
+        timerID = context.setTimer(delay, id -> {
+          synchronized (Hedge.this) {
+            if (done) {
+              return;
+            }
+            timerID = -1L;
+          }
+          hedgedQueries.increment();
+          attempt(pool);
+        });
+      }
+    }
+
+    void attempt(Pool pool) {
+      synchronized (this) {
+        pending++;
+      }
+      long start = System.nanoTime();
+      pool.getConnection().compose(conn -> {
+        SqlConnectionInternal c = (SqlConnectionInternal) conn;
+        boolean cancelled;
+        synchronized (this) {
+          cancelled = done;
+          if (!cancelled) {
+            executing.put(c, null);
+          }
+        }
+        if (cancelled) {
+          conn.close();
+          return context.failedFuture(HEDGE_CANCELLED);
+        }
+        return action.apply(conn).eventually(() -> release(c));
+      }).onComplete(ar -> completed(ar, start));
+    }
+
+    private Future<Void> release(SqlConnectionInternal conn) {
+      Future<Void> cancellation;
+      synchronized (this) {
+        cancellation = executing.remove(conn);
+      }
+      if (cancellation != null) {
+        // Do not reuse the connection before the server has received the cancellation
+        return cancellation.transform(ar -> conn.close());
+      }
+      return conn.close();
+    }
+
+    private void completed(AsyncResult<T> ar, long start) {
+      synchronized (this) {
+        pending--;
+        if (done) {
+          return;
+        }
+        if (ar.failed()) {
+          if (failure == null) {
+            failure = ar.cause();
+          }
+          if (pending > 0) {
+            // Wait for the other execution
+            return;
+          }
+        }
+        done = true;
+        if (timerID != -1L) {
+          context.owner().cancelTimer(timerID);
+          timerID = -1L;
+        }
+        if (ar.succeeded()) {
+          executing.replaceAll((conn, cancellation) -> conn.cancelRequest());
+        }
+      }
+      if (ar.succeeded()) {
+        hedgingLatency.record(System.nanoTime() - start);
+        promise.complete(ar.result());
+      } else {
+        promise.fail(failure);
+      }
+    }
+  }
+
+  private boolean hasWrittenRecently(ContextInternal context) {
+    if (readYourWritesWindow == 0L) {
+      return false;
+    }
+    AtomicLong lastWrite = RequestContext.LAST_WRITE.get(context);
+    return lastWrite != null && System.currentTimeMillis() - lastWrite.get() < readYourWritesWindow;
+  }
+
+  private void written(ContextInternal context) {
+    // Only track the requests, e.g. the duplicated context of an HTTP request, not the event loop
+    if (readYourWritesWindow == 0L || context == null || !context.isDuplicate()) {
+      return;
+    }
+    AtomicLong lastWrite = RequestContext.LAST_WRITE.get(context);
+    if (lastWrite != null) {
+      lastWrite.set(System.currentTimeMillis());
+    } else {
+      RequestContext.LAST_WRITE.put(context, new AtomicLong(System.currentTimeMillis()));
+    }
+  }
+
+  /**
+   * @return whether the statement of the {@code sql} only reads: a {@code SELECT}, {@code VALUES} or {@code TABLE}
+   * statement, or a {@code WITH} statement without {@code INSERT}, {@code UPDATE}, {@code DELETE} or {@code MERGE}
+   */
+  public static boolean isRead(String sql) {
+    int i = skipBlanks(sql, 0);
+    if (isKeyword(sql, i, "SELECT") || isKeyword(sql, i, "VALUES") || isKeyword(sql, i, "TABLE")) {
+      return true;
+    }
+    return isKeyword(sql, i, "WITH") && !hasWrite(sql, i + 4);
+  }
+
+  // Skip the whitespaces, the parentheses and the comments
+  private static int skipBlanks(String sql, int i) {
+    int len = sql.length();
+    while (i < len) {
+      char c = sql.charAt(i);
+      if (Character.isWhitespace(c) || c == '(') {
+        i++;
+      } else if (sql.startsWith("--", i)) {
+        int end = sql.indexOf('\n', i);
+        i = end < 0 ? len : end + 1;
+      } else if (sql.startsWith("/*", i)) {
+        int end = sql.indexOf("*/", i + 2);
+        i = end < 0 ? len : end + 2;
+      } else {
+        break;
+      }
+    }
+    return i;
+  }
+
+  private static boolean isKeyword(String sql, int i, String keyword) {
+    int end = i + keyword.length();
+    return sql.regionMatches(true, i, keyword, 0, keyword.length())
+      && (end == sql.length() || !Character.isJavaIdentifierPart(sql.charAt(end)));
+  }
+
+  // Whether a word of the statement, outside the literals, quoted identifiers and comments, is a write keyword
+  private static boolean hasWrite(String sql, int i) {
+    int len = sql.length();
+    while (i < len) {
+      char c = sql.charAt(i);
+      if (c == '\'' || c == '"' || c == '`') {
+        int end = sql.indexOf(c, i + 1);
+        i = end < 0 ? len : end + 1;
+      } else if (sql.startsWith("--", i) || sql.startsWith("/*", i)) {
+        i = skipBlanks(sql, i);
+      } else if (Character.isJavaIdentifierStart(c)) {
+        if (isKeyword(sql, i, "INSERT") || isKeyword(sql, i, "UPDATE") || isKeyword(sql, i, "DELETE") || isKeyword(sql, i, "MERGE")) {
+          return true;
+        }
+        while (i < len && Character.isJavaIdentifierPart(sql.charAt(i))) {
+          i++;
+        }
+      } else {
+        i++;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.spi;
+
+import io.vertx.sqlclient.SqlConnectOptions;
+
+/**
+ * One of the databases a client connects to, with the statistics of the connections of the client to this database.
+ */
+public interface DatabaseEndpoint {
+
+  /**
+   * @return the options to connect to the database
+   */
+  SqlConnectOptions options();
+
+  /**
+   * @return the number of open connections to the database
+   */
+  int connections();
+
+  /**
+   * @return the number of leases in progress on the connections to the database, a lease is a query executed with the
+   * pool or a connection acquired from the pool
+   */
+  int outstandingRequests();
+
+  /**
+   * @return the exponentially weighted moving average of the latency of the queries in nanoseconds, {@code 0} until
+   * a query completes
+   */
+  long latency();
+
+  /**
+   * @return the number of consecutive failed connection attempts
+   */
+  int failures();
+
+  /**
+   * @return whether the database is ejected after failed connection attempts, the load balancer only selects ejected
+   * databases when all the databases are ejected
+   */
+  boolean isEjected();
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.spi;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the database of a new connection when a client connects to several databases.
+ * <p>
+ * A pool also selects the database of the connection leased for a request among the databases of its available
+ * connections, so the requests follow the load and the latency of the databases and not only the connections.
+ */
+@FunctionalInterface
+public interface LoadBalancer {
+
+  /**
+   * @return a load balancer selecting the databases in turn
+   */
+  static LoadBalancer roundRobin() {
+    AtomicInteger idx = new AtomicInteger();
+    return endpoints -> endpoints.get(Math.floorMod(idx.getAndIncrement(), endpoints.size()));
+  }
+
+  /**
+   * @return a load balancer selecting the database with the fewest leases in progress, then with the fewest connections
+   */
+  static LoadBalancer leastOutstandingRequests() {
+    return endpoints -> {
+      DatabaseEndpoint selected = null;
+      for (DatabaseEndpoint endpoint : endpoints) {
+        if (selected == null
+          || endpoint.outstandingRequests() < selected.outstandingRequests()
+          || (endpoint.outstandingRequests() == selected.outstandingRequests() && endpoint.connections() < selected.connections())) {
+          selected = endpoint;
+        }
+      }
+      return selected;
+    };
+  }
+
+  /**
+   * @return a load balancer selecting the database with the lowest latency weighted by its leases in progress, a
+   * database without latency is selected first
+   */
+  static LoadBalancer ewmaLatency() {
+    return endpoints -> {
+      DatabaseEndpoint selected = null;
+      double selectedCost = 0D;
+      for (DatabaseEndpoint endpoint : endpoints) {
+        double cost = (double) endpoint.latency() * (endpoint.outstandingRequests() + 1);
+        if (selected == null || cost < selectedCost) {
+          selected = endpoint;
+          selectedCost = cost;
+        }
+      }
+      return selected;
+    };
+  }
+
+  /**
+   * Select the database of a new connection, or of a pooled connection.
+   *
+   * @param endpoints the databases which are not ejected, or the databases of the available pooled connections, never empty
+   * @return the selected database, one of the {@code endpoints}
+   */
+  DatabaseEndpoint select(List<DatabaseEndpoint> endpoints);
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.spi.metrics;
+
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.sqlclient.spi.DatabaseEndpoint;
+
+/**
+ * The metrics of a SQL pool.
+ * <p>
+ * The {@link PoolMetrics} created by {@link io.vertx.core.spi.metrics.VertxMetrics#createPoolMetrics} for a pool of
+ * type {@code sql} can implement this interface to receive the events specific to SQL pools.
+ */
+public interface SqlPoolMetrics<Q, T> extends PoolMetrics<Q, T> {
+
+  /**
+   * Called when a prepared query acquires a connection of a pool with
+   * {@link io.vertx.sqlclient.PoolOptions#setStatementAffinity(boolean) statement affinity}.
+   *
+   * @param hit whether the connection caches the statement of the query
+   */
+  default void statementAffinity(boolean hit) {
+  }
+
+  /**
+   * Called when the statistics of a database change, for a pool connecting to
+   * {@link io.vertx.sqlclient.ClientBuilder#connectingTo(java.util.List, io.vertx.sqlclient.spi.LoadBalancer) several databases}:
+   * a connection to the database is opened, fails to open or is closed, a connection is leased or released, or a
+   * query completes.
+   *
+   * @param database the database and its statistics
+   */
+  default void database(DatabaseEndpoint database) {
+  }
+}
@@ -18,6 +18,8 @@ module io.vertx.sql.client {
 
   uses io.vertx.sqlclient.spi.Driver;
 
+  provides io.vertx.core.spi.VertxServiceProvider with io.vertx.sqlclient.impl.spi.RequestContextProvider;
+
   // Expose enough for implementing a client back-end on top of this API (e.g. vertx-jdbc-client)
 
   exports io.vertx.sqlclient.internal;
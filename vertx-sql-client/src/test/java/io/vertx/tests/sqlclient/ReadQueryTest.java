@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.sqlclient;
+
+import org.junit.Test;
+
+import static io.vertx.sqlclient.internal.pool.RoutingPool.isRead;
+import static org.junit.Assert.*;
+
+public class ReadQueryTest {
+
+  @Test
+  public void testRead() {
+    assertTrue(isRead("SELECT 1"));
+    assertTrue(isRead("  (select * from t) UNION (select * from u)"));
+    assertTrue(isRead("VALUES (1), (2)"));
+    assertTrue(isRead("TABLE t"));
+    assertTrue(isRead("-- comment\nSELECT 1"));
+    assertTrue(isRead("/* comment */ WITH t AS (SELECT 1) SELECT * FROM t"));
+    assertTrue(isRead("WITH t AS (SELECT 'DELETE' AS \"update\") SELECT * FROM t -- insert"));
+    assertTrue(isRead("WITH updates AS (SELECT * FROM deleted) SELECT * FROM updates"));
+  }
+
+  @Test
+  public void testWrite() {
+    assertFalse(isRead("INSERT INTO t VALUES (1)"));
+    assertFalse(isRead("UPDATE t SET v = 1"));
+    assertFalse(isRead("SELECTED"));
+    assertFalse(isRead("TABLES"));
+    assertFalse(isRead("WITH t AS (DELETE FROM u RETURNING *) SELECT * FROM t"));
+    assertFalse(isRead("WITH t AS (SELECT 1) INSERT INTO u SELECT * FROM t"));
+    assertFalse(isRead(""));
+  }
+}
@@ -39,9 +39,9 @@ import java.util.function.Function;
 @RunWith(VertxUnitRunner.class)
 public abstract class MetricsTestBase {
 
-  Vertx vertx;
+  protected Vertx vertx;
   ClientMetrics clientMetrics;
-  PoolMetrics poolMetrics;
+  protected PoolMetrics poolMetrics;
   Pool pool;
   String clientType;
   String clientNamespace;